@@ -0,0 +1,128 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.IncommensurableException;
+import javax.measure.UnconvertibleException;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import systems.uom.common.Imperial;
+import systems.uom.common.USCustomary;
+import systems.uom.function.CompiledConverter;
+import systems.uom.ucum.UCUM;
+import systems.uom.unicode.CLDR;
+
+/**
+ * Conversions of a column of values, one value at a time through {@link UnitConverter} and in bulk through
+ * {@link CompiledConverter}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkConversionBenchmark {
+
+    private static final Unit<?>[][] PAIRS = { { CLDR.KILOMETER, UCUM.METER }, { USCustomary.FAHRENHEIT, UCUM.CELSIUS },
+            { Imperial.GALLON_UK, CLDR.LITER } };
+
+    @Param({ "0", "1", "2" })
+    int pair;
+
+    @Param({ "65536" })
+    int size;
+
+    private UnitConverter converter;
+    private CompiledConverter compiled;
+    private double[] doubles;
+    private double[] doubleResults;
+    private float[] floats;
+    private float[] floatResults;
+
+    @Setup
+    public void setUp() throws IncommensurableException, UnconvertibleException {
+        converter = PAIRS[pair][0].getConverterToAny(PAIRS[pair][1]);
+        compiled = CompiledConverter.ofAny(PAIRS[pair][0], PAIRS[pair][1]);
+        final Random random = new Random(42);
+        doubles = new double[size];
+        floats = new float[size];
+        for (int i = 0; i < size; i++) {
+            doubles[i] = random.nextDouble() * 200 - 50;
+            floats[i] = (float) doubles[i];
+        }
+        doubleResults = new double[size];
+        floatResults = new float[size];
+    }
+
+    @Benchmark
+    public double[] converter() {
+        for (int i = 0; i < size; i++) {
+            doubleResults[i] = converter.convert(doubles[i]);
+        }
+        return doubleResults;
+    }
+
+    @Benchmark
+    public double[] compiledPerValue() {
+        for (int i = 0; i < size; i++) {
+            doubleResults[i] = compiled.applyAsDouble(doubles[i]);
+        }
+        return doubleResults;
+    }
+
+    @Benchmark
+    public double[] compiledBulk() {
+        compiled.convert(doubles, 0, doubleResults, 0, size);
+        return doubleResults;
+    }
+
+    @Benchmark
+    public float[] compiledBulkFloat() {
+        compiled.convert(floats, 0, floatResults, 0, size);
+        return floatResults;
+    }
+}
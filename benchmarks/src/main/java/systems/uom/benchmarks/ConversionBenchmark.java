@@ -0,0 +1,131 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.IncommensurableException;
+import javax.measure.UnconvertibleException;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import systems.uom.common.Imperial;
+import systems.uom.common.USCustomary;
+import systems.uom.function.CompiledConverter;
+import systems.uom.function.ConverterCache;
+import systems.uom.function.DimensionSignature;
+import systems.uom.ucum.UCUM;
+import systems.uom.unicode.CLDR;
+
+/**
+ * Conversions between units of the {@link USCustomary}, {@link Imperial}, {@link CLDR} and {@link UCUM} systems.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConversionBenchmark {
+
+    private static final Unit<?>[][] PAIRS = { { USCustomary.FOOT, UCUM.METER }, { USCustomary.MILE, CLDR.KILOMETER },
+            { USCustomary.GALLON_LIQUID, Imperial.GALLON_UK }, { Imperial.POUND, UCUM.GRAM }, { Imperial.PINT, CLDR.PINT_IMPERIAL },
+            { CLDR.FAHRENHEIT, UCUM.KELVIN }, { CLDR.MILE_PER_HOUR, USCustomary.KNOT }, { UCUM.FOOT_INTERNATIONAL, USCustomary.FOOT_SURVEY },
+            { UCUM.POUND_PER_SQUARE_INCH, CLDR.MILLIMETER_OF_MERCURY }, { UCUM.FLUID_OUNCE_US, Imperial.FLUID_OUNCE } };
+
+    @Param({ "0", "1", "2", "3", "4", "5", "6", "7", "8", "9" })
+    int pair;
+
+    private Unit<?> source;
+    private Unit<?> target;
+    private UnitConverter converter;
+    private CompiledConverter compiled;
+    private double value;
+
+    @Setup
+    public void setUp() throws IncommensurableException, UnconvertibleException {
+        source = PAIRS[pair][0];
+        target = PAIRS[pair][1];
+        converter = source.getConverterToAny(target);
+        compiled = CompiledConverter.ofAny(source, target);
+        value = 42.5;
+    }
+
+    /** Looks up the converter for every conversion, as <code>Quantity.to(Unit)</code> does. */
+    @Benchmark
+    public UnitConverter getConverter() throws IncommensurableException, UnconvertibleException {
+        return source.getConverterToAny(target);
+    }
+
+    /** Looks up the converter in the shared cache of converters between pairs of units. */
+    @Benchmark
+    public CompiledConverter getCachedConverter() throws IncommensurableException, UnconvertibleException {
+        return ConverterCache.getDefault().getConverterToAny(source, target);
+    }
+
+    /** Compares the dimensions of the units, as checking for commensurable units does. */
+    @Benchmark
+    public boolean isCompatible() {
+        return source.isCompatible(target);
+    }
+
+    /** Compares the cached dimension signatures of the units. */
+    @Benchmark
+    public boolean isCommensurable() {
+        return DimensionSignature.isCommensurable(source, target);
+    }
+
+    @Benchmark
+    public double convertDouble() {
+        return converter.convert(value);
+    }
+
+    @Benchmark
+    public Number convertNumber() {
+        return converter.convert(Double.valueOf(value));
+    }
+
+    @Benchmark
+    public double convertCompiled() {
+        return compiled.applyAsDouble(value);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.measure.Unit;
+
+import systems.uom.ucum.format.UCUMFormat;
+
+/**
+ * Benchmark inputs, taken from the expressions of the <code>UCUMFormatTable*Test</code> tests of the UCUM module.
+ */
+final class Corpus {
+
+    /** Expressions of the UCUM tables 2, 4, 5, 7, 18 and 46 tests, in both letter cases. */
+    static final String[] EXPRESSIONS = { "1/K", "103/L", "AHz", "BIT", "BY", "Bd", "By", "CHz", "DAHz", "DHz", "EHz", "EXHz", "FHz", "GAHz",
+            "GHz", "HHz", "KHz", "KM/S", "L", "M", "MAHz", "MHz", "MIN", "MM/S", "M[H2O]", "M[HG]", "NHz", "PHz", "PTHz", "QHz", "QOHz", "RHz",
+            "ROHz", "THz", "TRHz", "UHz", "UL", "YHz", "YOHz", "ZHz", "ZOHz", "[DRP]", "[IN_I'H2O]", "[IN_I'HG]", "[PRU]", "[WOOD'U]", "[drp]",
+            "[in_i'H2O]", "[in_i'Hg]", "[wood'U]", "aHz", "bit", "cHz", "dHz", "daHz", "dl", "fHz", "g", "hHz", "kHz", "km/s", "l", "mHz",
+            "m[H2O]", "m[Hg]", "min", "mm/s", "nHz", "pHz", "uHz", "uL", "ul", "yHz", "zHz" };
+
+    private Corpus() {
+    }
+
+    /**
+     * @return the expressions of {@link #EXPRESSIONS} the given format can parse
+     */
+    static String[] expressions(UCUMFormat format) {
+        final List<String> valid = new ArrayList<>();
+        for (String expression : EXPRESSIONS) {
+            if (format.isValid(expression)) {
+                valid.add(expression);
+            }
+        }
+        return valid.toArray(new String[0]);
+    }
+
+    /**
+     * @return the units of all expressions the case sensitive format can parse
+     */
+    static Unit<?>[] units() {
+        final UCUMFormat format = UCUMFormat.getInstance(UCUMFormat.Variant.CASE_SENSITIVE);
+        final String[] expressions = expressions(format);
+        final Unit<?>[] units = new Unit<?>[expressions.length];
+        for (int i = 0; i < units.length; i++) {
+            units[i] = format.parse(expressions[i]);
+        }
+        return units;
+    }
+}
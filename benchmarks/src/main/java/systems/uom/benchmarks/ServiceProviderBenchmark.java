@@ -0,0 +1,90 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.spi.ServiceProvider;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import systems.uom.ucum.spi.UCUMServiceProvider;
+import systems.uom.unicode.spi.UnicodeServiceProvider;
+
+/**
+ * Service lookups through {@link UCUMServiceProvider} and {@link UnicodeServiceProvider}, directly and through {@link ServiceProvider}.
+ * {@link #currentFormat()} is the per call cost of resolving a unit format the way application code usually does.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServiceProviderBenchmark {
+
+    private static final ServiceProvider UCUM_PROVIDER = new UCUMServiceProvider();
+    private static final ServiceProvider UNICODE_PROVIDER = new UnicodeServiceProvider();
+
+    @Benchmark
+    public Object ucumFormatService() {
+        return UCUM_PROVIDER.getFormatService().getUnitFormat("UCUM");
+    }
+
+    @Benchmark
+    public Object ucumSystemOfUnitsService() {
+        return UCUM_PROVIDER.getSystemOfUnitsService().getSystemOfUnits();
+    }
+
+    @Benchmark
+    public Object unicodeSystemOfUnitsService() {
+        return UNICODE_PROVIDER.getSystemOfUnitsService().getSystemOfUnits();
+    }
+
+    @Benchmark
+    public Object currentFormat() {
+        return ServiceProvider.current().getFormatService().getUnitFormat("UCUM");
+    }
+
+    @Benchmark
+    public Object ucumByName() {
+        return ServiceProvider.of("UCUM").getFormatService().getUnitFormat("UCUM");
+    }
+
+    @Benchmark
+    public Object unicodeByName() {
+        return ServiceProvider.of("Unicode").getSystemOfUnitsService().getSystemOfUnits();
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.benchmarks;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.Unit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import systems.uom.ucum.format.UCUMFormat;
+import systems.uom.ucum.format.UCUMFormat.Variant;
+
+/**
+ * Parsing and formatting with {@link UCUMFormat}, one operation covers the whole corpus or a column of codes repeating it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UCUMFormatBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class ParseState {
+        @Param({ "CASE_SENSITIVE", "CASE_INSENSITIVE" })
+        Variant variant;
+
+        /** <code>0</code> measures the parser itself, the default size mostly measures hits of the parse cache. */
+        @Param({ "0", "1024" })
+        int cacheSize;
+
+        UCUMFormat format;
+        String[] expressions;
+
+        @Setup
+        public void setUp() {
+            format = UCUMFormat.getInstance(variant, cacheSize);
+            expressions = Corpus.expressions(format);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ColumnState {
+        @Param({ "100000" })
+        int rows;
+
+        UCUMFormat format;
+        List<CharSequence> column;
+
+        @Setup
+        public void setUp() {
+            format = UCUMFormat.getInstance(Variant.CASE_SENSITIVE);
+            final String[] expressions = Corpus.expressions(format);
+            final CharSequence[] codes = new CharSequence[rows];
+            for (int i = 0; i < rows; i++) {
+                // a fresh builder per row, like codes read from a file
+                codes[i] = new StringBuilder(expressions[i % expressions.length]);
+            }
+            column = Arrays.asList(codes);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class FormatState {
+        @Param({ "CASE_SENSITIVE", "CASE_INSENSITIVE", "PRINT" })
+        Variant variant;
+
+        UCUMFormat format;
+        Unit<?>[] units;
+
+        @Setup
+        public void setUp() {
+            format = UCUMFormat.getInstance(variant);
+            units = Corpus.units();
+        }
+    }
+
+    @Benchmark
+    public void parse(ParseState state, Blackhole blackhole) {
+        for (String expression : state.expressions) {
+            blackhole.consume(state.format.parse(expression));
+        }
+    }
+
+    @Benchmark
+    public void canonicalize(ParseState state, Blackhole blackhole) {
+        for (String expression : state.expressions) {
+            blackhole.consume(state.format.canonicalize(expression));
+        }
+    }
+
+    @Benchmark
+    public void parseExpression(ParseState state, Blackhole blackhole) {
+        for (String expression : state.expressions) {
+            blackhole.consume(state.format.parseExpression(expression));
+        }
+    }
+
+    @Benchmark
+    public void isValid(ParseState state, Blackhole blackhole) {
+        for (String expression : state.expressions) {
+            blackhole.consume(state.format.isValid(expression));
+        }
+    }
+
+    @Benchmark
+    public void tryParseColumn(ColumnState state, Blackhole blackhole) {
+        for (CharSequence code : state.column) {
+            blackhole.consume(state.format.tryParse(code));
+        }
+    }
+
+    @Benchmark
+    public void parseAllColumn(ColumnState state, Blackhole blackhole) {
+        blackhole.consume(state.format.parseAll(state.column));
+    }
+
+    @Benchmark
+    public void format(FormatState state, Blackhole blackhole) {
+        for (Unit<?> unit : state.units) {
+            blackhole.consume(state.format.format(unit));
+        }
+    }
+}
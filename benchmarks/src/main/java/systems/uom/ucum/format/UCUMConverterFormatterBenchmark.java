@@ -0,0 +1,101 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.ucum.format;
+
+import static systems.uom.ucum.format.UCUMFormat.Variant.CASE_SENSITIVE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import systems.uom.common.USCustomary;
+import tech.units.indriya.format.SymbolMap;
+
+/**
+ * {@link UCUMConverterFormatter#formatConverter(UnitConverter, boolean, CharSequence, StringBuilder, SymbolMap)} on the converters of the UCUM format
+ * corpus to their system units. Lives in the package of the formatter, which is not public.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UCUMConverterFormatterBenchmark {
+
+    private static final String[] EXPRESSIONS = { "1/K", "103/L", "Bd", "By", "[drp]", "[in_i'H2O]", "[in_i'Hg]", "[wood'U]", "aHz", "bit",
+            "cHz", "daHz", "dl", "fHz", "g", "hHz", "kHz", "km/s", "l", "mHz", "m[H2O]", "m[Hg]", "min", "mm/s", "nHz", "pHz", "uHz", "uL",
+            "yHz", "zHz" };
+
+    private UnitConverter[] converters;
+    private SymbolMap symbolMap;
+
+    @Setup
+    public void setUp() {
+        final UCUMFormat format = UCUMFormat.getInstance(CASE_SENSITIVE);
+        final List<UnitConverter> list = new ArrayList<>();
+        for (String expression : EXPRESSIONS) {
+            final Unit<?> unit = format.parse(expression);
+            list.add(toSystemUnit(unit));
+        }
+        list.add(toSystemUnit(USCustomary.FAHRENHEIT));
+        converters = list.toArray(new UnitConverter[0]);
+        symbolMap = format.getSymbols();
+    }
+
+    private static <Q extends Quantity<Q>> UnitConverter toSystemUnit(Unit<Q> unit) {
+        return unit.getConverterTo(unit.getSystemUnit());
+    }
+
+    @Benchmark
+    public void formatConverter(Blackhole blackhole) {
+        for (UnitConverter converter : converters) {
+            final StringBuilder buffer = new StringBuilder();
+            UCUMConverterFormatter.formatConverter(converter, true, "m", buffer, symbolMap);
+            blackhole.consume(buffer);
+        }
+    }
+}
@@ -41,6 +41,10 @@ import static tech.units.indriya.unit.Units.SECOND;
 import static tech.units.indriya.unit.Units.STERADIAN;
 import static systems.uom.common.USCustomary.CUBIC_FOOT;
 
+import java.util.Set;
+
+import javax.measure.Dimension;
+import javax.measure.Quantity;
 import javax.measure.Unit;
 import javax.measure.quantity.Dimensionless;
 import javax.measure.quantity.Mass;
@@ -56,6 +60,9 @@ import tech.units.indriya.AbstractSystemOfUnits;
 import tech.units.indriya.AbstractUnit;
 import tech.units.indriya.format.EBNFUnitFormat;
 import tech.units.indriya.format.SimpleUnitFormat;
+import tech.units.indriya.format.UnitStyle;
+
+import systems.uom.function.UnitIndex;
 
 /**
  * <p>
@@ -317,6 +324,39 @@ public final class ObsoleteUnits extends AbstractSystemOfUnits {
         return SYSTEM_NAME;
     }
 
+    /**
+     * Returns the units of the given dimension, looked up in an index of the units of this system.
+     */
+    @Override
+    public Set<? extends Unit<?>> getUnits(Dimension dimension) {
+        return IndexHolder.INDEX.getUnits(dimension);
+    }
+
+    /**
+     * Returns the units of the dimension of the given quantity type, i.e. the units of this system commensurable with
+     * {@link #getUnit(Class)}, or with the SI unit of the quantity type if this system has none.
+     *
+     * @param <Q>
+     *            the compile-time quantity type
+     * @param quantityType
+     *            the quantity type
+     * @return the unmodifiable set of the units of <code>quantityType</code>, empty if there is no unit for it
+     * @since 2.2.1
+     */
+    public <Q extends Quantity<Q>> Set<Unit<Q>> getUnits(Class<Q> quantityType) {
+        return IndexHolder.INDEX.getUnits(quantityType);
+    }
+
+    @Override
+    public Unit<?> getUnit(String string) {
+        return IndexHolder.INDEX.getUnit(string);
+    }
+
+    @Override
+    public Unit<?> getUnit(String string, UnitStyle style, boolean ignoreCase) {
+        return IndexHolder.INDEX.getUnit(string, style, ignoreCase);
+    }
+
     /**
      * Adds a new unit not mapped to any specified quantity type and puts a text as symbol or label.
      *
@@ -357,4 +397,11 @@ public final class ObsoleteUnits extends AbstractSystemOfUnits {
     private static <U extends Unit<?>> U addUnit(U unit, String name, String text) {
         return addUnit(unit, name, text, true);
     }
+
+    /**
+     * Holds the index of the units, built on first lookup once the units have all been added.
+     */
+    private static final class IndexHolder {
+        static final UnitIndex INDEX = UnitIndex.of(INSTANCE.units, INSTANCE.quantityToUnit);
+    }
 }
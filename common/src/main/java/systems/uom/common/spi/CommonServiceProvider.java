@@ -40,7 +40,7 @@ import tech.units.indriya.spi.AbstractServiceProvider;
  * This class implements the {@link ServiceProvider} interface and hereby uses the JDK {@link java.util.ServiceLoader} to load the services required.
  *
  * @author Werner Keil
- * @version 2.1
+ * @version 2.2
  */
 @Named(NAME)
 @Priority(PRIO)
@@ -50,13 +50,20 @@ public class CommonServiceProvider extends AbstractServiceProvider {
         return PRIO;
     }
 
+    /**
+     * @return the shared {@link CommonSystemService}, created on first use
+     */
     @Override
     public SystemOfUnitsService getSystemOfUnitsService() {
-        return new CommonSystemService();
+        return SystemOfUnitsServiceHolder.INSTANCE;
     }
     
     @Override
     public String toString() {
         return NAME;
     }
+
+    private static final class SystemOfUnitsServiceHolder {
+        private static final CommonSystemService INSTANCE = new CommonSystemService();
+    }
 }
@@ -30,6 +30,7 @@
 package systems.uom.common.spi;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -68,7 +69,7 @@ public class CommonSystemService extends AbstractSystemOfUnitsService {
 	}
 
 	public Collection<SystemOfUnits> getAvailableSystemsOfUnits() {
-		return souMap.values();
+		return Collections.unmodifiableCollection(souMap.values());
 	}
 
 	@Override
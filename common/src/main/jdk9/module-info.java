@@ -34,6 +34,7 @@ module systems.uom.common {
     requires transitive jakarta.annotation;
     requires transitive jakarta.inject;
     requires transitive systems.uom.quantity;
+    requires transitive systems.uom.function;
     requires tech.units.indriya;
     requires java.logging;
     
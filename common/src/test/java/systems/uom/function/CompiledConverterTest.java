@@ -0,0 +1,337 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static javax.measure.MetricPrefix.*;
+import static tech.units.indriya.unit.Units.*;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+
+import javax.measure.IncommensurableException;
+import javax.measure.UnconvertibleException;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+import org.junit.jupiter.api.Test;
+
+import systems.uom.common.Imperial;
+import systems.uom.common.USCustomary;
+import tech.units.indriya.AbstractUnit;
+import tech.units.indriya.function.AddConverter;
+import tech.units.indriya.function.ExpConverter;
+import tech.units.indriya.function.LogConverter;
+import tech.units.indriya.function.MultiplyConverter;
+
+public class CompiledConverterTest {
+
+    private static final double[] VALUES = { 0, 1, -1, 0.1, 3, 32, 100, 212, -40, 1e-9, 123456.789, 1e12 };
+
+    @Test
+    public void testTemperature() {
+        final CompiledConverter fahrenheitToCelsius = CompiledConverter.of(USCustomary.FAHRENHEIT, CELSIUS);
+        assertEquals(0, fahrenheitToCelsius.applyAsDouble(32));
+        assertEquals(100, fahrenheitToCelsius.applyAsDouble(212), 1e-13);
+        assertEquals(-40, fahrenheitToCelsius.applyAsDouble(-40), 1e-13);
+        final CompiledConverter celsiusToFahrenheit = CompiledConverter.of(CELSIUS, USCustomary.FAHRENHEIT);
+        assertEquals(32, celsiusToFahrenheit.applyAsDouble(0));
+        assertEquals(212, celsiusToFahrenheit.applyAsDouble(100), 1e-13);
+        assertEquals(273.15, CompiledConverter.of(CELSIUS, KELVIN).applyAsDouble(0));
+        assertEquivalent(USCustomary.FAHRENHEIT, CELSIUS);
+        assertEquivalent(USCustomary.RANKINE, USCustomary.FAHRENHEIT);
+        assertEquivalent(KELVIN, CELSIUS);
+    }
+
+    @Test
+    public void testLinear() {
+        assertEquals(45.4609, CompiledConverter.of(Imperial.GALLON_UK, LITRE).applyAsDouble(10), 1e-13);
+        assertEquals(0.003, CompiledConverter.of(MILLI(METRE), METRE).applyAsDouble(3));
+        assertEquals(3000, CompiledConverter.of(KILO(METRE), METRE).applyAsDouble(3));
+        assertEquivalent(Imperial.GALLON_UK, LITRE);
+        assertEquivalent(USCustomary.MILE, KILO(METRE));
+        assertEquivalent(USCustomary.FLUID_OUNCE, MILLI(LITRE));
+        assertEquivalent(USCustomary.POUND, Imperial.OUNCE);
+        assertEquivalent(MILLI(METRE), METRE);
+        assertEquivalent(METRE, METRE);
+    }
+
+    @Test
+    public void testSteps() {
+        assertEquivalent(new AddConverter(3).concatenate(MultiplyConverter.of(2)));
+        assertEquivalent(new LogConverter(10).concatenate(MultiplyConverter.of(1000)));
+        assertEquivalent(new AddConverter(1).concatenate(new LogConverter(Math.E)).concatenate(MultiplyConverter.ofPiExponent(1)));
+        assertEquivalent(new ExpConverter(10).concatenate(new AddConverter(-0.5)));
+        assertEquivalent(new ExpConverter(Math.E));
+    }
+
+    @Test
+    public void testCache() throws IncommensurableException {
+        assertSame(CompiledConverter.of(USCustomary.FOOT, METRE), CompiledConverter.of(USCustomary.FOOT, METRE));
+        assertSame(CompiledConverter.of(USCustomary.FOOT, METRE), CompiledConverter.ofAny(USCustomary.FOOT, METRE));
+        assertEquals(USCustomary.FOOT.getConverterTo(METRE), CompiledConverter.of(USCustomary.FOOT, METRE).getConverter());
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @Test
+    public void testIncommensurable() {
+        assertThrows(IncommensurableException.class, () -> CompiledConverter.ofAny(METRE, SECOND));
+        assertThrows(UnconvertibleException.class, () -> CompiledConverter.of((Unit) METRE, (Unit) SECOND));
+        assertEquals(2, CompiledConverter.of(AbstractUnit.ONE, AbstractUnit.ONE).applyAsDouble(2));
+    }
+
+    @Test
+    public void testBulk() {
+        final UnitConverter[] converters = { METRE.getConverterTo(METRE), KILO(METRE).getConverterTo(METRE),
+                MILLI(METRE).getConverterTo(METRE), CELSIUS.getConverterTo(KELVIN),
+                USCustomary.FAHRENHEIT.getConverterTo(CELSIUS), CELSIUS.getConverterTo(USCustomary.FAHRENHEIT),
+                new LogConverter(10).concatenate(new AddConverter(1)).concatenate(MultiplyConverter.of(1000)) };
+        final double[] values = new double[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i * 0.37 - 50;
+        }
+        for (UnitConverter converter : converters) {
+            final CompiledConverter compiled = CompiledConverter.of(converter);
+            final double[] expected = new double[values.length];
+            for (int i = 0; i < values.length; i++) {
+                expected[i] = compiled.applyAsDouble(values[i]);
+            }
+
+            final double[] destination = new double[values.length + 2];
+            compiled.convert(values, 0, destination, 2, values.length);
+            for (int i = 0; i < values.length; i++) {
+                assertEquals(expected[i], destination[i + 2], converter.toString());
+            }
+
+            final double[] inPlace = values.clone();
+            compiled.convert(inPlace, 10, 500);
+            for (int i = 0; i < values.length; i++) {
+                assertEquals(i >= 10 && i < 510 ? expected[i] : values[i], inPlace[i], converter.toString());
+            }
+
+            final double[] overlapping = values.clone();
+            compiled.convert(overlapping, 0, overlapping, 1, values.length - 1);
+            for (int i = 1; i < values.length; i++) {
+                assertEquals(expected[i - 1], overlapping[i], converter.toString());
+            }
+
+            final float[] floats = new float[values.length];
+            for (int i = 0; i < values.length; i++) {
+                floats[i] = (float) values[i];
+            }
+            final float[] floatDestination = new float[values.length];
+            compiled.convert(floats, 0, floatDestination, 0, values.length);
+            compiled.convert(floats, 0, floats.length);
+            for (int i = 0; i < values.length; i++) {
+                assertEquals((float) compiled.applyAsDouble((float) values[i]), floatDestination[i], converter.toString());
+                assertEquals(floatDestination[i], floats[i]);
+            }
+        }
+    }
+
+    @Test
+    public void testBulkBounds() {
+        final CompiledConverter compiled = CompiledConverter.of(KILO(METRE), METRE);
+        final double[] values = new double[10];
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> compiled.convert(values, 5, 6));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> compiled.convert(values, -1, 2));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> compiled.convert(values, 0, new double[5], 0, 6));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> compiled.convert(new float[3], 0, 4));
+        compiled.convert(values, 10, 0);
+    }
+
+    @Test
+    public void testParallel() {
+        final CompiledConverter compiled = CompiledConverter.of(USCustomary.FAHRENHEIT, CELSIUS);
+        final double[] values = new double[100000];
+        final float[] floats = new float[values.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i * 0.01;
+            floats[i] = (float) values[i];
+        }
+        final double[] expected = new double[values.length];
+        compiled.convert(values, 0, expected, 0, values.length);
+        final float[] expectedFloats = new float[floats.length];
+        compiled.convert(floats, 0, expectedFloats, 0, floats.length);
+
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final double[] destination = new double[values.length];
+            compiled.convertParallel(values, 0, destination, 0, values.length, pool, 1000);
+            assertArrayEquals(expected, destination);
+
+            final double[] shifted = values.clone();
+            compiled.convertParallel(shifted, 0, shifted, 3, values.length - 3, pool, 999);
+            for (int i = 3; i < values.length; i++) {
+                assertEquals(expected[i - 3], shifted[i]);
+            }
+
+            final double[] inPlace = values.clone();
+            compiled.convertParallel(inPlace, 0, inPlace.length, pool);
+            assertArrayEquals(expected, inPlace);
+
+            final float[] floatDestination = new float[floats.length];
+            compiled.convertParallel(floats, 0, floatDestination, 0, floats.length, pool, 777);
+            assertArrayEquals(expectedFloats, floatDestination);
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> compiled.convertParallel(values, 0, destination, 0, values.length, pool, 0));
+            assertThrows(ArrayIndexOutOfBoundsException.class,
+                    () -> compiled.convertParallel(values, 1, destination, 0, values.length, pool, 1000));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testBuffers() {
+        final CompiledConverter compiled = CompiledConverter.of(USCustomary.FAHRENHEIT, CELSIUS);
+        final int size = 10000;
+        final DoubleBuffer direct = ByteBuffer.allocateDirect(size * 8).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+        final DoubleBuffer heap = DoubleBuffer.allocate(size + 1);
+        for (int i = 0; i < size; i++) {
+            direct.put(i, 32 + i * 1.8);
+        }
+        heap.position(1);
+        compiled.convert(direct, heap);
+        assertEquals(size, direct.position());
+        assertEquals(size + 1, heap.position());
+        for (int i = 0; i < size; i++) {
+            assertEquals(i, heap.get(i + 1), 1e-9);
+        }
+
+        compiled.convert(direct, 100, 5000);
+        assertEquals(size, direct.position());
+        assertEquals(100, direct.get(100), 1e-9);
+        assertEquals(5099, direct.get(5099), 1e-9);
+        assertEquals(32 + 5100 * 1.8, direct.get(5100));
+
+        direct.rewind();
+        assertThrows(BufferOverflowException.class, () -> compiled.convert(direct, DoubleBuffer.allocate(10)));
+        assertThrows(ReadOnlyBufferException.class, () -> compiled.convert(direct, heap.asReadOnlyBuffer()));
+        assertThrows(IllegalArgumentException.class, () -> compiled.convert(direct, direct));
+        assertThrows(IndexOutOfBoundsException.class, () -> compiled.convert(direct, size - 1, 2));
+
+        final FloatBuffer floats = ByteBuffer.allocateDirect(size * 4).asFloatBuffer();
+        for (int i = 0; i < size; i++) {
+            floats.put(i, 212);
+        }
+        final FloatBuffer floatDestination = ByteBuffer.allocateDirect(size * 4).asFloatBuffer();
+        compiled.convert(floats, floatDestination);
+        compiled.convert(floats, 0, size);
+        for (int i = 0; i < size; i++) {
+            assertEquals(100f, floatDestination.get(i));
+            assertEquals(100f, floats.get(i));
+        }
+    }
+
+    @Test
+    public void testOverlappingHeapBuffers() {
+        final CompiledConverter compiled = CompiledConverter.of(USCustomary.FAHRENHEIT, CELSIUS);
+        final int size = 10000;
+        final DoubleBuffer values = DoubleBuffer.allocate(size + 100);
+        for (int i = 0; i < size; i++) {
+            values.put(i, 32 + i * 1.8);
+        }
+        // the destination is ahead of the source, where a forward copy would overwrite values before reading them
+        final DoubleBuffer source = values.duplicate();
+        source.limit(size);
+        final DoubleBuffer destination = values.duplicate();
+        destination.position(100);
+        compiled.convert(source, destination);
+        for (int i = 0; i < size; i++) {
+            assertEquals(i, values.get(i + 100), 1e-9);
+        }
+
+        final FloatBuffer floats = FloatBuffer.allocate(size + 100);
+        for (int i = 0; i < size; i++) {
+            floats.put(i + 100, 212);
+        }
+        floats.position(100);
+        final FloatBuffer floatSource = floats.slice();
+        floats.rewind();
+        compiled.convert(floatSource, floats);
+        for (int i = 0; i < size; i++) {
+            assertEquals(100f, floats.get(i));
+        }
+    }
+
+    @Test
+    public void testMappedBuffer() throws IOException {
+        final Path file = Files.createTempFile("compiled-converter", ".bin");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, 8 * 1000);
+            final DoubleBuffer values = mapped.asDoubleBuffer();
+            for (int i = 0; i < 1000; i++) {
+                values.put(i, i);
+            }
+            CompiledConverter.of(KILO(METRE), METRE).convert(values, 0, 1000);
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i * 1000, values.get(i));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static <Q extends javax.measure.Quantity<Q>> void assertEquivalent(Unit<Q> source, Unit<Q> target) {
+        assertEquivalent(source.getConverterTo(target));
+        assertEquivalent(target.getConverterTo(source));
+    }
+
+    private static void assertEquivalent(UnitConverter converter) {
+        final CompiledConverter compiled = CompiledConverter.of(converter);
+        for (double value : VALUES) {
+            final double expected;
+            try {
+                expected = converter.convert(value);
+            } catch (IllegalArgumentException e) {
+                continue; // the generic converter cannot represent infinite intermediate values
+            }
+            final double actual = compiled.applyAsDouble(value);
+            if (Double.isNaN(expected)) {
+                assertTrue(Double.isNaN(actual), converter + " " + value);
+            } else {
+                assertEquals(expected, actual, Math.max(Math.abs(expected) * 1e-12, 1e-12), converter + " " + value);
+            }
+        }
+    }
+}
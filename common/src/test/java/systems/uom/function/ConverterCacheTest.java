@@ -0,0 +1,116 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static javax.measure.MetricPrefix.*;
+import static tech.units.indriya.unit.Units.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.measure.IncommensurableException;
+import javax.measure.Unit;
+import javax.measure.quantity.Length;
+
+import org.junit.jupiter.api.Test;
+
+import systems.uom.common.Imperial;
+import systems.uom.common.USCustomary;
+import systems.uom.common.historic.CGS;
+
+public class ConverterCacheTest {
+
+    @Test
+    public void testHitsAndMisses() throws IncommensurableException {
+        final ConverterCache cache = new ConverterCache(16);
+        assertEquals(0, cache.getHitRatio());
+        final CompiledConverter mile = cache.getConverterTo(USCustomary.MILE, METRE);
+        assertSame(mile, cache.getConverterTo(USCustomary.MILE, METRE));
+        assertSame(mile, cache.getConverterToAny(USCustomary.MILE, METRE));
+        assertEquals(USCustomary.MILE.getConverterTo(METRE), mile.getConverter());
+        assertNotSame(mile, cache.getConverterTo(METRE, USCustomary.MILE));
+        cache.getConverterToAny(CGS.ERG, USCustomary.FOOT.multiply(Imperial.POUND_FORCE));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+        assertEquals(0.4, cache.getHitRatio(), 1e-15);
+        assertEquals(3, cache.size());
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.getHitCount());
+    }
+
+    @Test
+    public void testBounded() {
+        final ConverterCache cache = new ConverterCache(4);
+        final Unit<Length> keep = KILO(METRE);
+        cache.getConverterTo(keep, METRE);
+        for (int i = 1; i <= 10; i++) {
+            cache.getConverterTo(keep, METRE); // referenced, survives eviction
+            cache.getConverterTo(METRE.multiply(i + 1), METRE);
+        }
+        assertEquals(4, cache.size());
+        assertTrue(cache.getEvictionCount() >= 7);
+        final long misses = cache.getMissCount();
+        cache.getConverterTo(keep, METRE);
+        assertEquals(misses, cache.getMissCount());
+        assertThrows(IllegalArgumentException.class, () -> new ConverterCache(0));
+    }
+
+    @Test
+    public void testIncommensurable() {
+        final ConverterCache cache = new ConverterCache(4);
+        assertThrows(IncommensurableException.class, () -> cache.getConverterToAny(METRE, SECOND));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        final ConverterCache cache = new ConverterCache(8);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Double>> results = new ArrayList<>();
+            for (int i = 0; i < 400; i++) {
+                final int factor = i % 16 + 1;
+                results.add(executor.submit(() -> cache.getConverterTo(METRE.multiply(factor), METRE).applyAsDouble(1)));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(i % 16 + 1, results.get(i).get(), 0);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(cache.size() <= 8);
+        assertEquals(400, cache.getHitCount() + cache.getMissCount());
+    }
+}
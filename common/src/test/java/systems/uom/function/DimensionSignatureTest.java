@@ -0,0 +1,96 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static tech.units.indriya.unit.Units.*;
+
+import javax.measure.Dimension;
+import javax.measure.Unit;
+import javax.measure.spi.SystemOfUnits;
+
+import org.junit.jupiter.api.Test;
+
+import systems.uom.common.Imperial;
+import systems.uom.common.USCustomary;
+import systems.uom.common.historic.CGS;
+import systems.uom.common.historic.MKpS;
+import systems.uom.common.historic.ObsoleteUnits;
+import tech.units.indriya.AbstractUnit;
+import tech.units.indriya.unit.UnitDimension;
+
+public class DimensionSignatureTest {
+
+    @Test
+    public void testExponents() {
+        final long signature = DimensionSignature.of(NEWTON);
+        assertEquals(1, DimensionSignature.exponentOf(signature, UnitDimension.LENGTH));
+        assertEquals(1, DimensionSignature.exponentOf(signature, UnitDimension.MASS));
+        assertEquals(-2, DimensionSignature.exponentOf(signature, UnitDimension.TIME));
+        assertEquals(0, DimensionSignature.exponentOf(signature, UnitDimension.TEMPERATURE));
+        assertEquals(DimensionSignature.NONE, DimensionSignature.of(AbstractUnit.ONE));
+        assertEquals(DimensionSignature.NONE, DimensionSignature.of(RADIAN));
+        assertEquals(DimensionSignature.of(UnitDimension.LENGTH), DimensionSignature.of(METRE));
+        assertThrows(IllegalArgumentException.class, () -> DimensionSignature.exponentOf(signature, UnitDimension.NONE));
+    }
+
+    @Test
+    public void testCommensurable() {
+        assertTrue(DimensionSignature.isCommensurable(USCustomary.FOOT, METRE));
+        assertTrue(DimensionSignature.isCommensurable(CGS.ERG, JOULE));
+        assertTrue(DimensionSignature.isCommensurable(GRAM.divide(LITRE), KILOGRAM.divide(CUBIC_METRE)));
+        assertFalse(DimensionSignature.isCommensurable(GRAM.divide(LITRE), GRAM.divide(METRE)));
+        assertFalse(DimensionSignature.isCommensurable(KELVIN, AbstractUnit.ONE));
+        assertFalse(DimensionSignature.isCommensurable(DimensionSignature.UNKNOWN, DimensionSignature.UNKNOWN));
+    }
+
+    @Test
+    public void testOutOfRange() {
+        final Dimension dimension = UnitDimension.LENGTH.pow(200);
+        assertEquals(DimensionSignature.UNKNOWN, DimensionSignature.of(dimension));
+        assertEquals(DimensionSignature.UNKNOWN, DimensionSignature.of(UnitDimension.LENGTH.pow(-129)));
+        assertNotEquals(DimensionSignature.UNKNOWN, DimensionSignature.of(UnitDimension.LENGTH.pow(-128)));
+        assertTrue(DimensionSignature.isCommensurable(METRE.pow(200), METRE.pow(200)));
+    }
+
+    @Test
+    public void testSameAsDimensions() {
+        final SystemOfUnits[] systems = { USCustomary.getInstance(), Imperial.getInstance(), CGS.getInstance(),
+                MKpS.getInstance(), ObsoleteUnits.getInstance() };
+        for (SystemOfUnits system : systems) {
+            for (Unit<?> a : system.getUnits()) {
+                for (Unit<?> b : system.getUnits()) {
+                    assertEquals(a.getDimension().equals(b.getDimension()), DimensionSignature.isCommensurable(a, b),
+                            a + " " + b);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.measure.Unit;
+import javax.measure.quantity.Length;
+import javax.measure.quantity.Volume;
+import javax.measure.spi.SystemOfUnits;
+
+import org.junit.jupiter.api.Test;
+
+import systems.uom.common.Imperial;
+import systems.uom.common.USCustomary;
+import systems.uom.common.historic.CGS;
+import systems.uom.common.historic.MKpS;
+import systems.uom.common.historic.ObsoleteUnits;
+import tech.units.indriya.AbstractSystemOfUnits;
+import tech.units.indriya.format.UnitStyle;
+import tech.units.indriya.unit.UnitDimension;
+
+public class UnitIndexTest {
+
+    private static final AbstractSystemOfUnits[] SYSTEMS = { (AbstractSystemOfUnits) USCustomary.getInstance(),
+            (AbstractSystemOfUnits) Imperial.getInstance(), CGS.getInstance(), MKpS.getInstance(), ObsoleteUnits.getInstance() };
+
+    @Test
+    public void testSameAsScan() {
+        for (AbstractSystemOfUnits system : SYSTEMS) {
+            for (Unit<?> unit : system.getUnits()) {
+                final Set<Unit<?>> scan = system.getUnits().stream()
+                        .filter(u -> u.getDimension().equals(unit.getDimension())).collect(Collectors.toSet());
+                assertEquals(scan, new HashSet<>(system.getUnits(unit.getDimension())), unit.toString());
+                assertEquals(scan(system, unit.toString()), system.getUnit(unit.toString()));
+                if (unit.getName() != null) {
+                    assertEquals(scanName(system, unit.getName(), false), system.getUnit(unit.getName(), UnitStyle.NAME, false));
+                    final String upper = unit.getName().toUpperCase();
+                    assertEquals(scanName(system, upper, true), system.getUnit(upper, UnitStyle.NAME, true));
+                }
+                if (unit.getSymbol() != null) {
+                    assertEquals(scanSymbol(system, unit.getSymbol(), false), system.getUnit(unit.getSymbol(), UnitStyle.SYMBOL, false));
+                    final String lower = unit.getSymbol().toLowerCase();
+                    assertEquals(scanSymbol(system, lower, true), system.getUnit(lower, UnitStyle.SYMBOL, true));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testLookups() {
+        final USCustomary system = (USCustomary) USCustomary.getInstance();
+        assertEquals(USCustomary.FOOT, system.getUnit("Foot", UnitStyle.NAME, false));
+        assertEquals(USCustomary.FOOT, system.getUnit("FOOT", UnitStyle.NAME, true));
+        assertNull(system.getUnit("FOOT", UnitStyle.NAME, false));
+        assertEquals(USCustomary.MILE, system.getUnit("mi"));
+        assertNull(system.getUnit("no such unit"));
+        assertTrue(system.getUnits(UnitDimension.TIME.pow(7)).isEmpty());
+        assertTrue(system.getUnits(Length.class).contains(USCustomary.FOOT));
+        assertTrue(system.getUnits(Volume.class).contains(USCustomary.GALLON_LIQUID));
+        assertFalse(system.getUnits(Volume.class).contains(USCustomary.FOOT));
+        assertThrows(UnsupportedOperationException.class, () -> system.getUnits(UnitDimension.LENGTH).clear());
+        assertThrows(NullPointerException.class, () -> system.getUnit(null, UnitStyle.NAME, false));
+    }
+
+    private static Unit<?> scan(SystemOfUnits system, String string) {
+        return system.getUnits().stream().filter(u -> u.toString().equals(string)).findFirst().orElse(null);
+    }
+
+    private static Unit<?> scanName(SystemOfUnits system, String name, boolean ignoreCase) {
+        return system.getUnits().stream()
+                .filter(u -> ignoreCase ? name.equalsIgnoreCase(u.getName()) : name.equals(u.getName()))
+                .findFirst().orElse(null);
+    }
+
+    private static Unit<?> scanSymbol(SystemOfUnits system, String symbol, boolean ignoreCase) {
+        return system.getUnits().stream()
+                .filter(u -> ignoreCase ? symbol.equalsIgnoreCase(u.getSymbol()) : symbol.equals(u.getSymbol()))
+                .findFirst().orElse(null);
+    }
+}
@@ -0,0 +1,855 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.function;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.DoubleUnaryOperator;
+
+import javax.measure.IncommensurableException;
+import javax.measure.Quantity;
+import javax.measure.UnconvertibleException;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+import tech.units.indriya.function.AddConverter;
+import tech.units.indriya.function.ExpConverter;
+import tech.units.indriya.function.LogConverter;
+import tech.units.indriya.function.MultiplyConverter;
+import tech.units.indriya.function.RationalNumber;
+
+/**
+ * <p>
+ * A {@link UnitConverter} compiled to a primitive <code>double</code> kernel.
+ * </p>
+ * <p>
+ * The generic converters convert each value through {@link Number} arithmetic. A compiled converter folds all
+ * consecutive affine steps of the converter exactly and evaluates them with at most one addition and one
+ * multiplication (or division), which keeps exact results exact, e.g. for <code>0&#8451;</code> in <code>&#8457;</code>
+ * or for decimal prefixes. Logarithmic and exponential steps are evaluated with {@link Math}, any other step falls
+ * back to {@link UnitConverter#convert(double)}.
+ * </p>
+ * <p>
+ * Columns of <code>double</code> or <code>float</code> values are converted in place or into a destination array with
+ * {@link #convert(double[], int, double[], int, int)} and its overloads. The shape of the kernel is selected once per
+ * call, so each column is converted by a plain counted loop that the JIT compiler unrolls and vectorizes. Very large
+ * columns are split into ranges of a grain size and converted in parallel in a given {@link ForkJoinPool} with
+ * {@link #convertParallel(double[], int, double[], int, int, ForkJoinPool, int)} and its overloads.
+ * </p>
+ * <p>
+ * Values in direct or memory-mapped {@link DoubleBuffer}s and {@link FloatBuffer}s are converted with
+ * {@link #convert(DoubleBuffer, DoubleBuffer)} and its overloads, through a small chunk on the heap, so that the heap
+ * usage does not depend on the size of the buffers. On Java 22 and later, <code>SegmentConverter</code> converts values
+ * in a <code>MemorySegment</code> the same way.
+ * </p>
+ * <p>
+ * Converters for a pair of units are cached in the default {@link ConverterCache}, so
+ * <code>CompiledConverter.of(USCustomary.FAHRENHEIT, Units.CELSIUS)</code> can be called on each use. Instances are
+ * immutable and thread-safe.
+ * </p>
+ *
+ * @version 1.4, October 16, 2026
+ * @since 2.2.1
+ */
+public final class CompiledConverter implements DoubleUnaryOperator {
+
+    /**
+     * The default number of values converted by a single task of a parallel conversion.
+     */
+    public static final int DEFAULT_GRAIN_SIZE = 1 << 16;
+
+    // the number of values copied between a buffer without an accessible array and the heap at a time
+    private static final int CHUNK_SIZE = 4096;
+
+    private static final BigInteger MAX_EXACT_INTEGER = BigInteger.ONE.shiftLeft(53);
+
+    // the shapes of a kernel, each evaluated with at most two operations
+    private static final int IDENTITY = 0;
+    private static final int MULTIPLY = 1; // x * factor
+    private static final int DIVIDE = 2; // x / factor
+    private static final int ADD = 3; // x + offset
+    private static final int ADD_MULTIPLY = 4; // (x + offset) * factor
+    private static final int MULTIPLY_ADD = 5; // x * factor + offset
+    private static final int STEPS = 6; // steps[n-1](...steps[0](x))
+
+    private final UnitConverter converter;
+    private final int shape;
+    private final double factor;
+    private final double offset;
+    private final DoubleUnaryOperator[] steps;
+
+    private CompiledConverter(UnitConverter converter, int shape, double factor, double offset,
+            DoubleUnaryOperator[] steps) {
+        this.converter = converter;
+        this.shape = shape;
+        this.factor = factor;
+        this.offset = offset;
+        this.steps = steps;
+    }
+
+    /**
+     * Returns the compiled converter from the source to the target unit, compiling it on first use.
+     *
+     * @param source
+     *            the unit to convert from
+     * @param target
+     *            the unit to convert to
+     * @return the compiled converter, equivalent to <code>source.getConverterTo(target)</code>
+     * @throws UnconvertibleException
+     *             if the converter cannot be obtained
+     */
+    public static <Q extends Quantity<Q>> CompiledConverter of(Unit<Q> source, Unit<Q> target) {
+        return ConverterCache.getDefault().getConverterTo(source, target);
+    }
+
+    /**
+     * Returns the compiled converter from the source to the target unit of possibly different quantity types,
+     * compiling it on first use.
+     *
+     * @param source
+     *            the unit to convert from
+     * @param target
+     *            the unit to convert to
+     * @return the compiled converter, equivalent to <code>source.getConverterToAny(target)</code>
+     * @throws IncommensurableException
+     *             if the units are not compatible
+     * @throws UnconvertibleException
+     *             if the converter cannot be obtained
+     */
+    public static CompiledConverter ofAny(Unit<?> source, Unit<?> target)
+            throws IncommensurableException, UnconvertibleException {
+        return ConverterCache.getDefault().getConverterToAny(source, target);
+    }
+
+    /**
+     * Compiles the given converter. The result is not cached.
+     *
+     * @param converter
+     *            the converter to compile
+     * @return the compiled converter
+     */
+    public static CompiledConverter of(UnitConverter converter) {
+        Objects.requireNonNull(converter);
+        final List<? extends UnitConverter> conversionSteps = converter.getConversionSteps();
+        final List<DoubleUnaryOperator> compiled = new ArrayList<>();
+        RationalNumber a = RationalNumber.ONE;
+        RationalNumber b = RationalNumber.ZERO;
+        // the steps are listed outermost first
+        for (int i = conversionSteps.size() - 1; i >= 0; i--) {
+            final UnitConverter step = conversionSteps.get(i);
+            final RationalNumber stepFactor = step instanceof MultiplyConverter
+                    ? toRational(((MultiplyConverter) step).getFactor()) : null;
+            final RationalNumber stepOffset = step instanceof AddConverter
+                    ? toRational(((AddConverter) step).getOffset()) : null;
+            if (stepFactor != null) {
+                a = a.multiply(stepFactor);
+                b = b.multiply(stepFactor);
+            } else if (stepOffset != null) {
+                b = b.add(stepOffset);
+            } else if (!step.isIdentity()) {
+                if (!isIdentity(a, b)) {
+                    compiled.add(affine(null, a, b));
+                    a = RationalNumber.ONE;
+                    b = RationalNumber.ZERO;
+                }
+                compiled.add(compileStep(step));
+            }
+        }
+        if (compiled.isEmpty()) {
+            return affine(converter, a, b);
+        }
+        if (!isIdentity(a, b)) {
+            compiled.add(affine(null, a, b));
+        }
+        return new CompiledConverter(converter, STEPS, 1, 0,
+                compiled.toArray(new DoubleUnaryOperator[compiled.size()]));
+    }
+
+    /**
+     * Returns the converter this kernel was compiled from.
+     *
+     * @return the source converter
+     */
+    public UnitConverter getConverter() {
+        return converter;
+    }
+
+    /**
+     * Converts a value.
+     *
+     * @param value
+     *            the value in the source unit
+     * @return the value in the target unit
+     */
+    @Override
+    public double applyAsDouble(double value) {
+        switch (shape) {
+        case IDENTITY:
+            return value;
+        case MULTIPLY:
+            return value * factor;
+        case DIVIDE:
+            return value / factor;
+        case ADD:
+            return value + offset;
+        case ADD_MULTIPLY:
+            return (value + offset) * factor;
+        case MULTIPLY_ADD:
+            return value * factor + offset;
+        default:
+            double result = value;
+            for (DoubleUnaryOperator step : steps) {
+                result = step.applyAsDouble(result);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Converts a range of values in place.
+     *
+     * @param values
+     *            the values in the source unit, replaced by the values in the target unit
+     * @param offset
+     *            the index of the first value to convert
+     * @param length
+     *            the number of values to convert
+     * @throws ArrayIndexOutOfBoundsException
+     *             if the range is not within <code>values</code>
+     */
+    public void convert(double[] values, int offset, int length) {
+        convert(values, offset, values, offset, length);
+    }
+
+    /**
+     * Converts a range of values into a destination array. The source and destination ranges may overlap.
+     *
+     * @param source
+     *            the values in the source unit
+     * @param sourceOffset
+     *            the index of the first value to convert
+     * @param destination
+     *            the array receiving the values in the target unit
+     * @param destinationOffset
+     *            the index of the first converted value in <code>destination</code>
+     * @param length
+     *            the number of values to convert
+     * @throws ArrayIndexOutOfBoundsException
+     *             if a range is not within its array
+     */
+    public void convert(double[] source, int sourceOffset, double[] destination, int destinationOffset, int length) {
+        checkRange(source.length, sourceOffset, length);
+        checkRange(destination.length, destinationOffset, length);
+        if (source == destination && sourceOffset != destinationOffset
+                && Math.abs(sourceOffset - destinationOffset) < length) {
+            System.arraycopy(source, sourceOffset, destination, destinationOffset, length);
+            source = destination;
+            sourceOffset = destinationOffset;
+        }
+        final double factor = this.factor;
+        final double offset = this.offset;
+        switch (shape) {
+        case IDENTITY:
+            if (source != destination || sourceOffset != destinationOffset) {
+                System.arraycopy(source, sourceOffset, destination, destinationOffset, length);
+            }
+            return;
+        case MULTIPLY:
+            for (int i = 0; i < length; i++) {
+                destination[destinationOffset + i] = source[sourceOffset + i] * factor;
+            }
+            return;
+        case DIVIDE:
+            for (int i = 0; i < length; i++) {
+                destination[destinationOffset + i] = source[sourceOffset + i] / factor;
+            }
+            return;
+        case ADD:
+            for (int i = 0; i < length; i++) {
+                destination[destinationOffset + i] = source[sourceOffset + i] + offset;
+            }
+            return;
+        case ADD_MULTIPLY:
+            for (int i = 0; i < length; i++) {
+                destination[destinationOffset + i] = (source[sourceOffset + i] + offset) * factor;
+            }
+            return;
+        case MULTIPLY_ADD:
+            for (int i = 0; i < length; i++) {
+                destination[destinationOffset + i] = source[sourceOffset + i] * factor + offset;
+            }
+            return;
+        default:
+            // step by step, so that the affine steps still run as plain loops
+            for (DoubleUnaryOperator step : steps) {
+                if (step instanceof CompiledConverter) {
+                    ((CompiledConverter) step).convert(source, sourceOffset, destination, destinationOffset, length);
+                } else {
+                    for (int i = 0; i < length; i++) {
+                        destination[destinationOffset + i] = step.applyAsDouble(source[sourceOffset + i]);
+                    }
+                }
+                source = destination;
+                sourceOffset = destinationOffset;
+            }
+        }
+    }
+
+    /**
+     * Converts a range of values in place. Each value is converted in <code>double</code> precision.
+     *
+     * @param values
+     *            the values in the source unit, replaced by the values in the target unit
+     * @param offset
+     *            the index of the first value to convert
+     * @param length
+     *            the number of values to convert
+     * @throws ArrayIndexOutOfBoundsException
+     *             if the range is not within <code>values</code>
+     */
+    public void convert(float[] values, int offset, int length) {
+        convert(values, offset, values, offset, length);
+    }
+
+    /**
+     * Converts a range of values into a destination array. Each value is converted in <code>double</code> precision.
+     * The source and destination ranges may overlap.
+     *
+     * @param source
+     *            the values in the source unit
+     * @param sourceOffset
+     *            the index of the first value to convert
+     * @param destination
+     *            the array receiving the values in the target unit
+     * @param destinationOffset
+     *            the index of the first converted value in <code>destination</code>
+     * @param length
+     *            the number of values to convert
+     * @throws ArrayIndexOutOfBoundsException
+     *             if a range is not within its array
+     */
+    public void convert(float[] source, int sourceOffset, float[] destination, int destinationOffset, int length) {
+        checkRange(source.length, sourceOffset, length);
+        checkRange(destination.length, destinationOffset, length);
+        if (source == destination && sourceOffset != destinationOffset
+                && Math.abs(sourceOffset - destinationOffset) < length) {
+            System.arraycopy(source, sourceOffset, destination, destinationOffset, length);
+            source = destination;
+            sourceOffset = destinationOffset;
+        }
+        final double factor = this.factor;
+        final double offset = this.offset;
+        switch (shape) {
+        case IDENTITY:
+            if (source != destination || sourceOffset != destinationOffset) {
+                System.arraycopy(source, sourceOffset, destination, destinationOffset, length);
+            }
+            return;
+        case MULTIPLY:
+            for (int i = 0; i < length; i++) {
+                destination[destinationOffset + i] = (float) (source[sourceOffset + i] * factor);
+            }
+            return;
+        case DIVIDE:
+            for (int i = 0; i < length; i++) {
+                destination[destinationOffset + i] = (float) (source[sourceOffset + i] / factor);
+            }
+            return;
+        case ADD:
+            for (int i = 0; i < length; i++) {
+                destination[destinationOffset + i] = (float) (source[sourceOffset + i] + offset);
+            }
+            return;
+        case ADD_MULTIPLY:
+            for (int i = 0; i < length; i++) {
+                destination[destinationOffset + i] = (float) ((source[sourceOffset + i] + offset) * factor);
+            }
+            return;
+        case MULTIPLY_ADD:
+            for (int i = 0; i < length; i++) {
+                destination[destinationOffset + i] = (float) (source[sourceOffset + i] * factor + offset);
+            }
+            return;
+        default:
+            for (int i = 0; i < length; i++) {
+                destination[destinationOffset + i] = (float) applyAsDouble(source[sourceOffset + i]);
+            }
+        }
+    }
+
+    /**
+     * Converts the remaining values of a buffer into another buffer. The positions of both buffers are advanced by the
+     * number of converted values, as with {@link DoubleBuffer#put(DoubleBuffer)}.
+     * <p>
+     * Distinct buffers over the same memory, e.g. a {@link DoubleBuffer#duplicate() duplicate} or a
+     * {@link DoubleBuffer#slice() slice} of a buffer, may overlap if both are backed by an accessible array, as with
+     * {@link System#arraycopy(Object, int, Object, int, int)}. Otherwise the values are copied through a chunk on the
+     * heap, and the remaining values of the two buffers must not overlap, as the overlap cannot be detected and the
+     * result is then undefined.
+     * </p>
+     *
+     * @param source
+     *            the values in the source unit
+     * @param destination
+     *            the buffer receiving the values in the target unit
+     * @throws BufferOverflowException
+     *             if there is less room remaining in <code>destination</code> than values remaining in
+     *             <code>source</code>
+     * @throws IllegalArgumentException
+     *             if the buffers are the same object, use {@link #convert(DoubleBuffer, int, int)} to convert in place
+     * @throws ReadOnlyBufferException
+     *             if <code>destination</code> is read-only
+     */
+    public void convert(DoubleBuffer source, DoubleBuffer destination) {
+        if (source == destination) {
+            throw new IllegalArgumentException("The source buffer cannot be the destination buffer");
+        }
+        if (destination.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        final int length = source.remaining();
+        if (destination.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        if (source.hasArray() && destination.hasArray()) {
+            convert(source.array(), source.arrayOffset() + source.position(), destination.array(),
+                    destination.arrayOffset() + destination.position(), length);
+            ((Buffer) source).position(source.position() + length);
+            ((Buffer) destination).position(destination.position() + length);
+            return;
+        }
+        final double[] chunk = new double[Math.min(length, CHUNK_SIZE)];
+        for (int done = 0; done < length; done += chunk.length) {
+            final int count = Math.min(chunk.length, length - done);
+            source.get(chunk, 0, count);
+            convert(chunk, 0, count);
+            destination.put(chunk, 0, count);
+        }
+    }
+
+    /**
+     * Converts a range of values of a buffer in place. The position of the buffer is not changed.
+     *
+     * @param values
+     *            the values in the source unit, replaced by the values in the target unit
+     * @param index
+     *            the index of the first value to convert
+     * @param length
+     *            the number of values to convert
+     * @throws IndexOutOfBoundsException
+     *             if the range is not within the limit of <code>values</code>
+     * @throws ReadOnlyBufferException
+     *             if <code>values</code> is read-only
+     */
+    public void convert(DoubleBuffer values, int index, int length) {
+        checkRange(values.limit(), index, length);
+        if (values.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        if (values.hasArray()) {
+            convert(values.array(), values.arrayOffset() + index, length);
+            return;
+        }
+        final DoubleBuffer view = values.duplicate();
+        final double[] chunk = new double[Math.min(length, CHUNK_SIZE)];
+        for (int done = 0; done < length; done += chunk.length) {
+            final int count = Math.min(chunk.length, length - done);
+            ((Buffer) view).position(index + done);
+            view.get(chunk, 0, count);
+            convert(chunk, 0, count);
+            ((Buffer) view).position(index + done);
+            view.put(chunk, 0, count);
+        }
+    }
+
+    /**
+     * Converts the remaining values of a buffer into another buffer. Each value is converted in <code>double</code>
+     * precision. The positions of both buffers are advanced by the number of converted values, as with
+     * {@link FloatBuffer#put(FloatBuffer)}.
+     * <p>
+     * Distinct buffers over the same memory, e.g. a {@link FloatBuffer#duplicate() duplicate} or a
+     * {@link FloatBuffer#slice() slice} of a buffer, may overlap if both are backed by an accessible array, as with
+     * {@link System#arraycopy(Object, int, Object, int, int)}. Otherwise the values are copied through a chunk on the
+     * heap, and the remaining values of the two buffers must not overlap, as the overlap cannot be detected and the
+     * result is then undefined.
+     * </p>
+     *
+     * @param source
+     *            the values in the source unit
+     * @param destination
+     *            the buffer receiving the values in the target unit
+     * @throws BufferOverflowException
+     *             if there is less room remaining in <code>destination</code> than values remaining in
+     *             <code>source</code>
+     * @throws IllegalArgumentException
+     *             if the buffers are the same object, use {@link #convert(FloatBuffer, int, int)} to convert in place
+     * @throws ReadOnlyBufferException
+     *             if <code>destination</code> is read-only
+     */
+    public void convert(FloatBuffer source, FloatBuffer destination) {
+        if (source == destination) {
+            throw new IllegalArgumentException("The source buffer cannot be the destination buffer");
+        }
+        if (destination.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        final int length = source.remaining();
+        if (destination.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        if (source.hasArray() && destination.hasArray()) {
+            convert(source.array(), source.arrayOffset() + source.position(), destination.array(),
+                    destination.arrayOffset() + destination.position(), length);
+            ((Buffer) source).position(source.position() + length);
+            ((Buffer) destination).position(destination.position() + length);
+            return;
+        }
+        final float[] chunk = new float[Math.min(length, CHUNK_SIZE)];
+        for (int done = 0; done < length; done += chunk.length) {
+            final int count = Math.min(chunk.length, length - done);
+            source.get(chunk, 0, count);
+            convert(chunk, 0, count);
+            destination.put(chunk, 0, count);
+        }
+    }
+
+    /**
+     * Converts a range of values of a buffer in place. Each value is converted in <code>double</code> precision. The
+     * position of the buffer is not changed.
+     *
+     * @param values
+     *            the values in the source unit, replaced by the values in the target unit
+     * @param index
+     *            the index of the first value to convert
+     * @param length
+     *            the number of values to convert
+     * @throws IndexOutOfBoundsException
+     *             if the range is not within the limit of <code>values</code>
+     * @throws ReadOnlyBufferException
+     *             if <code>values</code> is read-only
+     */
+    public void convert(FloatBuffer values, int index, int length) {
+        checkRange(values.limit(), index, length);
+        if (values.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        if (values.hasArray()) {
+            convert(values.array(), values.arrayOffset() + index, length);
+            return;
+        }
+        final FloatBuffer view = values.duplicate();
+        final float[] chunk = new float[Math.min(length, CHUNK_SIZE)];
+        for (int done = 0; done < length; done += chunk.length) {
+            final int count = Math.min(chunk.length, length - done);
+            ((Buffer) view).position(index + done);
+            view.get(chunk, 0, count);
+            convert(chunk, 0, count);
+            ((Buffer) view).position(index + done);
+            view.put(chunk, 0, count);
+        }
+    }
+
+    /**
+     * Converts a range of values in place in parallel, in tasks of {@link #DEFAULT_GRAIN_SIZE} values.
+     *
+     * @param values
+     *            the values in the source unit, replaced by the values in the target unit
+     * @param offset
+     *            the index of the first value to convert
+     * @param length
+     *            the number of values to convert
+     * @param pool
+     *            the pool running the conversion tasks
+     * @throws ArrayIndexOutOfBoundsException
+     *             if the range is not within <code>values</code>
+     */
+    public void convertParallel(double[] values, int offset, int length, ForkJoinPool pool) {
+        convertParallel(values, offset, values, offset, length, pool, DEFAULT_GRAIN_SIZE);
+    }
+
+    /**
+     * Converts a range of values into a destination array in parallel. The range is split in halves until a part is no
+     * longer than the grain size, and the parts are converted by tasks in the given pool. A range no longer than the
+     * grain size is converted in the calling thread. The source and destination ranges may overlap.
+     *
+     * @param source
+     *            the values in the source unit
+     * @param sourceOffset
+     *            the index of the first value to convert
+     * @param destination
+     *            the array receiving the values in the target unit
+     * @param destinationOffset
+     *            the index of the first converted value in <code>destination</code>
+     * @param length
+     *            the number of values to convert
+     * @param pool
+     *            the pool running the conversion tasks
+     * @param grainSize
+     *            the maximum number of values converted by a single task
+     * @throws ArrayIndexOutOfBoundsException
+     *             if a range is not within its array
+     * @throws IllegalArgumentException
+     *             if <code>grainSize</code> is not positive
+     */
+    public void convertParallel(double[] source, int sourceOffset, double[] destination, int destinationOffset,
+            int length, ForkJoinPool pool, int grainSize) {
+        checkRange(source.length, sourceOffset, length);
+        checkRange(destination.length, destinationOffset, length);
+        if (length <= checkGrainSize(grainSize)) {
+            convert(source, sourceOffset, destination, destinationOffset, length);
+            return;
+        }
+        if (source == destination && sourceOffset != destinationOffset
+                && Math.abs(sourceOffset - destinationOffset) < length) {
+            System.arraycopy(source, sourceOffset, destination, destinationOffset, length);
+            sourceOffset = destinationOffset;
+        }
+        pool.invoke(new ConversionTask(this, source, sourceOffset, destination, destinationOffset, length, grainSize));
+    }
+
+    /**
+     * Converts a range of values in place in parallel, in tasks of {@link #DEFAULT_GRAIN_SIZE} values. Each value is
+     * converted in <code>double</code> precision.
+     *
+     * @param values
+     *            the values in the source unit, replaced by the values in the target unit
+     * @param offset
+     *            the index of the first value to convert
+     * @param length
+     *            the number of values to convert
+     * @param pool
+     *            the pool running the conversion tasks
+     * @throws ArrayIndexOutOfBoundsException
+     *             if the range is not within <code>values</code>
+     */
+    public void convertParallel(float[] values, int offset, int length, ForkJoinPool pool) {
+        convertParallel(values, offset, values, offset, length, pool, DEFAULT_GRAIN_SIZE);
+    }
+
+    /**
+     * Converts a range of values into a destination array in parallel, like
+     * {@link #convertParallel(double[], int, double[], int, int, ForkJoinPool, int)}. Each value is converted in
+     * <code>double</code> precision.
+     *
+     * @param source
+     *            the values in the source unit
+     * @param sourceOffset
+     *            the index of the first value to convert
+     * @param destination
+     *            the array receiving the values in the target unit
+     * @param destinationOffset
+     *            the index of the first converted value in <code>destination</code>
+     * @param length
+     *            the number of values to convert
+     * @param pool
+     *            the pool running the conversion tasks
+     * @param grainSize
+     *            the maximum number of values converted by a single task
+     * @throws ArrayIndexOutOfBoundsException
+     *             if a range is not within its array
+     * @throws IllegalArgumentException
+     *             if <code>grainSize</code> is not positive
+     */
+    public void convertParallel(float[] source, int sourceOffset, float[] destination, int destinationOffset,
+            int length, ForkJoinPool pool, int grainSize) {
+        checkRange(source.length, sourceOffset, length);
+        checkRange(destination.length, destinationOffset, length);
+        if (length <= checkGrainSize(grainSize)) {
+            convert(source, sourceOffset, destination, destinationOffset, length);
+            return;
+        }
+        if (source == destination && sourceOffset != destinationOffset
+                && Math.abs(sourceOffset - destinationOffset) < length) {
+            System.arraycopy(source, sourceOffset, destination, destinationOffset, length);
+            sourceOffset = destinationOffset;
+        }
+        pool.invoke(new ConversionTask(this, source, sourceOffset, destination, destinationOffset, length, grainSize));
+    }
+
+    @Override
+    public String toString() {
+        return "Compiled(" + converter + ")";
+    }
+
+    private static void checkRange(int arrayLength, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > arrayLength - length) {
+            throw new ArrayIndexOutOfBoundsException(
+                    "Range [" + offset + ", " + offset + " + " + length + ") out of bounds for length " + arrayLength);
+        }
+    }
+
+    private static int checkGrainSize(int grainSize) {
+        if (grainSize <= 0) {
+            throw new IllegalArgumentException("Grain size must be positive: " + grainSize);
+        }
+        return grainSize;
+    }
+
+    /**
+     * Chooses the shape evaluating <code>a * x + b</code> with the least rounding.
+     */
+    private static CompiledConverter affine(UnitConverter converter, RationalNumber a, RationalNumber b) {
+        if (b.signum() == 0) {
+            if (isOne(a)) {
+                return new CompiledConverter(converter, IDENTITY, 1, 0, null);
+            }
+            // dividing by an exact integer is correctly rounded, multiplying by its inexact reciprocal is not
+            if (isOne(a.getDividend()) && isExactInteger(a.getDivisor())) {
+                return new CompiledConverter(converter, DIVIDE, a.getDivisor().doubleValue(), 0, null);
+            }
+            return new CompiledConverter(converter, MULTIPLY, a.doubleValue(), 0, null);
+        }
+        if (isOne(a)) {
+            return new CompiledConverter(converter, ADD, 1, b.doubleValue(), null);
+        }
+        // shifting first keeps the result exact where the source offset is exact, e.g. 32°F -> 0°C
+        final RationalNumber shift = b.divide(a);
+        if (isExactDouble(shift)) {
+            return new CompiledConverter(converter, ADD_MULTIPLY, a.doubleValue(), shift.doubleValue(), null);
+        }
+        return new CompiledConverter(converter, MULTIPLY_ADD, a.doubleValue(), b.doubleValue(), null);
+    }
+
+    private static DoubleUnaryOperator compileStep(UnitConverter step) {
+        if (step instanceof LogConverter) {
+            final double base = ((LogConverter) step).getBase();
+            if (base == Math.E) {
+                return Math::log;
+            }
+            final double logOfBase = Math.log(base);
+            return x -> Math.log(x) / logOfBase;
+        }
+        if (step instanceof ExpConverter) {
+            final double base = ((ExpConverter) step).getBase();
+            if (base == Math.E) {
+                return Math::exp;
+            }
+            return x -> Math.pow(base, x);
+        }
+        return step::convert;
+    }
+
+    /**
+     * @return the exact value of <code>number</code>, or <code>null</code> if it is not finite
+     */
+    private static RationalNumber toRational(Number number) {
+        try {
+            if (number instanceof RationalNumber) {
+                return (RationalNumber) number;
+            }
+            if (number instanceof BigInteger) {
+                return RationalNumber.ofInteger((BigInteger) number);
+            }
+            if (number instanceof BigDecimal) {
+                return RationalNumber.of((BigDecimal) number);
+            }
+            if (number instanceof Double || number instanceof Float) {
+                return RationalNumber.of(number.doubleValue());
+            }
+            return RationalNumber.ofInteger(number.longValue());
+        } catch (ArithmeticException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static boolean isIdentity(RationalNumber a, RationalNumber b) {
+        return isOne(a) && b.signum() == 0;
+    }
+
+    private static boolean isOne(RationalNumber number) {
+        return isOne(number.getDividend()) && isOne(number.getDivisor());
+    }
+
+    private static boolean isOne(BigInteger number) {
+        return BigInteger.ONE.equals(number);
+    }
+
+    private static boolean isExactInteger(BigInteger number) {
+        return number.abs().compareTo(MAX_EXACT_INTEGER) <= 0;
+    }
+
+    private static boolean isExactDouble(RationalNumber number) {
+        final double value = number.doubleValue();
+        return !Double.isInfinite(value)
+                && RationalNumber.of(new BigDecimal(value)).equals(number);
+    }
+
+    /**
+     * Converts a range of a <code>double[]</code> or <code>float[]</code> column, splitting it in halves down to the
+     * grain size.
+     */
+    @SuppressWarnings("serial")
+    private static final class ConversionTask extends RecursiveAction {
+        private final CompiledConverter converter;
+        private final Object source;
+        private final int sourceOffset;
+        private final Object destination;
+        private final int destinationOffset;
+        private final int length;
+        private final int grainSize;
+
+        ConversionTask(CompiledConverter converter, Object source, int sourceOffset, Object destination,
+                int destinationOffset, int length, int grainSize) {
+            this.converter = converter;
+            this.source = source;
+            this.sourceOffset = sourceOffset;
+            this.destination = destination;
+            this.destinationOffset = destinationOffset;
+            this.length = length;
+            this.grainSize = grainSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (length <= grainSize) {
+                if (source instanceof double[]) {
+                    converter.convert((double[]) source, sourceOffset, (double[]) destination, destinationOffset, length);
+                } else {
+                    converter.convert((float[]) source, sourceOffset, (float[]) destination, destinationOffset, length);
+                }
+                return;
+            }
+            final int half = length >>> 1;
+            invokeAll(new ConversionTask(converter, source, sourceOffset, destination, destinationOffset, half, grainSize),
+                    new ConversionTask(converter, source, sourceOffset + half, destination, destinationOffset + half,
+                            length - half, grainSize));
+        }
+    }
+}
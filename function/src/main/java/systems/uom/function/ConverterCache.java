@@ -0,0 +1,286 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.function;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.measure.IncommensurableException;
+import javax.measure.Quantity;
+import javax.measure.UnconvertibleException;
+import javax.measure.Unit;
+
+/**
+ * <p>
+ * A bounded cache of the converters between pairs of units, which can be shared across threads.
+ * </p>
+ * <p>
+ * Looking up a converter with {@link Unit#getConverterTo(Unit)} walks both units to their system units and composes
+ * and normalizes the converters on every call. This cache keeps the {@link CompiledConverter} of each pair of units,
+ * whatever system of units they come from, so a recurring pair is looked up with a single {@link ConcurrentHashMap}
+ * probe. Once the cache holds more than its maximum size, pairs are evicted in insertion order, except that a pair looked
+ * up since it was last considered gets a second chance (the CLOCK approximation of LRU). Hits, misses and evictions are
+ * counted.
+ * </p>
+ * <p>
+ * {@link CompiledConverter#of(Unit, Unit)} uses the {@link #getDefault() default} cache.
+ * </p>
+ *
+ * @version 1.0, October 16, 2026
+ * @since 2.2.1
+ */
+public final class ConverterCache {
+
+    /**
+     * The maximum size of the default cache.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 4096;
+
+    private static final ConverterCache DEFAULT = new ConverterCache(DEFAULT_MAXIMUM_SIZE);
+
+    private static final class Entry {
+        final UnitPair key;
+        final CompiledConverter value;
+        volatile boolean referenced;
+
+        Entry(UnitPair key, CompiledConverter value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    private final int maximumSize;
+    private final ConcurrentHashMap<UnitPair, Entry> entries;
+    private final Queue<Entry> clock = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache holding the converters of at most <code>maximumSize</code> pairs of units.
+     *
+     * @param maximumSize
+     *            the maximum number of pairs, must be positive
+     */
+    public ConverterCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.entries = new ConcurrentHashMap<>(Math.min(maximumSize, 1 << 12));
+    }
+
+    /**
+     * Returns the cache shared by default, holding at most {@link #DEFAULT_MAXIMUM_SIZE} pairs.
+     *
+     * @return the default cache
+     */
+    public static ConverterCache getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the converter from the source to the target unit, compiling and caching it on a miss.
+     *
+     * @param source
+     *            the unit to convert from
+     * @param target
+     *            the unit to convert to
+     * @return the compiled <code>source.getConverterTo(target)</code>
+     * @throws UnconvertibleException
+     *             if the converter cannot be obtained
+     */
+    public <Q extends Quantity<Q>> CompiledConverter getConverterTo(Unit<Q> source, Unit<Q> target)
+            throws UnconvertibleException {
+        final UnitPair key = new UnitPair(source, target);
+        final CompiledConverter cached = get(key);
+        return cached != null ? cached : put(key, CompiledConverter.of(source.getConverterTo(target)));
+    }
+
+    /**
+     * Returns the converter from the source to the target unit of possibly different quantity types, compiling and
+     * caching it on a miss.
+     *
+     * @param source
+     *            the unit to convert from
+     * @param target
+     *            the unit to convert to
+     * @return the compiled <code>source.getConverterToAny(target)</code>
+     * @throws IncommensurableException
+     *             if the units are not compatible
+     * @throws UnconvertibleException
+     *             if the converter cannot be obtained
+     */
+    public CompiledConverter getConverterToAny(Unit<?> source, Unit<?> target)
+            throws IncommensurableException, UnconvertibleException {
+        final UnitPair key = new UnitPair(source, target);
+        final CompiledConverter cached = get(key);
+        return cached != null ? cached : put(key, CompiledConverter.of(source.getConverterToAny(target)));
+    }
+
+    private CompiledConverter get(UnitPair key) {
+        final Entry entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    private CompiledConverter put(UnitPair key, CompiledConverter value) {
+        final Entry entry = new Entry(key, value);
+        final Entry existing = entries.putIfAbsent(key, entry);
+        if (existing != null) {
+            return existing.value;
+        }
+        clock.add(entry);
+        if (size.incrementAndGet() > maximumSize) {
+            evict();
+        }
+        return value;
+    }
+
+    private void evict() {
+        synchronized (clock) {
+            Entry entry;
+            while (size.get() > maximumSize && (entry = clock.poll()) != null) {
+                if (entry.referenced) {
+                    entry.referenced = false;
+                    clock.add(entry);
+                } else if (entries.remove(entry.key, entry)) {
+                    size.decrementAndGet();
+                    evictions.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all pairs, the counters are kept.
+     */
+    public void clear() {
+        synchronized (clock) {
+            Entry entry;
+            while ((entry = clock.poll()) != null) {
+                if (entries.remove(entry.key, entry)) {
+                    size.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the current number of pairs
+     */
+    public int size() {
+        return Math.min(size.get(), maximumSize);
+    }
+
+    /**
+     * @return the maximum number of pairs
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @return the number of lookups that found a converter
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups that found no converter
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of pairs removed to stay within the maximum size
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the share of lookups that found a converter, <code>0</code> if there were no lookups yet
+     */
+    public double getHitRatio() {
+        final long hitCount = hits.sum();
+        final long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    @Override
+    public String toString() {
+        return "ConverterCache [size=" + size() + ", maximumSize=" + maximumSize + ", hits=" + getHitCount()
+                + ", misses=" + getMissCount() + ", evictions=" + getEvictionCount() + "]";
+    }
+
+    private static final class UnitPair {
+        private final Unit<?> source;
+        private final Unit<?> target;
+        private final int hashCode;
+
+        UnitPair(Unit<?> source, Unit<?> target) {
+            this.source = Objects.requireNonNull(source);
+            this.target = Objects.requireNonNull(target);
+            this.hashCode = 31 * source.hashCode() + target.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof UnitPair)) {
+                return false;
+            }
+            final UnitPair other = (UnitPair) obj;
+            return hashCode == other.hashCode && source.equals(other.source) && target.equals(other.target);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.function;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.measure.Dimension;
+import javax.measure.Unit;
+
+import tech.units.indriya.unit.UnitDimension;
+
+/**
+ * <p>
+ * Packed signatures of dimensions, for checking whether units are commensurable by comparing two <code>long</code> values.
+ * </p>
+ * <p>
+ * The signature of a dimension holds the exponents of the seven SI base dimensions, length, mass, time, electric current,
+ * temperature, amount of substance and luminous intensity, as signed bytes of a <code>long</code>. The base units of UCUM
+ * map onto these, the radian is dimensionless and the coulomb is the ampere second. A dimension made of other base
+ * dimensions, or with an exponent out of the range of a byte, has the signature {@link #UNKNOWN}, which is not
+ * commensurable with any signature, including itself.
+ * </p>
+ * <p>
+ * {@link Unit#getDimension()} builds the dimension of a product unit from the dimensions of its elements on every call.
+ * The signatures of units are therefore cached, up to a maximum number of units beyond which the cache is cleared. The
+ * units of the systems of this module are cached when they are indexed, and <code>UCUMFormat</code> caches the
+ * signature of each unit it parses into its parse cache.
+ * </p>
+ *
+ * @version 1.0, October 16, 2026
+ * @since 2.2.1
+ */
+public final class DimensionSignature {
+
+    /**
+     * The signature of dimensions which cannot be packed.
+     */
+    public static final long UNKNOWN = Long.MIN_VALUE;
+
+    /**
+     * The signature of dimensionless units.
+     */
+    public static final long NONE = 0L;
+
+    /**
+     * The maximum number of units whose signature is cached.
+     */
+    public static final int MAXIMUM_CACHE_SIZE = 8192;
+
+    private static final Dimension[] BASE_DIMENSIONS = { UnitDimension.LENGTH, UnitDimension.MASS, UnitDimension.TIME,
+            UnitDimension.ELECTRIC_CURRENT, UnitDimension.TEMPERATURE, UnitDimension.AMOUNT_OF_SUBSTANCE,
+            UnitDimension.LUMINOUS_INTENSITY };
+
+    private static final ConcurrentHashMap<Unit<?>, Long> CACHE = new ConcurrentHashMap<>();
+
+    private DimensionSignature() {
+    }
+
+    /**
+     * Returns the signature of the dimension of the given unit, cached on first use.
+     *
+     * @param unit
+     *            the unit
+     * @return the signature of <code>unit.getDimension()</code>
+     */
+    public static long of(Unit<?> unit) {
+        final Long cached = CACHE.get(unit);
+        if (cached != null) {
+            return cached;
+        }
+        final long signature = of(unit.getDimension());
+        if (CACHE.size() >= MAXIMUM_CACHE_SIZE) {
+            CACHE.clear();
+        }
+        CACHE.put(unit, signature);
+        return signature;
+    }
+
+    /**
+     * Returns the signature of the given dimension.
+     *
+     * @param dimension
+     *            the dimension
+     * @return the packed exponents of the base dimensions of <code>dimension</code>, or {@link #UNKNOWN}
+     */
+    public static long of(Dimension dimension) {
+        final Map<? extends Dimension, Integer> baseDimensions = dimension.getBaseDimensions();
+        if (baseDimensions == null) {
+            return UnitDimension.NONE.equals(dimension) ? NONE : signature(NONE, dimension, 1);
+        }
+        long signature = NONE;
+        for (Map.Entry<? extends Dimension, Integer> entry : baseDimensions.entrySet()) {
+            signature = signature(signature, entry.getKey(), entry.getValue());
+            if (signature == UNKNOWN) {
+                break;
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Returns whether two signatures are those of commensurable units, i.e. equal and not {@link #UNKNOWN}.
+     *
+     * @param a
+     *            the first signature
+     * @param b
+     *            the second signature
+     * @return <code>true</code> if the signatures are equal and known
+     */
+    public static boolean isCommensurable(long a, long b) {
+        return a == b && a != UNKNOWN;
+    }
+
+    /**
+     * Returns whether two units are commensurable, comparing their {@link #of(Unit) signatures} or, if these are
+     * {@link #UNKNOWN}, their dimensions.
+     *
+     * @param a
+     *            the first unit
+     * @param b
+     *            the second unit
+     * @return <code>true</code> if the units have the same dimension
+     */
+    public static boolean isCommensurable(Unit<?> a, Unit<?> b) {
+        final long signature = of(a);
+        if (signature == UNKNOWN) {
+            return a.getDimension().equals(b.getDimension());
+        }
+        return signature == of(b);
+    }
+
+    /**
+     * Returns the exponent of the given base dimension in a signature.
+     *
+     * @param signature
+     *            the signature, not {@link #UNKNOWN}
+     * @param baseDimension
+     *            one of the SI base dimensions of {@link UnitDimension}
+     * @return the exponent of <code>baseDimension</code>
+     * @throws IllegalArgumentException
+     *             if <code>baseDimension</code> is not an SI base dimension
+     */
+    public static int exponentOf(long signature, Dimension baseDimension) {
+        final int index = indexOf(baseDimension);
+        if (index < 0) {
+            throw new IllegalArgumentException("Not an SI base dimension: " + baseDimension);
+        }
+        return (byte) (signature >>> (index * Byte.SIZE));
+    }
+
+    private static long signature(long signature, Dimension baseDimension, int exponent) {
+        final int index = indexOf(baseDimension);
+        if (index < 0) {
+            return UNKNOWN;
+        }
+        final int shift = index * Byte.SIZE;
+        final int sum = (byte) (signature >>> shift) + exponent;
+        if (sum < Byte.MIN_VALUE || sum > Byte.MAX_VALUE) {
+            return UNKNOWN;
+        }
+        return (signature & ~(0xFFL << shift)) | ((sum & 0xFFL) << shift);
+    }
+
+    private static int indexOf(Dimension baseDimension) {
+        for (int i = 0; i < BASE_DIMENSIONS.length; i++) {
+            if (BASE_DIMENSIONS[i].equals(baseDimension)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
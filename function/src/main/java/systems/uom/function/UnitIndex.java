@@ -0,0 +1,195 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.function;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.measure.Dimension;
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+import tech.units.indriya.format.UnitStyle;
+import tech.units.indriya.unit.Units;
+
+/**
+ * <p>
+ * An immutable index of the units of a system of units by their dimension, quantity type, name and symbol.
+ * </p>
+ * <p>
+ * The lookups of <code>AbstractSystemOfUnits</code> by dimension, name and symbol scan all units of the system on every
+ * call. This index is built once from the units of a system, after it has been initialized, and answers the same lookups
+ * with a {@link HashMap} probe. Where several units match, the first of them in the iteration order of the units wins,
+ * as it does for the scans. Building the index also caches the {@link DimensionSignature} of each unit.
+ * </p>
+ *
+ * @version 1.0, October 16, 2026
+ * @since 2.2.1
+ */
+public final class UnitIndex {
+
+    private final Map<Dimension, Set<Unit<?>>> unitsByDimension = new HashMap<>();
+    private final Map<Class<?>, Unit<?>> unitByType = new HashMap<>();
+    private final Map<String, Unit<?>> unitByString = new HashMap<>();
+    private final Map<String, Unit<?>> unitByName = new HashMap<>();
+    private final Map<String, Unit<?>> unitByNameIgnoreCase = new HashMap<>();
+    private final Map<String, Unit<?>> unitBySymbol = new HashMap<>();
+    private final Map<String, Unit<?>> unitBySymbolIgnoreCase = new HashMap<>();
+
+    private UnitIndex(Set<? extends Unit<?>> units, Map<? extends Class<?>, ? extends Unit<?>> quantityToUnit) {
+        final Map<Dimension, Set<Unit<?>>> dimensions = new HashMap<>();
+        for (Unit<?> unit : units) {
+            dimensions.computeIfAbsent(unit.getDimension(), d -> new LinkedHashSet<>()).add(unit);
+            DimensionSignature.of(unit);
+            unitByString.putIfAbsent(unit.toString(), unit);
+            final String name = unit.getName();
+            if (name != null) {
+                unitByName.putIfAbsent(name, unit);
+                unitByNameIgnoreCase.putIfAbsent(fold(name), unit);
+            }
+            final String symbol = unit.getSymbol();
+            if (symbol != null) {
+                unitBySymbol.putIfAbsent(symbol, unit);
+                unitBySymbolIgnoreCase.putIfAbsent(fold(symbol), unit);
+            }
+        }
+        dimensions.forEach((dimension, set) -> unitsByDimension.put(dimension, Collections.unmodifiableSet(set)));
+        unitByType.putAll(quantityToUnit);
+    }
+
+    /**
+     * Returns the index of the given units.
+     *
+     * @param units
+     *            the units of a system, in the order the lookups by name and symbol should prefer them
+     * @param quantityToUnit
+     *            the unit of each quantity type of the system
+     * @return the index of <code>units</code>
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public static UnitIndex of(Set<? extends Unit<?>> units, Map<? extends Class, ? extends Unit> quantityToUnit) {
+        return new UnitIndex(units, (Map) quantityToUnit);
+    }
+
+    /**
+     * Returns the units of the given dimension.
+     *
+     * @param dimension
+     *            the dimension of the units
+     * @return the unmodifiable set of the units of <code>dimension</code>, empty if there is none
+     */
+    public Set<Unit<?>> getUnits(Dimension dimension) {
+        final Set<Unit<?>> units = unitsByDimension.get(dimension);
+        return units != null ? units : Collections.emptySet();
+    }
+
+    /**
+     * Returns the units of the dimension of the given quantity type, i.e. the units commensurable with its
+     * {@link #getUnit(Class) unit}, or with its unit in {@link Units} if the indexed units have none.
+     *
+     * @param <Q>
+     *            the compile-time quantity type
+     * @param quantityType
+     *            the quantity type
+     * @return the unmodifiable set of the units of <code>quantityType</code>, empty if the quantity type has no unit
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public <Q extends Quantity<Q>> Set<Unit<Q>> getUnits(Class<Q> quantityType) {
+        Unit<Q> unit = getUnit(quantityType);
+        if (unit == null) {
+            unit = Units.getInstance().getUnit(quantityType);
+        }
+        return unit != null ? (Set) getUnits(unit.getDimension()) : Collections.emptySet();
+    }
+
+    /**
+     * Returns the unit of the given quantity type.
+     *
+     * @param <Q>
+     *            the compile-time quantity type
+     * @param quantityType
+     *            the quantity type
+     * @return the unit of <code>quantityType</code> or <code>null</code> if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public <Q extends Quantity<Q>> Unit<Q> getUnit(Class<Q> quantityType) {
+        return (Unit<Q>) unitByType.get(quantityType);
+    }
+
+    /**
+     * Returns the unit whose string representation is the given string.
+     *
+     * @param string
+     *            the string representation of the unit
+     * @return the unit or <code>null</code> if there is none
+     */
+    public Unit<?> getUnit(String string) {
+        return unitByString.get(string);
+    }
+
+    /**
+     * Returns the unit with the given name or symbol.
+     *
+     * @param string
+     *            the name or symbol of the unit
+     * @param style
+     *            {@link UnitStyle#NAME} or {@link UnitStyle#SYMBOL} to look up the unit by its name or symbol, otherwise
+     *            the unit is looked up by its {@link #getUnit(String) string representation}
+     * @param ignoreCase
+     *            if the case of names and symbols is ignored
+     * @return the unit or <code>null</code> if there is none
+     */
+    public Unit<?> getUnit(String string, UnitStyle style, boolean ignoreCase) {
+        Objects.requireNonNull(string);
+        switch (style) {
+        case NAME:
+            return ignoreCase ? unitByNameIgnoreCase.get(fold(string)) : unitByName.get(string);
+        case SYMBOL:
+            return ignoreCase ? unitBySymbolIgnoreCase.get(fold(string)) : unitBySymbol.get(string);
+        default:
+            return getUnit(string);
+        }
+    }
+
+    /**
+     * @return a key equal for the strings equal by {@link String#equalsIgnoreCase(String)}
+     */
+    private static String fold(String text) {
+        final char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+}
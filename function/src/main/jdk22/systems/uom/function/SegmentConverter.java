@@ -0,0 +1,170 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.function;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * <p>
+ * Converts values in a {@link MemorySegment} with a {@link CompiledConverter}, e.g. in a file mapped with
+ * {@link java.nio.channels.FileChannel#map(java.nio.channels.FileChannel.MapMode, long, long, java.lang.foreign.Arena)}.
+ * </p>
+ * <p>
+ * The values are read and written with the given layout, which defines their byte order and alignment, and are
+ * converted through a small chunk on the heap. Segments are addressed with <code>long</code> offsets, so a single
+ * segment can be larger than 2 GB, and the heap usage does not depend on the size of the segment.
+ * </p>
+ *
+ * @version 1.0, October 16, 2026
+ * @since 2.2.1
+ */
+public final class SegmentConverter {
+
+    // the number of values copied between a segment and the heap at a time
+    private static final int CHUNK_SIZE = 4096;
+
+    private SegmentConverter() {
+    }
+
+    /**
+     * Converts the values of a segment in place.
+     *
+     * @param converter
+     *            the converter
+     * @param values
+     *            the values in the source unit, replaced by the values in the target unit
+     * @param layout
+     *            the layout of a value
+     * @throws IllegalArgumentException
+     *             if the size of <code>values</code> is not a multiple of the size of <code>layout</code>, or if
+     *             <code>values</code> is read-only
+     */
+    public static void convert(CompiledConverter converter, MemorySegment values, ValueLayout.OfDouble layout) {
+        convert(converter, values, values, layout);
+    }
+
+    /**
+     * Converts the values of a segment into another segment. The segments may be the same, but may not otherwise
+     * overlap.
+     *
+     * @param converter
+     *            the converter
+     * @param source
+     *            the values in the source unit
+     * @param destination
+     *            the segment receiving the values in the target unit, starting at offset 0
+     * @param layout
+     *            the layout of a value in both segments
+     * @throws IllegalArgumentException
+     *             if the size of <code>source</code> is not a multiple of the size of <code>layout</code>, if the
+     *             segments overlap at different offsets, or if <code>destination</code> is read-only
+     * @throws IndexOutOfBoundsException
+     *             if <code>destination</code> is smaller than <code>source</code>
+     */
+    public static void convert(CompiledConverter converter, MemorySegment source, MemorySegment destination,
+            ValueLayout.OfDouble layout) {
+        final long count = count(source, destination, layout);
+        final double[] chunk = new double[(int) Math.min(count, CHUNK_SIZE)];
+        for (long done = 0; done < count; done += chunk.length) {
+            final int length = (int) Math.min(chunk.length, count - done);
+            final long offset = done * layout.byteSize();
+            MemorySegment.copy(source, layout, offset, chunk, 0, length);
+            converter.convert(chunk, 0, length);
+            MemorySegment.copy(chunk, 0, destination, layout, offset, length);
+        }
+    }
+
+    /**
+     * Converts the values of a segment in place. Each value is converted in <code>double</code> precision.
+     *
+     * @param converter
+     *            the converter
+     * @param values
+     *            the values in the source unit, replaced by the values in the target unit
+     * @param layout
+     *            the layout of a value
+     * @throws IllegalArgumentException
+     *             if the size of <code>values</code> is not a multiple of the size of <code>layout</code>, or if
+     *             <code>values</code> is read-only
+     */
+    public static void convert(CompiledConverter converter, MemorySegment values, ValueLayout.OfFloat layout) {
+        convert(converter, values, values, layout);
+    }
+
+    /**
+     * Converts the values of a segment into another segment. Each value is converted in <code>double</code> precision.
+     * The segments may be the same, but may not otherwise overlap.
+     *
+     * @param converter
+     *            the converter
+     * @param source
+     *            the values in the source unit
+     * @param destination
+     *            the segment receiving the values in the target unit, starting at offset 0
+     * @param layout
+     *            the layout of a value in both segments
+     * @throws IllegalArgumentException
+     *             if the size of <code>source</code> is not a multiple of the size of <code>layout</code>, if the
+     *             segments overlap at different offsets, or if <code>destination</code> is read-only
+     * @throws IndexOutOfBoundsException
+     *             if <code>destination</code> is smaller than <code>source</code>
+     */
+    public static void convert(CompiledConverter converter, MemorySegment source, MemorySegment destination,
+            ValueLayout.OfFloat layout) {
+        final long count = count(source, destination, layout);
+        final float[] chunk = new float[(int) Math.min(count, CHUNK_SIZE)];
+        for (long done = 0; done < count; done += chunk.length) {
+            final int length = (int) Math.min(chunk.length, count - done);
+            final long offset = done * layout.byteSize();
+            MemorySegment.copy(source, layout, offset, chunk, 0, length);
+            converter.convert(chunk, 0, length);
+            MemorySegment.copy(chunk, 0, destination, layout, offset, length);
+        }
+    }
+
+    private static long count(MemorySegment source, MemorySegment destination, ValueLayout layout) {
+        if (source.byteSize() % layout.byteSize() != 0) {
+            throw new IllegalArgumentException(
+                    "Segment size " + source.byteSize() + " is not a multiple of " + layout.byteSize());
+        }
+        if (destination.byteSize() < source.byteSize()) {
+            throw new IndexOutOfBoundsException(
+                    "Destination size " + destination.byteSize() + " is smaller than " + source.byteSize());
+        }
+        if (destination.isReadOnly()) {
+            throw new IllegalArgumentException("Destination segment is read-only");
+        }
+        if (source.asOverlappingSlice(destination).isPresent() && source.segmentOffset(destination) != 0) {
+            throw new IllegalArgumentException("Segments overlap at different offsets");
+        }
+        return source.byteSize() / layout.byteSize();
+    }
+}
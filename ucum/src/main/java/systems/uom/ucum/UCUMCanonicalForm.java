@@ -0,0 +1,491 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.ucum;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.measure.IncommensurableException;
+import javax.measure.MeasurementException;
+import javax.measure.UnconvertibleException;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+import systems.uom.function.DimensionSignature;
+import systems.uom.ucum.format.UCUMFormat;
+import systems.uom.ucum.format.UCUMFormat.Variant;
+
+/**
+ * <p>
+ * The canonical form of a <a href="http://ucum.org/">UCUM</a> expression: a factor times a product of powers of base
+ * atoms. Equivalent expressions like <code>mg/dL</code>, <code>mg.dL-1</code>, <code>mg/(dL)</code> and
+ * <code>10.mg/L</code> have equal canonical forms, proportional ones differ only in their factor.
+ * </p>
+ *
+ * <p>
+ * The base atoms are the UCUM base units <code>m</code>, <code>g</code>, <code>s</code>, <code>K</code>,
+ * <code>C</code> and <code>cd</code>, and <code>mol</code>, which is a base dimension in this system of units. The
+ * radian is dimensionless. Annotations have no meaning in UCUM and are dropped. Units which are not on a ratio scale,
+ * like <code>Cel</code> or <code>[pH]</code>, cannot be reduced and are kept as atoms of their own.
+ * </p>
+ *
+ * <p>
+ * {@link #of(CharSequence)} computes the canonical form while reading the expression, from the canonical forms of its
+ * atoms, without building the {@link Unit} of the expression. Factors are compared rounded to 15 significant digits.
+ * {@link #getKey()} is a compact UCUM expression of the canonical form and {@link #getHashHigh()} and
+ * {@link #getHashLow()} are a 128-bit hash of it.
+ * </p>
+ *
+ * <p>
+ * Instances are immutable.
+ * </p>
+ *
+ * @see UCUMFormat#canonicalize(CharSequence)
+ * @version 1.0, October 16, 2026
+ * @since 2.2.1
+ */
+public final class UCUMCanonicalForm {
+
+    /**
+     * The canonical form of the unit <code>1</code>.
+     */
+    public static final UCUMCanonicalForm ONE = new UCUMCanonicalForm(1, DimensionSignature.NONE, null, null);
+
+    private static final int DIGITS = 15;
+    private static final long MANTISSA_LIMIT = (long) Math.pow(10, DIGITS);
+    private static final long ROUNDED = 1L << 62;
+    private static final int POWER_BITS = 12;
+    private static final int BASE_ATOMS = 7;
+    private static final int LENGTH = 0;
+    private static final int MASS = 1;
+    private static final int TIME = 2;
+    private static final int CURRENT = 3;
+    private static final int TEMPERATURE = 4;
+    private static final int AMOUNT = 5;
+    private static final int LUMINOUS_INTENSITY = 6;
+
+    /** The base atoms in the order of their symbols, with the indices of their exponents. */
+    private static final String[] SYMBOLS = { "C", "K", "cd", "g", "m", "mol", "s" };
+    private static final int[] INDICES = { CURRENT, TEMPERATURE, LUMINOUS_INTENSITY, MASS, LENGTH, AMOUNT, TIME };
+
+    private final double factor;
+    /** The exponents of the SI base dimensions, packed like {@link DimensionSignature}. */
+    private final long exponents;
+    /** The sorted symbols of the atoms which cannot be reduced, <code>null</code> if there are none. */
+    private final String[] symbols;
+    private final int[] symbolExponents;
+
+    /** The rounded factor, <code>ROUNDED | mantissa &lt;&lt; 12 | power of ten &amp; 0xFFF</code>, 0 if not rounded yet. */
+    private volatile long rounded;
+    private String key;
+
+    private UCUMCanonicalForm(double factor, long exponents, String[] symbols, int[] symbolExponents) {
+        if (!(factor >= 0) || Double.isInfinite(factor)) {
+            throw new ArithmeticException("Factor out of range: " + factor);
+        }
+        this.factor = factor;
+        this.exponents = exponents;
+        this.symbols = symbols;
+        this.symbolExponents = symbolExponents;
+    }
+
+    /**
+     * Returns the canonical form of a case sensitive UCUM expression.
+     *
+     * @param code
+     *            the UCUM expression
+     * @return the canonical form of <code>code</code>
+     * @throws MeasurementException
+     *             if the expression cannot be parsed
+     * @throws ArithmeticException
+     *             if an exponent or the factor of the canonical form is out of range
+     */
+    public static UCUMCanonicalForm of(CharSequence code) {
+        return UCUMFormat.getInstance(Variant.CASE_SENSITIVE).canonicalize(code);
+    }
+
+    /**
+     * Returns the canonical form of a UCUM expression of the given variant.
+     *
+     * @param variant
+     *            {@link Variant#CASE_SENSITIVE} or {@link Variant#CASE_INSENSITIVE}
+     * @param code
+     *            the UCUM expression
+     * @return the canonical form of <code>code</code>
+     * @throws MeasurementException
+     *             if the expression cannot be parsed
+     * @throws ArithmeticException
+     *             if an exponent or the factor of the canonical form is out of range
+     * @throws UnsupportedOperationException
+     *             if the variant does not support parsing
+     */
+    public static UCUMCanonicalForm of(Variant variant, CharSequence code) {
+        return UCUMFormat.getInstance(variant).canonicalize(code);
+    }
+
+    /**
+     * Returns the canonical form of a unit on a ratio scale, from its converter to its system unit.
+     *
+     * @param unit
+     *            the unit
+     * @return the canonical form of <code>unit</code>
+     * @throws IllegalArgumentException
+     *             if the unit is not on a ratio scale or its dimension is not made of SI base dimensions
+     */
+    public static UCUMCanonicalForm of(Unit<?> unit) {
+        final long exponents = DimensionSignature.of(unit);
+        if (exponents == DimensionSignature.UNKNOWN) {
+            throw new IllegalArgumentException("Not an SI dimension: " + unit.getDimension());
+        }
+        final UnitConverter converter;
+        try {
+            converter = unit.getConverterToAny(unit.getSystemUnit());
+        } catch (IncommensurableException | UnconvertibleException | UnsupportedOperationException e) {
+            // products of units not on a ratio scale, like B2, have no converter
+            throw new IllegalArgumentException(e);
+        }
+        if (!converter.isLinear()) {
+            throw new IllegalArgumentException("Not on a ratio scale: " + unit);
+        }
+        // the system unit of mass is kg, the base atom is g
+        final int mass = (byte) (exponents >>> (MASS * Byte.SIZE));
+        return new UCUMCanonicalForm(converter.convert(1.0) * Math.pow(1000, mass), exponents, null, null);
+    }
+
+    /**
+     * Returns the canonical form of an atom which cannot be reduced, like <code>Cel</code> or <code>[pH]</code>.
+     *
+     * @param symbol
+     *            the symbol of the atom
+     * @return the canonical form consisting of the atom
+     */
+    public static UCUMCanonicalForm ofAtom(String symbol) {
+        return new UCUMCanonicalForm(1, DimensionSignature.NONE, new String[] { symbol }, new int[] { 1 });
+    }
+
+    /**
+     * Returns the canonical form of a factor.
+     *
+     * @param factor
+     *            a non-negative factor
+     * @return the canonical form of <code>factor</code>
+     */
+    public static UCUMCanonicalForm ofFactor(double factor) {
+        return new UCUMCanonicalForm(factor, DimensionSignature.NONE, null, null);
+    }
+
+    /**
+     * @param multiplier
+     *            a non-negative factor
+     * @return the canonical form of this times <code>multiplier</code>
+     */
+    public UCUMCanonicalForm multiply(double multiplier) {
+        return new UCUMCanonicalForm(factor * multiplier, exponents, symbols, symbolExponents);
+    }
+
+    /**
+     * @param that
+     *            the canonical form to multiply by
+     * @return the canonical form of this times <code>that</code>
+     * @throws ArithmeticException
+     *             if an exponent is out of range
+     */
+    public UCUMCanonicalForm multiply(UCUMCanonicalForm that) {
+        return combine(that, 1);
+    }
+
+    /**
+     * @param that
+     *            the canonical form to divide by
+     * @return the canonical form of this divided by <code>that</code>
+     * @throws ArithmeticException
+     *             if an exponent is out of range
+     */
+    public UCUMCanonicalForm divide(UCUMCanonicalForm that) {
+        return combine(that, -1);
+    }
+
+    /**
+     * @param n
+     *            the exponent
+     * @return the canonical form of this raised to <code>n</code>
+     * @throws ArithmeticException
+     *             if an exponent is out of range
+     */
+    public UCUMCanonicalForm pow(int n) {
+        int[] powers = null;
+        if (symbols != null) {
+            powers = new int[symbols.length];
+            for (int i = 0; i < powers.length; i++) {
+                powers[i] = Math.multiplyExact(symbolExponents[i], n);
+            }
+        }
+        return new UCUMCanonicalForm(Math.pow(factor, n), add(DimensionSignature.NONE, exponents, n), symbols, powers);
+    }
+
+    private UCUMCanonicalForm combine(UCUMCanonicalForm that, int sign) {
+        final double product = sign > 0 ? factor * that.factor : factor / that.factor;
+        final long sum = add(exponents, that.exponents, sign);
+        if (that.symbols == null) {
+            return new UCUMCanonicalForm(product, sum, symbols, symbolExponents);
+        }
+        final Map<String, Integer> atoms = new TreeMap<>();
+        for (int i = 0; symbols != null && i < symbols.length; i++) {
+            atoms.put(symbols[i], symbolExponents[i]);
+        }
+        for (int i = 0; i < that.symbols.length; i++) {
+            atoms.merge(that.symbols[i], sign * that.symbolExponents[i], Math::addExact);
+        }
+        atoms.values().removeIf(e -> e == 0);
+        if (atoms.isEmpty()) {
+            return new UCUMCanonicalForm(product, sum, null, null);
+        }
+        final String[] mergedSymbols = atoms.keySet().toArray(new String[0]);
+        final int[] mergedExponents = new int[mergedSymbols.length];
+        for (int i = 0; i < mergedSymbols.length; i++) {
+            mergedExponents[i] = atoms.get(mergedSymbols[i]);
+        }
+        return new UCUMCanonicalForm(product, sum, mergedSymbols, mergedExponents);
+    }
+
+    /**
+     * @return the packed exponents of <code>a + times * b</code>
+     */
+    private static long add(long a, long b, int times) {
+        long sum = 0;
+        for (int i = 0; i < BASE_ATOMS; i++) {
+            final int shift = i * Byte.SIZE;
+            final long exponent = (byte) (a >>> shift) + (long) (byte) (b >>> shift) * times;
+            if (exponent < Byte.MIN_VALUE || exponent > Byte.MAX_VALUE) {
+                throw new ArithmeticException("Exponent out of range: " + exponent);
+            }
+            sum |= (exponent & 0xFFL) << shift;
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the factor of this canonical form, rounded to 15 significant digits.
+     *
+     * @return the factor
+     */
+    public double getFactor() {
+        final long rounded = round();
+        return new BigDecimal(BigInteger.valueOf(mantissa(rounded)), -power(rounded)).doubleValue();
+    }
+
+    /**
+     * Returns the exponent of a base atom or of an atom which cannot be reduced.
+     *
+     * @param symbol
+     *            the symbol of the atom
+     * @return the exponent of the atom, <code>0</code> if this canonical form does not contain it
+     */
+    public int getExponent(String symbol) {
+        for (int i = 0; i < SYMBOLS.length; i++) {
+            if (SYMBOLS[i].equals(symbol)) {
+                return exponentOf(i);
+            }
+        }
+        final int index = symbols == null ? -1 : Arrays.binarySearch(symbols, symbol);
+        return index < 0 ? 0 : symbolExponents[index];
+    }
+
+    /**
+     * @return the exponent of the base atom <code>SYMBOLS[i]</code>, the coulomb standing in for the ampere as C.s-1
+     */
+    private int exponentOf(int i) {
+        final int exponent = (byte) (exponents >>> (INDICES[i] * Byte.SIZE));
+        if (INDICES[i] == TIME) {
+            return exponent - (byte) (exponents >>> (CURRENT * Byte.SIZE));
+        }
+        return exponent;
+    }
+
+    /**
+     * Returns whether this canonical form and the given one differ at most in their factor, i.e. whether they are the canonical
+     * forms of proportional units.
+     *
+     * @param that
+     *            the other canonical form
+     * @return <code>true</code> if the exponents of all atoms are equal
+     */
+    public boolean isProportional(UCUMCanonicalForm that) {
+        return exponents == that.exponents && Arrays.equals(symbols, that.symbols)
+                && Arrays.equals(symbolExponents, that.symbolExponents);
+    }
+
+    /**
+     * Returns a compact UCUM expression of this canonical form: the factor, as an integer and a power of ten, followed by
+     * the atoms with their exponents, sorted by their symbols. For example, the key of <code>mg/dL</code> is
+     * <code>10.g.m-3</code>, the key of <code>ug/L</code> is <code>10*-3.g.m-3</code>.
+     *
+     * @return the canonical key
+     */
+    public String getKey() {
+        String result = key;
+        if (result == null) {
+            key = result = buildKey();
+        }
+        return result;
+    }
+
+    private String buildKey() {
+        final long rounded = round();
+        final long mantissa = mantissa(rounded);
+        final int exponent10 = power(rounded);
+        final StringBuilder buffer = new StringBuilder();
+        if (exponent10 >= 0 && exponent10 <= 3) {
+            if (mantissa != 1 || exponent10 != 0) {
+                buffer.append(BigInteger.valueOf(mantissa).multiply(BigInteger.TEN.pow(exponent10)));
+            }
+        } else {
+            if (mantissa != 1) {
+                buffer.append(mantissa);
+            }
+            appendSeparator(buffer).append("10*").append(exponent10);
+        }
+        int next = 0;
+        for (int i = 0; i < SYMBOLS.length; i++) {
+            while (symbols != null && next < symbols.length && symbols[next].compareTo(SYMBOLS[i]) < 0) {
+                appendAtom(buffer, symbols[next], symbolExponents[next]);
+                next++;
+            }
+            appendAtom(buffer, SYMBOLS[i], exponentOf(i));
+        }
+        while (symbols != null && next < symbols.length) {
+            appendAtom(buffer, symbols[next], symbolExponents[next]);
+            next++;
+        }
+        return buffer.length() == 0 ? "1" : buffer.toString();
+    }
+
+    private static void appendAtom(StringBuilder buffer, String symbol, int exponent) {
+        if (exponent != 0) {
+            appendSeparator(buffer).append(symbol);
+            if (exponent != 1) {
+                buffer.append(exponent);
+            }
+        }
+    }
+
+    private static StringBuilder appendSeparator(StringBuilder buffer) {
+        return buffer.length() == 0 ? buffer : buffer.append('.');
+    }
+
+    /**
+     * @return the high 64 bits of a 128-bit hash of the canonical form
+     */
+    public long getHashHigh() {
+        long hash = mix(exponents * 0xC2B2AE3D27D4EB4FL + power(round()));
+        for (int i = 0; symbols != null && i < symbols.length; i++) {
+            hash = mix(hash ^ (symbols[i].hashCode() * 0x9E3779B97F4A7C15L + symbolExponents[i]));
+        }
+        return hash;
+    }
+
+    /**
+     * @return the low 64 bits of a 128-bit hash of the canonical form
+     */
+    public long getHashLow() {
+        return mix(mantissa(round()) * 0x9E3779B97F4A7C15L ^ getHashHigh());
+    }
+
+    /**
+     * The finalization step of MurmurHash3.
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Rounds the factor to a mantissa of at most 15 digits without trailing zeros and a power of ten, once.
+     */
+    private long round() {
+        long result = rounded;
+        if (result != 0) {
+            return result;
+        }
+        long m = 0;
+        int e = 0;
+        if (factor > 0) {
+            e = (int) Math.floor(Math.log10(factor)) - (DIGITS - 1);
+            m = Math.round(e >= 0 ? factor / Math.pow(10, e) : factor * Math.pow(10, -e));
+            if (m >= MANTISSA_LIMIT) { // rounded up to one more digit
+                m = (m + 5) / 10;
+                e++;
+            }
+            while (m % 10 == 0) {
+                m /= 10;
+                e++;
+            }
+        }
+        rounded = result = ROUNDED | m << POWER_BITS | (e & ((1 << POWER_BITS) - 1));
+        return result;
+    }
+
+    private static long mantissa(long rounded) {
+        return (rounded & ~ROUNDED) >>> POWER_BITS;
+    }
+
+    private static int power(long rounded) {
+        return (int) ((rounded << (Long.SIZE - POWER_BITS)) >> (Long.SIZE - POWER_BITS));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof UCUMCanonicalForm)) {
+            return false;
+        }
+        final UCUMCanonicalForm that = (UCUMCanonicalForm) obj;
+        return round() == that.round() && isProportional(that);
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) getHashLow();
+    }
+
+    @Override
+    public String toString() {
+        return getKey();
+    }
+}
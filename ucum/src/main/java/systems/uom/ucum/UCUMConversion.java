@@ -0,0 +1,284 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.ucum;
+
+import java.util.Objects;
+import java.util.function.DoubleUnaryOperator;
+
+import javax.measure.IncommensurableException;
+import javax.measure.MeasurementException;
+import javax.measure.Unit;
+
+import systems.uom.function.CompiledConverter;
+import systems.uom.ucum.format.UCUMCache;
+import systems.uom.ucum.format.UCUMFormat;
+import systems.uom.ucum.format.UCUMFormat.Variant;
+
+/**
+ * <p>
+ * A conversion between two units given by their <a href="http://ucum.org/">UCUM</a> codes, e.g.
+ * <code>UCUMConversion.of("mg/dL", "g/L").convert(value)</code>.
+ * </p>
+ *
+ * <p>
+ * Parsing both codes, checking that their units are commensurable and composing the converter happens once, when the
+ * conversion is created. Conversions are cached by the pair of codes, so looking up a recurring pair does not parse the
+ * codes again, and converting a value is a primitive <code>double</code> operation.
+ * </p>
+ *
+ * @see UCUMFormat#getConverter(CharSequence, CharSequence)
+ * @version 1.0, October 16, 2026
+ * @since 2.2.1
+ */
+public final class UCUMConversion implements DoubleUnaryOperator {
+
+    /**
+     * The maximum number of conversions cached by their codes.
+     */
+    public static final int CACHE_SIZE = 1024;
+
+    private static final UCUMCache<CodePair, UCUMConversion> CACHE = new UCUMCache<>(CACHE_SIZE);
+
+    private final String sourceCode;
+    private final String targetCode;
+    private final Unit<?> source;
+    private final Unit<?> target;
+    private final CompiledConverter converter;
+
+    private UCUMConversion(String sourceCode, String targetCode, Unit<?> source, Unit<?> target,
+            CompiledConverter converter) {
+        this.sourceCode = sourceCode;
+        this.targetCode = targetCode;
+        this.source = source;
+        this.target = target;
+        this.converter = converter;
+    }
+
+    /**
+     * Returns the conversion between two case sensitive UCUM codes.
+     *
+     * @param sourceCode
+     *            the code of the unit to convert from
+     * @param targetCode
+     *            the code of the unit to convert to
+     * @return the conversion
+     * @throws MeasurementException
+     *             if a code cannot be parsed
+     * @throws IncommensurableException
+     *             if the units are not compatible
+     */
+    public static UCUMConversion of(CharSequence sourceCode, CharSequence targetCode) throws IncommensurableException {
+        return of(Variant.CASE_SENSITIVE, sourceCode, targetCode);
+    }
+
+    /**
+     * Returns the conversion between two UCUM codes of the given variant.
+     *
+     * @param variant
+     *            {@link Variant#CASE_SENSITIVE} or {@link Variant#CASE_INSENSITIVE}
+     * @param sourceCode
+     *            the code of the unit to convert from
+     * @param targetCode
+     *            the code of the unit to convert to
+     * @return the conversion
+     * @throws MeasurementException
+     *             if a code cannot be parsed
+     * @throws IncommensurableException
+     *             if the units are not compatible
+     * @throws UnsupportedOperationException
+     *             if the variant does not support parsing
+     */
+    public static UCUMConversion of(Variant variant, CharSequence sourceCode, CharSequence targetCode)
+            throws IncommensurableException {
+        final CodePair key = new CodePair(variant, sourceCode.toString(), targetCode.toString());
+        final UCUMConversion cached = CACHE.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final UCUMFormat format = UCUMFormat.getInstance(variant);
+        final Unit<?> source = format.parse(key.sourceCode);
+        final Unit<?> target = format.parse(key.targetCode);
+        final CompiledConverter converter = format.getConverterCache().getConverterToAny(source, target);
+        return CACHE.put(key, new UCUMConversion(key.sourceCode, key.targetCode, source, target, converter));
+    }
+
+    /**
+     * Converts a value between two case sensitive UCUM codes, like <code>of(sourceCode, targetCode).convert(value)</code>.
+     *
+     * @param value
+     *            the value in the source unit
+     * @param sourceCode
+     *            the code of the unit to convert from
+     * @param targetCode
+     *            the code of the unit to convert to
+     * @return the value in the target unit
+     * @throws MeasurementException
+     *             if a code cannot be parsed
+     * @throws IncommensurableException
+     *             if the units are not compatible
+     */
+    public static double convert(double value, CharSequence sourceCode, CharSequence targetCode)
+            throws IncommensurableException {
+        return of(sourceCode, targetCode).convert(value);
+    }
+
+    /**
+     * Returns the cache of conversions by their codes.
+     *
+     * @return the conversion cache
+     */
+    public static UCUMCache<?, UCUMConversion> getCache() {
+        return CACHE;
+    }
+
+    /**
+     * Converts a value.
+     *
+     * @param value
+     *            the value in the source unit
+     * @return the value in the target unit
+     */
+    public double convert(double value) {
+        return converter.applyAsDouble(value);
+    }
+
+    @Override
+    public double applyAsDouble(double value) {
+        return converter.applyAsDouble(value);
+    }
+
+    /**
+     * Converts a range of values in place.
+     *
+     * @param values
+     *            the values in the source unit, replaced by the values in the target unit
+     * @param offset
+     *            the index of the first value to convert
+     * @param length
+     *            the number of values to convert
+     * @throws ArrayIndexOutOfBoundsException
+     *             if the range is not within <code>values</code>
+     */
+    public void convert(double[] values, int offset, int length) {
+        converter.convert(values, offset, length);
+    }
+
+    /**
+     * Converts a range of values into a destination array.
+     *
+     * @param source
+     *            the values in the source unit
+     * @param sourceOffset
+     *            the index of the first value to convert
+     * @param destination
+     *            the array receiving the values in the target unit
+     * @param destinationOffset
+     *            the index of the first converted value in <code>destination</code>
+     * @param length
+     *            the number of values to convert
+     * @throws ArrayIndexOutOfBoundsException
+     *             if a range is not within its array
+     */
+    public void convert(double[] source, int sourceOffset, double[] destination, int destinationOffset, int length) {
+        converter.convert(source, sourceOffset, destination, destinationOffset, length);
+    }
+
+    /**
+     * @return the code of the unit to convert from
+     */
+    public String getSourceCode() {
+        return sourceCode;
+    }
+
+    /**
+     * @return the code of the unit to convert to
+     */
+    public String getTargetCode() {
+        return targetCode;
+    }
+
+    /**
+     * @return the unit to convert from
+     */
+    public Unit<?> getSource() {
+        return source;
+    }
+
+    /**
+     * @return the unit to convert to
+     */
+    public Unit<?> getTarget() {
+        return target;
+    }
+
+    /**
+     * @return the compiled converter from the source to the target unit
+     */
+    public CompiledConverter getConverter() {
+        return converter;
+    }
+
+    @Override
+    public String toString() {
+        return "UCUMConversion [" + sourceCode + " -> " + targetCode + "]";
+    }
+
+    private static final class CodePair {
+        private final Variant variant;
+        private final String sourceCode;
+        private final String targetCode;
+        private final int hashCode;
+
+        CodePair(Variant variant, String sourceCode, String targetCode) {
+            this.variant = Objects.requireNonNull(variant);
+            this.sourceCode = sourceCode;
+            this.targetCode = targetCode;
+            this.hashCode = (31 * variant.ordinal() + sourceCode.hashCode()) * 31 + targetCode.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CodePair)) {
+                return false;
+            }
+            final CodePair other = (CodePair) obj;
+            return hashCode == other.hashCode && variant == other.variant && sourceCode.equals(other.sourceCode)
+                    && targetCode.equals(other.targetCode);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
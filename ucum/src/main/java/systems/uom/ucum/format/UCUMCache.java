@@ -0,0 +1,251 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.ucum.format;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * A bounded cache that can be shared across threads, used by {@link UCUMFormat} to remember results.
+ * </p>
+ *
+ * <p>
+ * Lookups are a single {@link ConcurrentHashMap} probe without locking. Once the cache holds more than its maximum size, entries are evicted
+ * in insertion order, except that an entry looked up since it was last considered gets a second chance (the CLOCK approximation of LRU).
+ * Hits, misses and evictions are counted.
+ * </p>
+ *
+ * <p>
+ * Keys are compared with {@link Object#equals(Object)}, or by identity for a cache whose values depend on more than what
+ * <code>equals</code> compares.
+ * </p>
+ *
+ * @param <K>
+ *            the type of the keys
+ * @param <V>
+ *            the type of the cached values
+ * @version 1.0, October 16, 2026
+ */
+public final class UCUMCache<K, V> {
+
+    private static final class Entry<V> {
+        final Object key;
+        final V value;
+        volatile boolean referenced;
+
+        Entry(Object key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Wraps a key of a cache comparing keys by identity.
+     */
+    private static final class IdentityKey {
+        final Object key;
+
+        IdentityKey(Object key) {
+            this.key = key;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(key);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof IdentityKey && ((IdentityKey) obj).key == key;
+        }
+    }
+
+    private final int maximumSize;
+    private final boolean identityKeys;
+    private final ConcurrentHashMap<Object, Entry<V>> entries;
+    private final Queue<Entry<V>> clock = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache holding at most <code>maximumSize</code> entries.
+     *
+     * @param maximumSize
+     *            the maximum number of entries, must be positive
+     */
+    public UCUMCache(int maximumSize) {
+        this(maximumSize, false);
+    }
+
+    /**
+     * Creates a cache holding at most <code>maximumSize</code> entries, comparing keys by identity if <code>identityKeys</code> is set.
+     */
+    UCUMCache(int maximumSize, boolean identityKeys) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.identityKeys = identityKeys;
+        this.entries = new ConcurrentHashMap<>(Math.min(maximumSize, 1 << 12));
+    }
+
+    /**
+     * Returns the value cached for the given key.
+     *
+     * @param key
+     *            the key to look up
+     * @return the cached value, or <code>null</code> if there is none
+     */
+    public V get(K key) {
+        final Entry<V> entry = entries.get(mapKey(key));
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    /**
+     * Caches the given value unless the key is already present, evicting other entries if the maximum size is exceeded.
+     *
+     * @param key
+     *            the key
+     * @param value
+     *            the value, not <code>null</code>
+     * @return the value now cached for the key
+     */
+    public V put(K key, V value) {
+        Objects.requireNonNull(value);
+        final Entry<V> entry = new Entry<>(mapKey(key), value);
+        final Entry<V> existing = entries.putIfAbsent(entry.key, entry);
+        if (existing != null) {
+            return existing.value;
+        }
+        clock.add(entry);
+        if (size.incrementAndGet() > maximumSize) {
+            evict();
+        }
+        return value;
+    }
+
+    private Object mapKey(K key) {
+        return identityKeys ? new IdentityKey(key) : key;
+    }
+
+    private void evict() {
+        synchronized (clock) {
+            Entry<V> entry;
+            while (size.get() > maximumSize && (entry = clock.poll()) != null) {
+                if (entry.referenced) {
+                    entry.referenced = false;
+                    clock.add(entry);
+                } else if (entries.remove(entry.key, entry)) {
+                    size.decrementAndGet();
+                    evictions.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all entries, the counters are kept.
+     */
+    public void clear() {
+        synchronized (clock) {
+            Entry<V> entry;
+            while ((entry = clock.poll()) != null) {
+                if (entries.remove(entry.key, entry)) {
+                    size.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the current number of entries
+     */
+    public int size() {
+        return Math.min(size.get(), maximumSize);
+    }
+
+    /**
+     * @return the maximum number of entries
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @return the number of lookups that found a value
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups that found no value
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of entries removed to stay within the maximum size
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the share of lookups that found a value, <code>0</code> if there were no lookups yet
+     */
+    public double getHitRatio() {
+        final long hitCount = hits.sum();
+        final long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    @Override
+    public String toString() {
+        return "UCUMCache [size=" + size() + ", maximumSize=" + maximumSize + ", hits=" + getHitCount() + ", misses=" + getMissCount()
+                + ", evictions=" + getEvictionCount() + "]";
+    }
+}
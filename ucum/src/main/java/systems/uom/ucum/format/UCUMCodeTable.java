@@ -0,0 +1,158 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.ucum.format;
+
+/**
+ * <p>
+ * Package private open-addressing table used by {@link UCUMFormat#parseAll(java.util.List)} to look up a value by the characters of a code.
+ * </p>
+ *
+ * <p>
+ * Codes are hashed and compared character by character, so a mutable {@link CharSequence} is never copied into a {@link String}. The first
+ * code added with some characters is kept as the key, hence keys must not be modified while the table is in use. Not thread-safe.
+ * </p>
+ *
+ * @param <V>
+ *            the type of the values
+ * @version 1.0, October 16, 2026
+ */
+final class UCUMCodeTable<V> {
+
+    private static final int MINIMUM_CAPACITY = 16;
+
+    private CharSequence[] keys;
+    private int[] hashes;
+    private Object[] values;
+    private int size;
+
+    /**
+     * Creates a table expecting about <code>expectedSize</code> distinct codes, it grows as needed.
+     */
+    UCUMCodeTable(int expectedSize) {
+        int capacity = MINIMUM_CAPACITY;
+        while (capacity < expectedSize * 2 && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        keys = new CharSequence[capacity];
+        hashes = new int[capacity];
+        values = new Object[capacity];
+    }
+
+    /**
+     * @return the value of the code with the same characters as <code>code</code>, <code>null</code> if there is none
+     */
+    @SuppressWarnings("unchecked")
+    V get(CharSequence code) {
+        final int hash = hash(code);
+        final int mask = keys.length - 1;
+        for (int i = hash & mask; keys[i] != null; i = (i + 1) & mask) {
+            if (hashes[i] == hash && contentEquals(keys[i], code)) {
+                return (V) values[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Associates <code>value</code> with the characters of <code>code</code>, replacing a previous value.
+     */
+    void put(CharSequence code, V value) {
+        if (2 * (size + 1) > keys.length) {
+            resize();
+        }
+        final int hash = hash(code);
+        final int mask = keys.length - 1;
+        int i = hash & mask;
+        for (; keys[i] != null; i = (i + 1) & mask) {
+            if (hashes[i] == hash && contentEquals(keys[i], code)) {
+                values[i] = value;
+                return;
+            }
+        }
+        keys[i] = code;
+        hashes[i] = hash;
+        values[i] = value;
+        size++;
+    }
+
+    /**
+     * @return the number of distinct codes in this table
+     */
+    int size() {
+        return size;
+    }
+
+    private void resize() {
+        final CharSequence[] oldKeys = keys;
+        final int[] oldHashes = hashes;
+        final Object[] oldValues = values;
+        keys = new CharSequence[oldKeys.length * 2];
+        hashes = new int[keys.length];
+        values = new Object[keys.length];
+        final int mask = keys.length - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] != null) {
+                int i = oldHashes[j] & mask;
+                while (keys[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                hashes[i] = oldHashes[j];
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    private static int hash(CharSequence code) {
+        int h = 0;
+        for (int i = 0, n = code.length(); i < n; i++) {
+            h = 31 * h + code.charAt(i);
+        }
+        // spreads the high bits to the low bits used as index, like HashMap does
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean contentEquals(CharSequence a, CharSequence b) {
+        if (a == b) {
+            return true;
+        }
+        final int n = a.length();
+        if (n != b.length()) {
+            return false;
+        }
+        for (int i = 0; i < n; i++) {
+            if (a.charAt(i) != b.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
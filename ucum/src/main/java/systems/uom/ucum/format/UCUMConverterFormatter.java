@@ -45,30 +45,34 @@ import javax.measure.Prefix;
  */
 class UCUMConverterFormatter {
     /**
-     * Formats the given converter to the given StringBuilder. This is similar to what <type>ConverterFormatter</type> does, but there's no need to
-     * worry about operator precedence here, since UCUM only supports multiplication, division, and exponentiation and expressions are always
-     * evaluated left- to-right.
+     * Formats the given unit modified by the given converter to the given StringBuilder. This is similar to what <type>ConverterFormatter</type>
+     * does, but there's no need to worry about operator precedence here, since UCUM only supports multiplication, division, and exponentiation
+     * and expressions are always evaluated left- to-right.
+     * <p>
+     * Whether the unit is prefixed or parenthesized is decided from its text before anything is appended, so the expression is written
+     * left-to-right without inserting into the buffer.
+     * </p>
      * 
      * @param converter
      *            the converter to be formatted
      * @param continued
      *            <code>true</code> if the converter expression should begin with an operator, otherwise <code>false</code>. This will always be true
      *            unless the unit being modified is equal to AbstractUnit.ONE.
+     * @param unit
+     *            the already-formatted unit being modified by the given converter
      * @param buffer
-     *            the <code>StringBuffer</code> to append to. Contains the already-formatted unit being modified by the given converter.
+     *            the <code>StringBuilder</code> to append to
      */
-    static void formatConverter(UnitConverter converter, boolean continued, StringBuilder buffer, final SymbolMap symbolMap) {
-        boolean unitIsExpression = ((buffer.indexOf(".") >= 0) || (buffer.indexOf("/") >= 0));
+    static void formatConverter(UnitConverter converter, boolean continued, CharSequence unit, StringBuilder buffer, final SymbolMap symbolMap) {
+        final boolean unitIsExpression = isExpression(unit);
         Prefix prefix = symbolMap.getPrefix(converter);
         if ((prefix != null) && (!unitIsExpression)) {
-            buffer.insert(0, symbolMap.getSymbol(prefix));
+            buffer.append(symbolMap.getSymbol(prefix));
+            buffer.append(unit);
         } else if (converter == AbstractConverter.IDENTITY) {
-            // do nothing
+            buffer.append(unit);
         } else if (converter instanceof RationalConverter) {
-                if (unitIsExpression) {
-                    buffer.insert(0, '(');
-                    buffer.append(')');
-                }
+                appendOperand(unit, unitIsExpression, buffer);
                 RationalConverter rationalConverter = (RationalConverter) converter;
                 if (!rationalConverter.getDividend().equals(BigInteger.ONE)) {
                     if (continued) {
@@ -82,23 +86,42 @@ class UCUMConverterFormatter {
                 }
         // need to swap those because RationalConverter also implements MultiplyConverter now
         } else if (converter instanceof MultiplyConverter) {
-            if (unitIsExpression) {
-                buffer.insert(0, '(');
-                buffer.append(')');
-            }
             MultiplyConverter multiplyConverter = (MultiplyConverter) converter;
             long lFactor = multiplyConverter.getFactor().longValue();
             if ((lFactor < Long.MIN_VALUE) || (lFactor > Long.MAX_VALUE)) { // (lFactor != factor) ||
                 throw new IllegalArgumentException("Only integer factors are supported in UCUM");
             }
+            appendOperand(unit, unitIsExpression, buffer);
             if (continued) {
                 buffer.append('.');
             }
             buffer.append(lFactor);
         } else { // All other converter type (e.g. exponential) we use the
             // string representation.
-            buffer.insert(0, converter.toString() + "(");
-            buffer.append(")");
+            buffer.append(converter.toString());
+            buffer.append('(');
+            buffer.append(unit);
+            buffer.append(')');
+        }
+    }
+
+    private static void appendOperand(CharSequence unit, boolean unitIsExpression, StringBuilder buffer) {
+        if (unitIsExpression) {
+            buffer.append('(');
+            buffer.append(unit);
+            buffer.append(')');
+        } else {
+            buffer.append(unit);
+        }
+    }
+
+    private static boolean isExpression(CharSequence unit) {
+        for (int i = 0; i < unit.length(); i++) {
+            final char c = unit.charAt(i);
+            if (c == '.' || c == '/') {
+                return true;
+            }
         }
+        return false;
     }
 }
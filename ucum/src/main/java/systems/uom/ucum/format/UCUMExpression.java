@@ -0,0 +1,340 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.ucum.format;
+
+import java.util.Objects;
+
+import javax.measure.Prefix;
+import javax.measure.Unit;
+
+import systems.uom.ucum.UCUMCanonicalForm;
+import systems.uom.ucum.internal.format.UCUMExpressionHandler;
+import tech.units.indriya.format.SymbolMap;
+
+/**
+ * <p>
+ * The syntax tree of a <a href="http://ucum.org/">UCUM</a> expression, as returned by {@link UCUMFormat#parseExpression(CharSequence)}:
+ * atoms with their prefixes, integer factors, exponents and annotations, combined by multiplication and division from left to right.
+ * </p>
+ *
+ * <p>
+ * Reading an expression into a tree involves no unit algebra. The {@link Unit} of the expression is built only when {@link #toUnit()} is
+ * called, by the same operations {@link UCUMFormat#parse(CharSequence)} applies, and is then kept. Trees are compared by their structure
+ * and atoms, so <code>mg/dL</code> and <code>mg.dL-1</code> are different trees of equivalent units, compare their
+ * {@link #toCanonicalForm() canonical forms} to detect that.
+ * </p>
+ *
+ * <p>
+ * Instances are immutable.
+ * </p>
+ *
+ * @version 1.0, October 16, 2026
+ * @since 2.2.1
+ */
+public final class UCUMExpression {
+
+    /**
+     * The kinds of nodes of an expression tree.
+     */
+    public static enum Kind {
+        /** The empty term, before a leading solidus or of an annotation without atom. */
+        ONE,
+        /** A unit atom, optionally prefixed. */
+        ATOM,
+        /** A non-negative integer factor. */
+        FACTOR,
+        /** The product of the left and the right operand. */
+        PRODUCT,
+        /** The quotient of the left and the right operand. */
+        QUOTIENT,
+        /** An atom raised to an integer exponent. */
+        POWER,
+        /** An annotated component. */
+        ANNOTATION
+    }
+
+    /**
+     * The empty expression.
+     */
+    static final UCUMExpression ONE = new UCUMExpression(Kind.ONE, null, null, null, null, null, 0, null);
+
+    private final Kind kind;
+    private final UCUMExpression left;
+    private final UCUMExpression right;
+    private final Unit<?> atom;
+    private final Prefix prefix;
+    /** The symbol of an atom in the variant it was parsed with, including its prefix. */
+    private final String symbol;
+    /** The factor, or the exponent of a power. */
+    private final long value;
+    private final String annotation;
+    private final int hash;
+
+    private volatile Unit<?> unit;
+
+    private UCUMExpression(Kind kind, UCUMExpression left, UCUMExpression right, Unit<?> atom, Prefix prefix, String symbol, long value,
+            String annotation) {
+        this.kind = kind;
+        this.left = left;
+        this.right = right;
+        this.atom = atom;
+        this.prefix = prefix;
+        this.symbol = symbol;
+        this.value = value;
+        this.annotation = annotation;
+        int h = kind.ordinal();
+        h = 31 * h + Objects.hashCode(left);
+        h = 31 * h + Objects.hashCode(right);
+        h = 31 * h + Objects.hashCode(atom);
+        h = 31 * h + Objects.hashCode(prefix);
+        h = 31 * h + Long.hashCode(value);
+        h = 31 * h + Objects.hashCode(annotation);
+        this.hash = h;
+    }
+
+    /**
+     * @return the kind of this node
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return the left operand of a product or quotient, the base of a power or the annotated component, otherwise <code>null</code>
+     */
+    public UCUMExpression getLeft() {
+        return left;
+    }
+
+    /**
+     * @return the right operand of a product or quotient, otherwise <code>null</code>
+     */
+    public UCUMExpression getRight() {
+        return right;
+    }
+
+    /**
+     * @return the unprefixed unit of an atom, otherwise <code>null</code>
+     */
+    public Unit<?> getAtom() {
+        return atom;
+    }
+
+    /**
+     * @return the prefix of an atom, <code>null</code> if it has none or this is not an atom
+     */
+    public Prefix getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * @return the factor, or <code>0</code> if this is not a factor
+     */
+    public long getFactor() {
+        return kind == Kind.FACTOR ? value : 0;
+    }
+
+    /**
+     * @return the exponent of a power, or <code>1</code> if this is not a power
+     */
+    public int getExponent() {
+        return kind == Kind.POWER ? (int) value : 1;
+    }
+
+    /**
+     * @return the text between the curly braces of an annotation, otherwise <code>null</code>
+     */
+    public String getAnnotation() {
+        return annotation;
+    }
+
+    /**
+     * Returns the unit of this expression, building it on the first call.
+     *
+     * @return the unit, equal to the one {@link UCUMFormat#parse(CharSequence)} returns for the expression
+     */
+    public Unit<?> toUnit() {
+        Unit<?> result = unit;
+        if (result == null) {
+            unit = result = evaluate(UCUMExpressionHandler.UNITS);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the canonical form of this expression, without building its unit.
+     *
+     * @return the canonical form
+     * @throws ArithmeticException
+     *             if an exponent or the factor of the canonical form is out of range
+     */
+    public UCUMCanonicalForm toCanonicalForm() {
+        return evaluate(UCUMFormat.canonicalHandler());
+    }
+
+    /**
+     * Applies the operations of this expression to <code>handler</code>, in the order the parser read them.
+     */
+    <T> T evaluate(UCUMExpressionHandler<T> handler) {
+        switch (kind) {
+            case ATOM:
+                return handler.atom(atom, prefix);
+            case FACTOR:
+                return handler.factor(value);
+            case PRODUCT:
+                return handler.multiply(left.evaluate(handler), right.evaluate(handler));
+            case QUOTIENT:
+                return handler.divide(left.evaluate(handler), right.evaluate(handler));
+            case POWER:
+                return handler.pow(left.evaluate(handler), (int) value);
+            case ANNOTATION:
+                return handler.annotate(left.evaluate(handler), annotation);
+            default:
+                return handler.one();
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof UCUMExpression)) {
+            return false;
+        }
+        final UCUMExpression that = (UCUMExpression) obj;
+        return hash == that.hash && kind == that.kind && value == that.value && Objects.equals(atom, that.atom)
+                && Objects.equals(prefix, that.prefix) && Objects.equals(annotation, that.annotation) && Objects.equals(left, that.left)
+                && Objects.equals(right, that.right);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * @return the UCUM expression of this tree, in the variant it was parsed with
+     */
+    @Override
+    public String toString() {
+        final StringBuilder buffer = new StringBuilder();
+        appendTo(buffer);
+        return buffer.toString();
+    }
+
+    private void appendTo(StringBuilder buffer) {
+        switch (kind) {
+            case ATOM:
+                buffer.append(symbol);
+                break;
+            case FACTOR:
+                buffer.append(value);
+                break;
+            case PRODUCT:
+            case QUOTIENT:
+                left.appendTo(buffer);
+                buffer.append(kind == Kind.PRODUCT ? '.' : '/');
+                // operations are applied from left to right, a compound right operand was parenthesized
+                if (right.kind == Kind.PRODUCT || right.kind == Kind.QUOTIENT) {
+                    buffer.append('(');
+                    right.appendTo(buffer);
+                    buffer.append(')');
+                } else {
+                    right.appendTo(buffer);
+                }
+                break;
+            case POWER:
+                left.appendTo(buffer);
+                buffer.append(value);
+                break;
+            case ANNOTATION:
+                left.appendTo(buffer);
+                buffer.append('{').append(annotation).append('}');
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Package private {@link UCUMExpressionHandler} building the tree of an expression, with the symbols of one variant.
+     */
+    static final class Builder implements UCUMExpressionHandler<UCUMExpression> {
+
+        private final SymbolMap symbols;
+
+        Builder(SymbolMap symbols) {
+            this.symbols = symbols;
+        }
+
+        @Override
+        public UCUMExpression one() {
+            return ONE;
+        }
+
+        @Override
+        public UCUMExpression atom(Unit<?> unit, Prefix prefix) {
+            String symbol = symbols.getSymbol(unit);
+            if (symbol == null) {
+                symbol = unit.toString();
+            }
+            if (prefix != null) {
+                symbol = symbols.getSymbol(prefix) + symbol;
+            }
+            return new UCUMExpression(Kind.ATOM, null, null, unit, prefix, symbol, 0, null);
+        }
+
+        @Override
+        public UCUMExpression factor(long factor) {
+            return new UCUMExpression(Kind.FACTOR, null, null, null, null, null, factor, null);
+        }
+
+        @Override
+        public UCUMExpression multiply(UCUMExpression left, UCUMExpression right) {
+            return new UCUMExpression(Kind.PRODUCT, left, right, null, null, null, 0, null);
+        }
+
+        @Override
+        public UCUMExpression divide(UCUMExpression left, UCUMExpression right) {
+            return new UCUMExpression(Kind.QUOTIENT, left, right, null, null, null, 0, null);
+        }
+
+        @Override
+        public UCUMExpression pow(UCUMExpression base, int exponent) {
+            return new UCUMExpression(Kind.POWER, base, null, null, null, null, exponent, null);
+        }
+
+        @Override
+        public UCUMExpression annotate(UCUMExpression component, String annotation) {
+            return new UCUMExpression(Kind.ANNOTATION, component, null, null, null, null, 0, annotation);
+        }
+    }
+}
@@ -29,18 +29,15 @@
  */
 package systems.uom.ucum.format;
 
-import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.math.BigInteger;
 
 import javax.measure.MetricPrefix;
 import javax.measure.UnitConverter;
 
 import tech.units.indriya.AbstractUnit;
-import tech.units.indriya.function.Calculus;
 import tech.units.indriya.function.MultiplyConverter;
 import tech.units.indriya.function.PowerOfIntConverter;
-import tech.units.indriya.spi.NumberSystem;
+import tech.units.indriya.function.RationalConverter;
 import tech.units.indriya.unit.AnnotatedUnit;
 
 /**
@@ -50,17 +47,15 @@ import tech.units.indriya.unit.AnnotatedUnit;
  *
  * @author Andi Huber
  * @author Werner Keil
- * @version 1.2, 3 April 2023
+ * @version 1.3, 16 October 2026
  */
 @SuppressWarnings("rawtypes")
 final class UCUMFormatHelper {
     
     static interface SymbolProvider {
-        CharSequence symbolFor(AbstractUnit<?> unit) throws IOException;
+        boolean appendSymbol(AbstractUnit<?> unit, StringBuilder buffer);
     }
 
-    private static Map<String, UnitConverter> prefixConverterByFactor = null;
-    
     private final UCUMFormat ucumFormat;
     @SuppressWarnings("unused") // maybe we want to extend this class later
     private final AbstractUnit unit; 
@@ -89,37 +84,40 @@ final class UCUMFormatHelper {
         return annotation!=null && annotation.length()>0;
     }
     
-    void appendAnnotation(CharSequence symbol, Appendable appendable) throws IOException {
+    void appendAnnotation(boolean hasSymbol, StringBuilder buffer) {
         if (!hasAnnotation()) {
             return;
         }
-        ucumFormat.appendAnnotation(symbol, getAnnotation(), appendable);
+        ucumFormat.appendAnnotation(hasSymbol, getAnnotation(), buffer);
     }
 
     /**
-     * First of the symbolProviders that returns a non-null String wins.
+     * First of the symbolProviders that appends a symbol wins.
      * @param symbolProviders
      * @param unit
-     * @return
-     * @throws IOException
+     * @param buffer
+     * @return <code>true</code> if a symbol was appended to <code>buffer</code>
      */
-    public CharSequence findSymbolFor(SymbolProvider[] symbolProviders, AbstractUnit<?> unit) throws IOException {
+    public boolean appendSymbolFor(SymbolProvider[] symbolProviders, AbstractUnit<?> unit, StringBuilder buffer) {
         for(SymbolProvider symbolProvider : symbolProviders) {
-            CharSequence symbol = symbolProvider.symbolFor(unit);
-            if (symbol != null) {
-                return symbol;
+            if (symbolProvider.appendSymbol(unit, buffer)) {
+                return true;
             }
         }
-        return null;
+        return false;
     }
 
     /**
      * Converts a given UnitConverter to an equivalent MultiplyConverter that is registered with the symbolMap.
      * This allows for further formatting steps to correctly identify converters that are associated with prefix 
      * symbols.
+     * <p>
+     * The factor is matched numerically against an immutable index of the metric prefix powers of ten, so the lookup
+     * neither allocates nor depends on how the factor would be printed, and is safe to call from any thread.
+     * </p>
      *  
      * @param converter
-     * @return
+     * @return the registered prefix converter with the same factor, or <code>converter</code> if there is none
      */
     public static UnitConverter toKnownPrefixConverterIfPossible(UnitConverter converter) {
         
@@ -127,44 +125,109 @@ final class UCUMFormatHelper {
             return converter;
         }
         
+        if (converter instanceof RationalConverter) {
+            final RationalConverter rationalConverter = (RationalConverter) converter;
+            final UnitConverter prefixConverter = PrefixConverterIndex.lookup(
+                    rationalConverter.getDividend(), rationalConverter.getDivisor());
+            return prefixConverter != null ? prefixConverter : converter;
+        }
+        
         if (converter instanceof MultiplyConverter) {
-            
-            ensurePrefixConverterMapInitialized();
-            
-            final MultiplyConverter multiplyConverter = (MultiplyConverter) converter;
-            final NumberSystem ns = Calculus.currentNumberSystem();
-            final Number factor = ns.narrow(multiplyConverter.getFactor());
-            final String key = factor.toString();
-            
-            return prefixConverterByFactor.getOrDefault(key, converter);
+            final UnitConverter prefixConverter = PrefixConverterIndex.lookup(
+                    ((MultiplyConverter) converter).getFactor().doubleValue());
+            return prefixConverter != null ? prefixConverter : converter;
         }
         
         return converter; // fallback
         
     }
     
-    private static void ensurePrefixConverterMapInitialized() {
+    /**
+     * Immutable index of the prefix converters by their power of ten, initialized once on first use by the class
+     * loader.
+     */
+    private static final class PrefixConverterIndex {
         
-        if (prefixConverterByFactor != null) {
-            return;
+        private static final double LOG10_2 = Math.log10(2);
+        
+        private static final int MIN_EXPONENT;
+        private static final BigInteger[] POWERS_OF_TEN;
+        private static final double[] FACTORS;
+        private static final UnitConverter[] CONVERTERS;
+        
+        static {
+            int min = 0;
+            int max = 0;
+            for (MetricPrefix metricPrefix : MetricPrefix.values()) {
+                min = Math.min(min, metricPrefix.getExponent());
+                max = Math.max(max, metricPrefix.getExponent());
+            }
+            MIN_EXPONENT = min;
+            POWERS_OF_TEN = new BigInteger[Math.max(-min, max) + 1];
+            for (int i = 0; i < POWERS_OF_TEN.length; i++) {
+                POWERS_OF_TEN[i] = BigInteger.TEN.pow(i);
+            }
+            FACTORS = new double[max - min + 1];
+            CONVERTERS = new UnitConverter[max - min + 1];
+            for (MetricPrefix metricPrefix : MetricPrefix.values()) {
+                if (metricPrefix == MetricPrefix.DECA) {
+                    continue; // excluding DECA should not be necessary, but currently is, for tests to succeed
+                }
+                final int exponent = metricPrefix.getExponent();
+                FACTORS[exponent - min] = Double.parseDouble("1E" + exponent);
+                CONVERTERS[exponent - min] = MultiplyConverter.ofExponent(10, exponent);
+            }
         }
         
-        prefixConverterByFactor = new HashMap<>();
+        private PrefixConverterIndex() {
+        }
         
-        final NumberSystem ns = Calculus.currentNumberSystem();
+        static UnitConverter lookup(BigInteger dividend, BigInteger divisor) {
+            if (BigInteger.ONE.equals(divisor)) {
+                final int exponent = exponentOfTen(dividend);
+                return exponent > 0 ? converterFor(exponent) : null;
+            }
+            if (BigInteger.ONE.equals(dividend)) {
+                final int exponent = exponentOfTen(divisor);
+                return exponent > 0 ? converterFor(-exponent) : null;
+            }
+            return null;
+        }
         
-        for(MetricPrefix metricPrefix : MetricPrefix.values()) {
-            
-            if(metricPrefix == MetricPrefix.DECA) {
-                continue; // excluding DECA should not be necessary, but currently is, for tests to succeed
+        static UnitConverter lookup(double factor) {
+            if (!(factor > 0)) {
+                return null;
+            }
+            final int exponent = (int) Math.round(Math.log10(factor));
+            final int index = exponent - MIN_EXPONENT;
+            if (index < 0 || index >= FACTORS.length || FACTORS[index] != factor) {
+                return null;
             }
-            
-            final MultiplyConverter prefixConverter = MultiplyConverter.ofExponent(10, metricPrefix.getExponent());
-            final Number factor = ns.narrow(prefixConverter.getFactor());
-            final String key = factor.toString();
-            prefixConverterByFactor.put(key, prefixConverter);
+            return CONVERTERS[index];
         }
         
+        private static UnitConverter converterFor(int exponent) {
+            final int index = exponent - MIN_EXPONENT;
+            return index >= 0 && index < CONVERTERS.length ? CONVERTERS[index] : null;
+        }
+        
+        /**
+         * @return <code>n</code> if <code>value</code> equals <code>10^n</code> for an indexed <code>n &gt; 0</code>,
+         *         otherwise <code>-1</code>
+         */
+        private static int exponentOfTen(BigInteger value) {
+            if (value.signum() <= 0) {
+                return -1;
+            }
+            // 10^n has bitLength floor(n*log2(10))+1, hence n is one of these two candidates
+            final int candidate = (int) ((value.bitLength() - 1) * LOG10_2);
+            for (int n = candidate; n <= candidate + 1; n++) {
+                if (n > 0 && n < POWERS_OF_TEN.length && POWERS_OF_TEN[n].equals(value)) {
+                    return n;
+                }
+            }
+            return -1;
+        }
     }
         
 }
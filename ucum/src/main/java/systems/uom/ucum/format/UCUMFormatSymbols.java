@@ -0,0 +1,1004 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.ucum.format;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListResourceBundle;
+
+import javax.measure.BinaryPrefix;
+import javax.measure.MetricPrefix;
+
+import systems.uom.ucum.UCUM;
+import tech.units.indriya.format.SymbolMap;
+import tech.units.indriya.unit.Units;
+
+/**
+ * <p>
+ * Symbol tables of {@link UCUMFormat}, generated from <code>UCUMFormat_CS.properties</code>, <code>UCUMFormat_CI.properties</code> and
+ * <code>UCUMFormat_Print.properties</code> by <code>UCUMFormatSymbolsGenerator</code>. Do not edit, regenerate instead.
+ * </p>
+ *
+ * <p>
+ * Symbols are registered with the units and prefixes directly, in the order of the properties files, so neither a resource bundle is
+ * loaded nor a field looked up reflectively. Where two entries label the same unit or use the same symbol, the later one wins.
+ * </p>
+ */
+final class UCUMFormatSymbols {
+
+    private UCUMFormatSymbols() {
+    }
+
+    /**
+     * @return a new symbol map with the entries of <code>UCUMFormat_CS.properties</code>
+     */
+    static SymbolMap caseSensitive() {
+        final SymbolMap symbols = empty();
+        symbols.label(UCUM.METER, "m");
+        symbols.label(UCUM.SECOND, "s");
+        symbols.label(UCUM.GRAM, "g");
+        symbols.label(UCUM.RADIAN, "rad");
+        symbols.label(UCUM.KELVIN, "K");
+        symbols.label(UCUM.COULOMB, "C");
+        symbols.label(UCUM.CANDELA, "cd");
+        symbols.label(UCUM.TRILLIONS, "10^12");
+        symbols.label(UCUM.BILLIONS, "10^9");
+        symbols.label(UCUM.MILLIONS, "10^6");
+        symbols.label(UCUM.THOUSANDS, "10^3");
+        symbols.label(UCUM.HUNDREDS, "10^2");
+        symbols.label(UCUM.PI, "[pi]");
+        symbols.label(UCUM.PERCENT, "%");
+        symbols.label(UCUM.PER_THOUSAND, "[ppth]");
+        symbols.label(UCUM.PER_MILLION, "[ppm]");
+        symbols.label(UCUM.PER_BILLION, "[ppb]");
+        symbols.label(UCUM.PER_TRILLION, "[pptr]");
+        symbols.label(UCUM.EQUIVALENTS, "eq");
+        symbols.label(UCUM.MOLE, "mol");
+        symbols.label(UCUM.OSMOLE, "osm");
+        symbols.label(UCUM.STERADIAN, "sr");
+        symbols.label(UCUM.HERTZ, "Hz");
+        symbols.label(UCUM.NEWTON, "N");
+        symbols.label(UCUM.PASCAL, "Pa");
+        symbols.label(UCUM.JOULE, "J");
+        symbols.label(UCUM.WATT, "W");
+        symbols.label(UCUM.AMPERE, "A");
+        symbols.label(UCUM.VOLT, "V");
+        symbols.label(UCUM.FARAD, "F");
+        symbols.label(UCUM.OHM, "Ohm");
+        symbols.label(UCUM.SIEMENS, "S");
+        symbols.label(UCUM.WEBER, "Wb");
+        symbols.label(UCUM.CELSIUS, "Cel");
+        symbols.label(UCUM.TESLA, "T");
+        symbols.label(UCUM.HENRY, "H");
+        symbols.label(UCUM.LUMEN, "lm");
+        symbols.label(UCUM.LUX, "lx");
+        symbols.label(UCUM.BECQUEREL, "Bq");
+        symbols.label(UCUM.GRAY, "Gy");
+        symbols.label(UCUM.SIEVERT, "Sv");
+        symbols.label(UCUM.DEGREE, "deg");
+        symbols.label(UCUM.GRADE, "gon");
+        symbols.label(UCUM.MINUTE_ANGLE, "'");
+        symbols.label(UCUM.SECOND_ANGLE, "''");
+        symbols.label(UCUM.LITER_DM3, "l");
+        symbols.label(UCUM.LITER, "L");
+        symbols.alias(UCUM.LITER, "L");
+        symbols.label(UCUM.ARE, "ar");
+        symbols.label(UCUM.MINUTE, "min");
+        symbols.label(UCUM.HOUR, "h");
+        symbols.label(UCUM.DAY, "d");
+        symbols.label(UCUM.WEEK, "wk");
+        symbols.label(UCUM.YEAR_TROPICAL, "a_t");
+        symbols.label(UCUM.YEAR_JULIAN, "a_j");
+        symbols.label(UCUM.YEAR_GREGORIAN, "a_g");
+        symbols.label(UCUM.YEAR, "a");
+        symbols.label(UCUM.MONTH_SYNODAL, "mo_s");
+        symbols.label(UCUM.MONTH_JULIAN, "mo_j");
+        symbols.label(UCUM.MONTH_GREGORIAN, "mo_g");
+        symbols.label(UCUM.MONTH, "mo");
+        symbols.label(UCUM.TONNE, "t");
+        symbols.label(UCUM.BAR, "bar");
+        symbols.label(UCUM.ATOMIC_MASS_UNIT, "u");
+        symbols.label(UCUM.ELECTRON_VOLT, "eV");
+        symbols.label(UCUM.ASTRONOMIC_UNIT, "AU");
+        symbols.label(UCUM.PARSEC, "pc");
+        symbols.label(UCUM.VELOCITY_OF_LIGHT, "[c]");
+        symbols.label(UCUM.PLANCK, "[h]");
+        symbols.label(UCUM.BOLTZMAN, "[k]");
+        symbols.label(UCUM.PERMITTIVITY_OF_VACUUM, "[eps_0]");
+        symbols.label(UCUM.PERMEABILITY_OF_VACUUM, "[mu_0]");
+        symbols.label(UCUM.ELEMENTARY_CHARGE, "[e]");
+        symbols.label(UCUM.ELECTRON_MASS, "[m_e]");
+        symbols.label(UCUM.PROTON_MASS, "[m_p]");
+        symbols.label(UCUM.NEWTON_CONSTANT_OF_GRAVITY, "[G]");
+        symbols.label(UCUM.ACCELERATION_OF_FREEFALL, "[g]");
+        symbols.label(UCUM.ATMOSPHERE, "atm");
+        symbols.label(UCUM.LIGHT_YEAR, "[ly]");
+        symbols.label(UCUM.GRAM_FORCE, "gf");
+        symbols.label(UCUM.KAYSER, "Ky");
+        symbols.label(UCUM.GAL, "Gal");
+        symbols.label(UCUM.DYNE, "dyn");
+        symbols.label(UCUM.ERG, "erg");
+        symbols.label(UCUM.POISE, "P");
+        symbols.label(UCUM.BIOT, "Bi");
+        symbols.label(UCUM.STOKES, "St");
+        symbols.label(UCUM.MAXWELL, "Mx");
+        symbols.label(UCUM.GAUSS, "G");
+        symbols.label(UCUM.OERSTED, "Oe");
+        symbols.label(UCUM.GILBERT, "Gb");
+        symbols.label(UCUM.STILB, "sb");
+        symbols.label(UCUM.LAMBERT, "Lmb");
+        symbols.label(UCUM.PHOT, "ph");
+        symbols.label(UCUM.CURIE, "Ci");
+        symbols.label(UCUM.ROENTGEN, "R");
+        symbols.label(UCUM.REM, "REM");
+        symbols.label(UCUM.RAD, "RAD");
+        symbols.label(UCUM.INCH_INTERNATIONAL, "[in_i]");
+        symbols.label(UCUM.FOOT_INTERNATIONAL, "[ft_i]");
+        symbols.label(UCUM.YARD_INTERNATIONAL, "[yd_i]");
+        symbols.label(UCUM.MILE_INTERNATIONAL, "[mi_i]");
+        symbols.label(UCUM.FATHOM_INTERNATIONAL, "[fth_i]");
+        symbols.label(UCUM.NAUTICAL_MILE_INTERNATIONAL, "[nmi_i]");
+        symbols.label(UCUM.KNOT_INTERNATIONAL, "[kn_i]");
+        symbols.label(UCUM.SQUARE_INCH_INTERNATIONAL, "[sin_i]");
+        symbols.label(UCUM.SQUARE_FOOT_INTERNATIONAL, "[sft_i]");
+        symbols.label(UCUM.SQUARE_YARD_INTERNATIONAL, "[syd_i]");
+        symbols.label(UCUM.CUBIC_INCH_INTERNATIONAL, "[cin_i]");
+        symbols.label(UCUM.CUBIC_FOOT_INTERNATIONAL, "[cft_i]");
+        symbols.label(UCUM.CUBIC_YARD_INTERNATIONAL, "[cyd_i]");
+        symbols.label(UCUM.BOARD_FOOT_INTERNATIONAL, "[bf_i]");
+        symbols.label(UCUM.CORD_INTERNATIONAL, "[cr_i]");
+        symbols.label(UCUM.MIL_INTERNATIONAL, "[mil_i]");
+        symbols.label(UCUM.CIRCULAR_MIL_INTERNATIONAL, "[cml_i]");
+        symbols.label(UCUM.HAND_INTERNATIONAL, "[hd_i]");
+        symbols.label(UCUM.FOOT_US_SURVEY, "[ft_us]");
+        symbols.label(UCUM.YARD_US_SURVEY, "[yd_us]");
+        symbols.label(UCUM.INCH_US_SURVEY, "[in_us]");
+        symbols.label(UCUM.ROD_US_SURVEY, "[rd_us]");
+        symbols.label(UCUM.CHAIN_US_SURVEY, "[ch_us]");
+        symbols.label(UCUM.LINK_US_SURVEY, "[lk_us]");
+        symbols.label(UCUM.RAMDEN_CHAIN_US_SURVEY, "[rch_us]");
+        symbols.label(UCUM.RAMDEN_LINK_US_SURVEY, "[rlk_us]");
+        symbols.label(UCUM.FATHOM_US_SURVEY, "[fth_us]");
+        symbols.label(UCUM.FURLONG_US_SURVEY, "[fur_us]");
+        symbols.label(UCUM.MILE_US_SURVEY, "[mi_us]");
+        symbols.label(UCUM.ACRE_US_SURVEY, "[acr_us]");
+        symbols.label(UCUM.SQUARE_ROD_US_SURVEY, "[srd_us]");
+        symbols.label(UCUM.SQUARE_MILE_US_SURVEY, "[smi_us]");
+        symbols.label(UCUM.SECTION_US_SURVEY, "[sct]");
+        symbols.label(UCUM.TOWNSHP_US_SURVEY, "[twp]");
+        symbols.label(UCUM.MIL_US_SURVEY, "[mil_us]");
+        symbols.label(UCUM.INCH_BRITISH, "[in_br]");
+        symbols.label(UCUM.FOOT_BRITISH, "[ft_br]");
+        symbols.label(UCUM.ROD_BRITISH, "[rd_br]");
+        symbols.label(UCUM.CHAIN_BRITISH, "[ch_br]");
+        symbols.label(UCUM.LINK_BRITISH, "[lk_br]");
+        symbols.label(UCUM.FATHOM_BRITISH, "[fth_br]");
+        symbols.label(UCUM.PACE_BRITISH, "[pc_br]");
+        symbols.label(UCUM.YARD_BRITISH, "[yd_br]");
+        symbols.label(UCUM.MILE_BRITISH, "[mi_br]");
+        symbols.label(UCUM.NAUTICAL_MILE_BRITISH, "[nmi_br]");
+        symbols.label(UCUM.KNOT_BRITISH, "[kn_br]");
+        symbols.label(UCUM.ACRE_BRITISH, "[acr_br]");
+        symbols.label(UCUM.GALLON_US, "[gal_us]");
+        symbols.label(UCUM.BARREL_US, "[bbl_us]");
+        symbols.label(UCUM.QUART_US, "[qt_us]");
+        symbols.label(UCUM.PINT_US, "[pt_us]");
+        symbols.label(UCUM.GILL_US, "[gil_us]");
+        symbols.label(UCUM.FLUID_OUNCE_US, "[foz_us]");
+        symbols.label(UCUM.FLUID_DRAM_US, "[fdr_us]");
+        symbols.label(UCUM.MINIM_US, "[min_us]");
+        symbols.label(UCUM.CORD_US, "[crd_us]");
+        symbols.label(UCUM.BUSHEL_US, "[bu_us]");
+        symbols.label(UCUM.GALLON_WINCHESTER, "[gal_wi]");
+        symbols.label(UCUM.PECK_US, "[pk_us]");
+        symbols.label(UCUM.DRY_QUART_US, "[dqt_us]");
+        symbols.label(UCUM.DRY_PINT_US, "[dpt_us]");
+        symbols.label(UCUM.TABLESPOON_US, "[tbs_us]");
+        symbols.label(UCUM.TEASPOON_US, "[tsp_us]");
+        symbols.label(UCUM.CUP_US, "[cup_us]");
+        symbols.label(UCUM.GALLON_BRITISH, "[gal_br]");
+        symbols.label(UCUM.PECK_BRITISH, "[pk_br]");
+        symbols.label(UCUM.BUSHEL_BRITISH, "[bu_br]");
+        symbols.label(UCUM.QUART_BRITISH, "[qt_br]");
+        symbols.label(UCUM.PINT_BRITISH, "[pt_br]");
+        symbols.label(UCUM.GILL_BRITISH, "[gil_br]");
+        symbols.label(UCUM.FLUID_OUNCE_BRITISH, "[foz_br]");
+        symbols.label(UCUM.FLUID_DRAM_BRITISH, "[fdr_br]");
+        symbols.label(UCUM.MINIM_BRITISH, "[min_br]");
+        symbols.label(UCUM.GRAIN, "[gr]");
+        symbols.label(UCUM.POUND, "[lb_av]");
+        symbols.label(UCUM.OUNCE, "[oz_av]");
+        symbols.label(UCUM.DRAM, "[dr_av]");
+        symbols.label(UCUM.SHORT_HUNDREDWEIGHT, "[scwt_av]");
+        symbols.label(UCUM.LONG_HUNDREDWEIGHT, "[lcwt_av]");
+        symbols.label(UCUM.SHORT_TON, "[ston_av]");
+        symbols.label(UCUM.LONG_TON, "[lton_av]");
+        symbols.label(UCUM.STONE, "[stone_av]");
+        symbols.label(UCUM.POUND_FORCE, "[lbf_av]");
+        symbols.label(UCUM.PENNYWEIGHT_TROY, "[pwt_tr]");
+        symbols.label(UCUM.OUNCE_TROY, "[oz_tr]");
+        symbols.label(UCUM.POUND_TROY, "[lb_tr]");
+        symbols.label(UCUM.SCRUPLE_APOTHECARY, "[sc_ap]");
+        symbols.label(UCUM.DRAM_APOTHECARY, "[dr_ap]");
+        symbols.label(UCUM.OUNCE_APOTHECARY, "[oz_ap]");
+        symbols.label(UCUM.POUND_APOTHECARY, "[lb_ap]");
+        symbols.label(UCUM.LINE, "[lne]");
+        symbols.label(UCUM.POINT, "[pnt]");
+        symbols.label(UCUM.PICA, "[pca]");
+        symbols.label(UCUM.POINT_PRINTER, "[pnt_pr]");
+        symbols.label(UCUM.PICA_PRINTER, "[pca_pr]");
+        symbols.label(UCUM.PIED, "[pied]");
+        symbols.label(UCUM.POUCE, "[pouce]");
+        symbols.label(UCUM.LIGNE, "[ligne]");
+        symbols.label(UCUM.DIDOT, "[didot]");
+        symbols.label(UCUM.CICERO, "[cicero]");
+        symbols.label(UCUM.FAHRENHEIT, "[degF]");
+        symbols.label(UCUM.CALORIE_AT_15C, "cal_[15]");
+        symbols.label(UCUM.CALORIE_AT_20C, "cal_[20]");
+        symbols.label(UCUM.CALORIE_MEAN, "cal_m");
+        symbols.label(UCUM.CALORIE_INTERNATIONAL_TABLE, "cal_IT");
+        symbols.label(UCUM.CALORIE, "cal");
+        symbols.label(UCUM.CALORIE_THERMOCHEMICAL, "cal_th");
+        symbols.label(UCUM.CALORIE_FOOD, "[Cal]");
+        symbols.label(UCUM.BTU_AT_39F, "[Btu_39]");
+        symbols.label(UCUM.BTU_AT_59F, "[Btu_59]");
+        symbols.label(UCUM.BTU_AT_60F, "[Btu_60]");
+        symbols.label(UCUM.BTU_MEAN, "[Btu_m]");
+        symbols.label(UCUM.BTU_INTERNATIONAL_TABLE, "[Btu_IT]");
+        symbols.label(UCUM.BTU_THERMOCHEMICAL, "[Btu_th]");
+        symbols.label(UCUM.BTU, "[Btu]");
+        symbols.label(UCUM.HORSEPOWER, "[HP]");
+        symbols.label(UCUM.STERE, "st");
+        symbols.label(UCUM.ANGSTROM, "Ao");
+        symbols.label(UCUM.BARN, "b");
+        symbols.label(UCUM.ATMOSPHERE_TECHNICAL, "att");
+        symbols.label(UCUM.MHO, "mho");
+        symbols.label(UCUM.POUND_PER_SQUARE_INCH, "[psi]");
+        symbols.label(UCUM.CIRCLE, "circ");
+        symbols.label(UCUM.SPHERE, "sph");
+        symbols.label(UCUM.CARAT_METRIC, "[car_m]");
+        symbols.label(UCUM.CARAT_GOLD, "[car_Au]");
+        symbols.label(UCUM.BIT, "bit");
+        symbols.label(UCUM.BIT_S, "bit_s");
+        symbols.label(UCUM.BYTE, "By");
+        symbols.label(UCUM.BAUD, "Bd");
+        symbols.label(UCUM.PH, "[pH]");
+        symbols.label(UCUM.GRAM_PERCENT, "g%");
+        symbols.label(UCUM.METER_OF_WATER_COLUMN, "m[H2O]");
+        symbols.label(UCUM.INCH_OF_WATER_COLUMN, "[in_i'H2O]");
+        symbols.label(UCUM.METER_OF_MERCURY_COLUMN, "m[Hg]");
+        symbols.label(UCUM.INCH_OF_MERCURY_COLUMN, "[in_i'Hg]");
+        symbols.label(UCUM.PERIPHERAL_VASCULAR_RESISTANCE, "[PRU]");
+        symbols.label(UCUM.WOOD, "[wood'U]");
+        symbols.label(UCUM.DROP, "[drp]");
+        symbols.label(UCUM.KATAL, "kat");
+        symbols.label(UCUM.UNIT, "U");
+        symbols.label(UCUM.INTERNATIONAL_UNIT, "[iU]");
+        symbols.label(UCUM.INTERNATIONAL_UNIT_ALT, "[IU]");
+        symbols.label(UCUM.NEPER, "Np");
+        symbols.label(UCUM.BEL, "B");
+        symbols.label(UCUM.BEL_KILOWATT, "B[kW]");
+        symbols.label(UCUM.SMOOT, "[smoot]");
+        symbols.label(UCUM.SVEDBERG, "[S]");
+        symbols.label(Units.KILOMETRE_PER_HOUR, "[kph]");
+        symbols.label(MetricPrefix.YOTTA, "Y");
+        symbols.label(MetricPrefix.ZETTA, "Z");
+        symbols.label(MetricPrefix.EXA, "E");
+        symbols.label(MetricPrefix.PETA, "P");
+        symbols.label(MetricPrefix.TERA, "T");
+        symbols.label(MetricPrefix.GIGA, "G");
+        symbols.label(MetricPrefix.MEGA, "M");
+        symbols.label(MetricPrefix.KILO, "k");
+        symbols.label(MetricPrefix.HECTO, "h");
+        symbols.label(MetricPrefix.DECA, "da");
+        symbols.label(MetricPrefix.DECI, "d");
+        symbols.label(MetricPrefix.CENTI, "c");
+        symbols.label(MetricPrefix.MILLI, "m");
+        symbols.label(MetricPrefix.MICRO, "u");
+        symbols.label(MetricPrefix.NANO, "n");
+        symbols.label(MetricPrefix.PICO, "p");
+        symbols.label(MetricPrefix.FEMTO, "f");
+        symbols.label(MetricPrefix.ATTO, "a");
+        symbols.label(MetricPrefix.ZEPTO, "z");
+        symbols.label(MetricPrefix.YOCTO, "y");
+        symbols.label(MetricPrefix.QUETTA, "Q");
+        symbols.label(MetricPrefix.RONNA, "R");
+        symbols.label(MetricPrefix.QUECTO, "q");
+        symbols.label(MetricPrefix.RONTO, "r");
+        symbols.label(BinaryPrefix.KIBI, "Ki");
+        symbols.label(BinaryPrefix.MEBI, "Mi");
+        symbols.label(BinaryPrefix.GIBI, "Gi");
+        symbols.label(BinaryPrefix.TEBI, "Ti");
+        symbols.label(BinaryPrefix.PEBI, "Pi");
+        symbols.label(BinaryPrefix.EXBI, "Ei");
+        symbols.label(BinaryPrefix.ZEBI, "Zi");
+        symbols.label(BinaryPrefix.YOBI, "Yi");
+        return symbols;
+    }
+
+    /**
+     * @return the unit and prefix symbols of <code>UCUMFormat_CS.properties</code>
+     */
+    static List<String> caseSensitiveSymbols() {
+        return Arrays.asList("m", "s", "g", "rad", "K", "C", "cd", "10^12", "10^9", "10^6", "10^3", "10^2", "[pi]", "%", "[ppth]", "[ppm]",
+                "[ppb]", "[pptr]", "eq", "mol", "osm", "sr", "Hz", "N", "Pa", "J", "W", "A", "V", "F", "Ohm", "S", "Wb", "Cel", "T", "H",
+                "lm", "lx", "Bq", "Gy", "Sv", "deg", "gon", "'", "''", "l", "L", "L", "ar", "min", "h", "d", "wk", "a_t", "a_j", "a_g", "a",
+                "mo_s", "mo_j", "mo_g", "mo", "t", "bar", "u", "eV", "AU", "pc", "[c]", "[h]", "[k]", "[eps_0]", "[mu_0]", "[e]", "[m_e]",
+                "[m_p]", "[G]", "[g]", "atm", "[ly]", "gf", "Ky", "Gal", "dyn", "erg", "P", "Bi", "St", "Mx", "G", "Oe", "Gb", "sb", "Lmb",
+                "ph", "Ci", "R", "REM", "RAD", "[in_i]", "[ft_i]", "[yd_i]", "[mi_i]", "[fth_i]", "[nmi_i]", "[kn_i]", "[sin_i]", "[sft_i]",
+                "[syd_i]", "[cin_i]", "[cft_i]", "[cyd_i]", "[bf_i]", "[cr_i]", "[mil_i]", "[cml_i]", "[hd_i]", "[ft_us]", "[yd_us]",
+                "[in_us]", "[rd_us]", "[ch_us]", "[lk_us]", "[rch_us]", "[rlk_us]", "[fth_us]", "[fur_us]", "[mi_us]", "[acr_us]",
+                "[srd_us]", "[smi_us]", "[sct]", "[twp]", "[mil_us]", "[in_br]", "[ft_br]", "[rd_br]", "[ch_br]", "[lk_br]", "[fth_br]",
+                "[pc_br]", "[yd_br]", "[mi_br]", "[nmi_br]", "[kn_br]", "[acr_br]", "[gal_us]", "[bbl_us]", "[qt_us]", "[pt_us]",
+                "[gil_us]", "[foz_us]", "[fdr_us]", "[min_us]", "[crd_us]", "[bu_us]", "[gal_wi]", "[pk_us]", "[dqt_us]", "[dpt_us]",
+                "[tbs_us]", "[tsp_us]", "[cup_us]", "[gal_br]", "[pk_br]", "[bu_br]", "[qt_br]", "[pt_br]", "[gil_br]", "[foz_br]",
+                "[fdr_br]", "[min_br]", "[gr]", "[lb_av]", "[oz_av]", "[dr_av]", "[scwt_av]", "[lcwt_av]", "[ston_av]", "[lton_av]",
+                "[stone_av]", "[lbf_av]", "[pwt_tr]", "[oz_tr]", "[lb_tr]", "[sc_ap]", "[dr_ap]", "[oz_ap]", "[lb_ap]", "[lne]", "[pnt]",
+                "[pca]", "[pnt_pr]", "[pca_pr]", "[pied]", "[pouce]", "[ligne]", "[didot]", "[cicero]", "[degF]", "cal_[15]", "cal_[20]",
+                "cal_m", "cal_IT", "cal", "cal_th", "[Cal]", "[Btu_39]", "[Btu_59]", "[Btu_60]", "[Btu_m]", "[Btu_IT]", "[Btu_th]", "[Btu]",
+                "[HP]", "st", "Ao", "b", "att", "mho", "[psi]", "circ", "sph", "[car_m]", "[car_Au]", "bit", "bit_s", "By", "Bd", "[pH]",
+                "g%", "m[H2O]", "[in_i'H2O]", "m[Hg]", "[in_i'Hg]", "[PRU]", "[wood'U]", "[drp]", "kat", "U", "[iU]", "[IU]", "Np", "B",
+                "B[kW]", "[smoot]", "[S]", "[kph]", "Y", "Z", "E", "P", "T", "G", "M", "k", "h", "da", "d", "c", "m", "u", "n", "p", "f",
+                "a", "z", "y", "Q", "R", "q", "r", "Ki", "Mi", "Gi", "Ti", "Pi", "Ei", "Zi", "Yi");
+    }
+
+    /**
+     * @return a new symbol map with the entries of <code>UCUMFormat_CI.properties</code>
+     */
+    static SymbolMap caseInsensitive() {
+        final SymbolMap symbols = empty();
+        symbols.label(UCUM.METER, "M");
+        symbols.label(UCUM.SECOND, "S");
+        symbols.label(UCUM.GRAM, "G");
+        symbols.label(UCUM.RADIAN, "RAD");
+        symbols.label(UCUM.KELVIN, "K");
+        symbols.label(UCUM.COULOMB, "C");
+        symbols.label(UCUM.CANDELA, "CD");
+        symbols.label(UCUM.TRILLIONS, "10^12");
+        symbols.label(UCUM.BILLIONS, "10^9");
+        symbols.label(UCUM.MILLIONS, "10^6");
+        symbols.label(UCUM.THOUSANDS, "10^3");
+        symbols.label(UCUM.HUNDREDS, "10^2");
+        symbols.label(UCUM.PI, "[PI]");
+        symbols.label(UCUM.PERCENT, "%");
+        symbols.label(UCUM.PER_THOUSAND, "[PPTH]");
+        symbols.label(UCUM.PER_MILLION, "[PPM]");
+        symbols.label(UCUM.PER_BILLION, "[PPB]");
+        symbols.label(UCUM.PER_TRILLION, "[PPTR]");
+        symbols.label(UCUM.EQUIVALENTS, "EQ");
+        symbols.label(UCUM.MOLE, "MOL");
+        symbols.label(UCUM.OSMOLE, "OSM");
+        symbols.label(UCUM.STERADIAN, "SR");
+        symbols.label(UCUM.HERTZ, "HZ");
+        symbols.label(UCUM.NEWTON, "N");
+        symbols.label(UCUM.PASCAL, "PAL");
+        symbols.label(UCUM.JOULE, "J");
+        symbols.label(UCUM.WATT, "W");
+        symbols.label(UCUM.AMPERE, "A");
+        symbols.label(UCUM.VOLT, "V");
+        symbols.label(UCUM.FARAD, "F");
+        symbols.label(UCUM.OHM, "OHM");
+        symbols.label(UCUM.SIEMENS, "SIE");
+        symbols.label(UCUM.WEBER, "WB");
+        symbols.label(UCUM.CELSIUS, "CEL");
+        symbols.label(UCUM.TESLA, "T");
+        symbols.label(UCUM.HENRY, "H");
+        symbols.label(UCUM.LUMEN, "LM");
+        symbols.label(UCUM.LUX, "LX");
+        symbols.label(UCUM.BECQUEREL, "BQ");
+        symbols.label(UCUM.GRAY, "GY");
+        symbols.label(UCUM.SIEVERT, "SV");
+        symbols.label(UCUM.DEGREE, "DEG");
+        symbols.label(UCUM.GRADE, "GON");
+        symbols.label(UCUM.MINUTE_ANGLE, "'");
+        symbols.label(UCUM.SECOND_ANGLE, "''");
+        symbols.label(UCUM.LITER, "");
+        symbols.label(UCUM.LITER_DM3, "L");
+        symbols.label(UCUM.ARE, "AR");
+        symbols.label(UCUM.MINUTE, "MIN");
+        symbols.label(UCUM.HOUR, "HR");
+        symbols.label(UCUM.DAY, "D");
+        symbols.label(UCUM.WEEK, "WK");
+        symbols.label(UCUM.YEAR_TROPICAL, "ANN_T");
+        symbols.label(UCUM.YEAR_JULIAN, "ANN_J");
+        symbols.label(UCUM.YEAR_GREGORIAN, "ANN_G");
+        symbols.label(UCUM.YEAR, "ANN");
+        symbols.label(UCUM.MONTH_SYNODAL, "MO_S");
+        symbols.label(UCUM.MONTH_JULIAN, "MO_J");
+        symbols.label(UCUM.MONTH_GREGORIAN, "MO_G");
+        symbols.label(UCUM.MONTH, "MO");
+        symbols.label(UCUM.TONNE, "TNE");
+        symbols.label(UCUM.BAR, "BAR");
+        symbols.label(UCUM.ATOMIC_MASS_UNIT, "AMU");
+        symbols.label(UCUM.ELECTRON_VOLT, "EV");
+        symbols.label(UCUM.ASTRONOMIC_UNIT, "ASU");
+        symbols.label(UCUM.PARSEC, "PRS");
+        symbols.label(UCUM.VELOCITY_OF_LIGHT, "[C]");
+        symbols.label(UCUM.PLANCK, "[H]");
+        symbols.label(UCUM.BOLTZMAN, "[K]");
+        symbols.label(UCUM.PERMITTIVITY_OF_VACUUM, "[EPS_0]");
+        symbols.label(UCUM.PERMEABILITY_OF_VACUUM, "[MU_0]");
+        symbols.label(UCUM.ELEMENTARY_CHARGE, "[E]");
+        symbols.label(UCUM.ELECTRON_MASS, "[M_E]");
+        symbols.label(UCUM.PROTON_MASS, "[M_P]");
+        symbols.label(UCUM.NEWTON_CONSTANT_OF_GRAVITY, "[GC]");
+        symbols.label(UCUM.ACCELERATION_OF_FREEFALL, "[G]");
+        symbols.label(UCUM.ATMOSPHERE, "ATM");
+        symbols.label(UCUM.LIGHT_YEAR, "[LY]");
+        symbols.label(UCUM.GRAM_FORCE, "GF");
+        symbols.label(UCUM.KAYSER, "KY");
+        symbols.label(UCUM.GAL, "GL");
+        symbols.label(UCUM.DYNE, "DYN");
+        symbols.label(UCUM.ERG, "ERG");
+        symbols.label(UCUM.POISE, "P");
+        symbols.label(UCUM.BIOT, "BI");
+        symbols.label(UCUM.STOKES, "ST");
+        symbols.label(UCUM.MAXWELL, "MX");
+        symbols.label(UCUM.GAUSS, "GS");
+        symbols.label(UCUM.OERSTED, "OE");
+        symbols.label(UCUM.GILBERT, "GB");
+        symbols.label(UCUM.STILB, "SB");
+        symbols.label(UCUM.LAMBERT, "LMB");
+        symbols.label(UCUM.PHOT, "PHT");
+        symbols.label(UCUM.CURIE, "CI");
+        symbols.label(UCUM.ROENTGEN, "ROE");
+        symbols.label(UCUM.REM, "[REM]");
+        symbols.label(UCUM.RAD, "[RAD]");
+        symbols.label(UCUM.INCH_INTERNATIONAL, "[IN_I]");
+        symbols.label(UCUM.FOOT_INTERNATIONAL, "[FT_I]");
+        symbols.label(UCUM.YARD_INTERNATIONAL, "[YD_I]");
+        symbols.label(UCUM.MILE_INTERNATIONAL, "[MI_I]");
+        symbols.label(UCUM.FATHOM_INTERNATIONAL, "[FTH_I]");
+        symbols.label(UCUM.NAUTICAL_MILE_INTERNATIONAL, "[NMI_I]");
+        symbols.label(UCUM.KNOT_INTERNATIONAL, "[KN_I]");
+        symbols.label(UCUM.SQUARE_INCH_INTERNATIONAL, "[SIN_I]");
+        symbols.label(UCUM.SQUARE_FOOT_INTERNATIONAL, "[SFT_I]");
+        symbols.label(UCUM.SQUARE_YARD_INTERNATIONAL, "[SYD_I]");
+        symbols.label(UCUM.CUBIC_INCH_INTERNATIONAL, "[CIN_I]");
+        symbols.label(UCUM.CUBIC_FOOT_INTERNATIONAL, "[CFT_I]");
+        symbols.label(UCUM.CUBIC_YARD_INTERNATIONAL, "[CYD_I]");
+        symbols.label(UCUM.BOARD_FOOT_INTERNATIONAL, "[BF_I]");
+        symbols.label(UCUM.CORD_INTERNATIONAL, "[CR_I]");
+        symbols.label(UCUM.MIL_INTERNATIONAL, "[MIL_I]");
+        symbols.label(UCUM.CIRCULAR_MIL_INTERNATIONAL, "[CML_I]");
+        symbols.label(UCUM.HAND_INTERNATIONAL, "[HD_I]");
+        symbols.label(UCUM.FOOT_US_SURVEY, "[FT_US]");
+        symbols.label(UCUM.YARD_US_SURVEY, "[YD_US]");
+        symbols.label(UCUM.INCH_US_SURVEY, "[IN_US]");
+        symbols.label(UCUM.ROD_US_SURVEY, "[RD_US]");
+        symbols.label(UCUM.CHAIN_US_SURVEY, "[CH_US]");
+        symbols.label(UCUM.LINK_US_SURVEY, "[LK_US]");
+        symbols.label(UCUM.RAMDEN_CHAIN_US_SURVEY, "[RCH_US]");
+        symbols.label(UCUM.RAMDEN_LINK_US_SURVEY, "[RLK_US]");
+        symbols.label(UCUM.FATHOM_US_SURVEY, "[FTH_US]");
+        symbols.label(UCUM.FURLONG_US_SURVEY, "[FUR_US]");
+        symbols.label(UCUM.MILE_US_SURVEY, "[MI_US]");
+        symbols.label(UCUM.ACRE_US_SURVEY, "[ACR_US]");
+        symbols.label(UCUM.SQUARE_ROD_US_SURVEY, "[SRD_US]");
+        symbols.label(UCUM.SQUARE_MILE_US_SURVEY, "[SMI_US]");
+        symbols.label(UCUM.SECTION_US_SURVEY, "[SCT]");
+        symbols.label(UCUM.TOWNSHP_US_SURVEY, "[TWP]");
+        symbols.label(UCUM.MIL_US_SURVEY, "[MIL_US]");
+        symbols.label(UCUM.INCH_BRITISH, "[IN_BR]");
+        symbols.label(UCUM.FOOT_BRITISH, "[FT_BR]");
+        symbols.label(UCUM.ROD_BRITISH, "[RD_BR]");
+        symbols.label(UCUM.CHAIN_BRITISH, "[CH_BR]");
+        symbols.label(UCUM.LINK_BRITISH, "[LK_BR]");
+        symbols.label(UCUM.FATHOM_BRITISH, "[FTH_BR]");
+        symbols.label(UCUM.PACE_BRITISH, "[PC_BR]");
+        symbols.label(UCUM.YARD_BRITISH, "[YD_BR]");
+        symbols.label(UCUM.MILE_BRITISH, "[MI_BR]");
+        symbols.label(UCUM.NAUTICAL_MILE_BRITISH, "[NMI_BR]");
+        symbols.label(UCUM.KNOT_BRITISH, "[KN_BR]");
+        symbols.label(UCUM.ACRE_BRITISH, "[ACR_BR]");
+        symbols.label(UCUM.GALLON_US, "[GAL_US]");
+        symbols.label(UCUM.BARREL_US, "[BBL_US]");
+        symbols.label(UCUM.QUART_US, "[QT_US]");
+        symbols.label(UCUM.PINT_US, "[PT_US]");
+        symbols.label(UCUM.GILL_US, "[GIL_US]");
+        symbols.label(UCUM.FLUID_OUNCE_US, "[FOZ_US]");
+        symbols.label(UCUM.FLUID_DRAM_US, "[FDR_US]");
+        symbols.label(UCUM.MINIM_US, "[MIN_US]");
+        symbols.label(UCUM.CORD_US, "[CRD_US]");
+        symbols.label(UCUM.BUSHEL_US, "[BU_US]");
+        symbols.label(UCUM.GALLON_WINCHESTER, "[GAL_WI]");
+        symbols.label(UCUM.PECK_US, "[PK_US]");
+        symbols.label(UCUM.DRY_QUART_US, "[DQT_US]");
+        symbols.label(UCUM.DRY_PINT_US, "[DPT_US]");
+        symbols.label(UCUM.TABLESPOON_US, "[TBS_US]");
+        symbols.label(UCUM.TEASPOON_US, "[TSP_US]");
+        symbols.label(UCUM.CUP_US, "[CUP_US]");
+        symbols.label(UCUM.GALLON_BRITISH, "[GAL_BR]");
+        symbols.label(UCUM.PECK_BRITISH, "[PK_BR]");
+        symbols.label(UCUM.BUSHEL_BRITISH, "[BU_BR]");
+        symbols.label(UCUM.QUART_BRITISH, "[QT_BR]");
+        symbols.label(UCUM.PINT_BRITISH, "[PT_BR]");
+        symbols.label(UCUM.GILL_BRITISH, "[GIL_BR]");
+        symbols.label(UCUM.FLUID_OUNCE_BRITISH, "[FOZ_BR]");
+        symbols.label(UCUM.FLUID_DRAM_BRITISH, "[FDR_BR]");
+        symbols.label(UCUM.MINIM_BRITISH, "[MIN_BR]");
+        symbols.label(UCUM.GRAIN, "[GR]");
+        symbols.label(UCUM.POUND, "[LB_AV]");
+        symbols.label(UCUM.OUNCE, "[OZ_AV]");
+        symbols.label(UCUM.DRAM, "[DR_AV]");
+        symbols.label(UCUM.SHORT_HUNDREDWEIGHT, "[SCWT_AV]");
+        symbols.label(UCUM.LONG_HUNDREDWEIGHT, "[LCWT_AV]");
+        symbols.label(UCUM.SHORT_TON, "[STON_AV]");
+        symbols.label(UCUM.LONG_TON, "[LTON_AV]");
+        symbols.label(UCUM.STONE, "[STONE_AV]");
+        symbols.label(UCUM.POUND_FORCE, "[LBF_AV]");
+        symbols.label(UCUM.PENNYWEIGHT_TROY, "[PWT_TR]");
+        symbols.label(UCUM.OUNCE_TROY, "[OZ_TR]");
+        symbols.label(UCUM.POUND_TROY, "[LB_TR]");
+        symbols.label(UCUM.SCRUPLE_APOTHECARY, "[SC_AP]");
+        symbols.label(UCUM.DRAM_APOTHECARY, "[DR_AP]");
+        symbols.label(UCUM.OUNCE_APOTHECARY, "[OZ_AP]");
+        symbols.label(UCUM.POUND_APOTHECARY, "[LB_AP]");
+        symbols.label(UCUM.LINE, "[LNE]");
+        symbols.label(UCUM.POINT, "[PNT]");
+        symbols.label(UCUM.PICA, "[PCA]");
+        symbols.label(UCUM.POINT_PRINTER, "[PNT_PR]");
+        symbols.label(UCUM.PICA_PRINTER, "[PCA_PR]");
+        symbols.label(UCUM.PIED, "[PIED]");
+        symbols.label(UCUM.POUCE, "[POUCE]");
+        symbols.label(UCUM.LIGNE, "[LIGNE]");
+        symbols.label(UCUM.DIDOT, "[DIDOT]");
+        symbols.label(UCUM.CICERO, "[CICERO]");
+        symbols.label(UCUM.FAHRENHEIT, "[DEGF]");
+        symbols.label(UCUM.CALORIE_AT_15C, "CAL_[15]");
+        symbols.label(UCUM.CALORIE_AT_20C, "CAL_[20]");
+        symbols.label(UCUM.CALORIE_MEAN, "CAL_M");
+        symbols.label(UCUM.CALORIE_INTERNATIONAL_TABLE, "CAL_IT");
+        symbols.label(UCUM.CALORIE, "CAL");
+        symbols.label(UCUM.CALORIE_THERMOCHEMICAL, "CAL_TH");
+        symbols.label(UCUM.CALORIE_FOOD, "[CAL]");
+        symbols.label(UCUM.BTU_AT_39F, "[BTU_39]");
+        symbols.label(UCUM.BTU_AT_59F, "[BTU_59]");
+        symbols.label(UCUM.BTU_AT_60F, "[BTU_60]");
+        symbols.label(UCUM.BTU_MEAN, "[BTU_M]");
+        symbols.label(UCUM.BTU_INTERNATIONAL_TABLE, "[BTU_IT]");
+        symbols.label(UCUM.BTU_THERMOCHEMICAL, "[BTU_TH]");
+        symbols.label(UCUM.BTU, "[BTU]");
+        symbols.label(UCUM.HORSEPOWER, "[HP]");
+        symbols.label(UCUM.STERE, "STR");
+        symbols.label(UCUM.ANGSTROM, "AO");
+        symbols.label(UCUM.BARN, "BRN");
+        symbols.label(UCUM.ATMOSPHERE_TECHNICAL, "ATT");
+        symbols.label(UCUM.MHO, "MHO");
+        symbols.label(UCUM.POUND_PER_SQUARE_INCH, "[PSI]");
+        symbols.label(UCUM.CIRCLE, "CIRC");
+        symbols.label(UCUM.SPHERE, "SPH");
+        symbols.label(UCUM.CARAT_METRIC, "[CAR_M]");
+        symbols.label(UCUM.CARAT_GOLD, "[CAR_AU]");
+        symbols.label(UCUM.BIT, "BIT");
+        symbols.label(UCUM.BIT_S, "BIT_S");
+        symbols.label(UCUM.BYTE, "BY");
+        symbols.label(UCUM.BAUD, "Bd");
+        symbols.label(UCUM.PH, "[PH]");
+        symbols.label(UCUM.GRAM_PERCENT, "G%");
+        symbols.label(UCUM.METER_OF_WATER_COLUMN, "M[H2O]");
+        symbols.label(UCUM.METER_OF_MERCURY_COLUMN, "M[HG]");
+        symbols.label(UCUM.INCH_OF_WATER_COLUMN, "[IN_I'H2O]");
+        symbols.label(UCUM.INCH_OF_MERCURY_COLUMN, "[IN_I'HG]");
+        symbols.label(UCUM.PERIPHERAL_VASCULAR_RESISTANCE, "[PRU]");
+        symbols.label(UCUM.WOOD, "[WOOD'U]");
+        symbols.label(UCUM.DROP, "[DRP]");
+        symbols.label(UCUM.KATAL, "KAT");
+        symbols.label(UCUM.UNIT, "U");
+        symbols.label(UCUM.INTERNATIONAL_UNIT_ALT, "[IU]");
+        symbols.label(UCUM.INTERNATIONAL_UNIT, "[IU]");
+        symbols.label(UCUM.NEPER, "NEP");
+        symbols.label(UCUM.BEL, "B");
+        symbols.label(UCUM.BEL_KILOWATT, "B[KW]");
+        symbols.label(UCUM.SMOOT, "[SMOOT]");
+        symbols.label(UCUM.SVEDBERG, "[S]");
+        symbols.label(Units.KILOMETRE_PER_HOUR, "[KPH]");
+        symbols.label(MetricPrefix.YOTTA, "Y");
+        symbols.label(MetricPrefix.ZETTA, "Z");
+        symbols.label(MetricPrefix.EXA, "EX");
+        symbols.label(MetricPrefix.PETA, "PT");
+        symbols.label(MetricPrefix.TERA, "TR");
+        symbols.label(MetricPrefix.GIGA, "GA");
+        symbols.label(MetricPrefix.MEGA, "MA");
+        symbols.label(MetricPrefix.KILO, "K");
+        symbols.label(MetricPrefix.HECTO, "H");
+        symbols.label(MetricPrefix.DECA, "DA");
+        symbols.label(MetricPrefix.DECI, "D");
+        symbols.label(MetricPrefix.CENTI, "C");
+        symbols.label(MetricPrefix.MILLI, "M");
+        symbols.label(MetricPrefix.MICRO, "U");
+        symbols.label(MetricPrefix.NANO, "N");
+        symbols.label(MetricPrefix.PICO, "P");
+        symbols.label(MetricPrefix.FEMTO, "F");
+        symbols.label(MetricPrefix.ATTO, "A");
+        symbols.label(MetricPrefix.ZEPTO, "ZO");
+        symbols.label(MetricPrefix.YOCTO, "YO");
+        symbols.label(MetricPrefix.QUETTA, "Q");
+        symbols.label(MetricPrefix.RONNA, "R");
+        symbols.label(MetricPrefix.QUECTO, "QO");
+        symbols.label(MetricPrefix.RONTO, "RO");
+        symbols.label(BinaryPrefix.KIBI, "KI");
+        symbols.label(BinaryPrefix.MEBI, "MI");
+        symbols.label(BinaryPrefix.GIBI, "GI");
+        symbols.label(BinaryPrefix.TEBI, "TI");
+        symbols.label(BinaryPrefix.PEBI, "PI");
+        symbols.label(BinaryPrefix.EXBI, "EI");
+        symbols.label(BinaryPrefix.ZEBI, "ZI");
+        symbols.label(BinaryPrefix.YOBI, "YI");
+        return symbols;
+    }
+
+    /**
+     * @return the unit and prefix symbols of <code>UCUMFormat_CI.properties</code>
+     */
+    static List<String> caseInsensitiveSymbols() {
+        return Arrays.asList("M", "S", "G", "RAD", "K", "C", "CD", "10^12", "10^9", "10^6", "10^3", "10^2", "[PI]", "%", "[PPTH]", "[PPM]",
+                "[PPB]", "[PPTR]", "EQ", "MOL", "OSM", "SR", "HZ", "N", "PAL", "J", "W", "A", "V", "F", "OHM", "SIE", "WB", "CEL", "T", "H",
+                "LM", "LX", "BQ", "GY", "SV", "DEG", "GON", "'", "''", "", "L", "AR", "MIN", "HR", "D", "WK", "ANN_T", "ANN_J", "ANN_G",
+                "ANN", "MO_S", "MO_J", "MO_G", "MO", "TNE", "BAR", "AMU", "EV", "ASU", "PRS", "[C]", "[H]", "[K]", "[EPS_0]", "[MU_0]",
+                "[E]", "[M_E]", "[M_P]", "[GC]", "[G]", "ATM", "[LY]", "GF", "KY", "GL", "DYN", "ERG", "P", "BI", "ST", "MX", "GS", "OE",
+                "GB", "SB", "LMB", "PHT", "CI", "ROE", "[REM]", "[RAD]", "[IN_I]", "[FT_I]", "[YD_I]", "[MI_I]", "[FTH_I]", "[NMI_I]",
+                "[KN_I]", "[SIN_I]", "[SFT_I]", "[SYD_I]", "[CIN_I]", "[CFT_I]", "[CYD_I]", "[BF_I]", "[CR_I]", "[MIL_I]", "[CML_I]",
+                "[HD_I]", "[FT_US]", "[YD_US]", "[IN_US]", "[RD_US]", "[CH_US]", "[LK_US]", "[RCH_US]", "[RLK_US]", "[FTH_US]", "[FUR_US]",
+                "[MI_US]", "[ACR_US]", "[SRD_US]", "[SMI_US]", "[SCT]", "[TWP]", "[MIL_US]", "[IN_BR]", "[FT_BR]", "[RD_BR]", "[CH_BR]",
+                "[LK_BR]", "[FTH_BR]", "[PC_BR]", "[YD_BR]", "[MI_BR]", "[NMI_BR]", "[KN_BR]", "[ACR_BR]", "[GAL_US]", "[BBL_US]",
+                "[QT_US]", "[PT_US]", "[GIL_US]", "[FOZ_US]", "[FDR_US]", "[MIN_US]", "[CRD_US]", "[BU_US]", "[GAL_WI]", "[PK_US]",
+                "[DQT_US]", "[DPT_US]", "[TBS_US]", "[TSP_US]", "[CUP_US]", "[GAL_BR]", "[PK_BR]", "[BU_BR]", "[QT_BR]", "[PT_BR]",
+                "[GIL_BR]", "[FOZ_BR]", "[FDR_BR]", "[MIN_BR]", "[GR]", "[LB_AV]", "[OZ_AV]", "[DR_AV]", "[SCWT_AV]", "[LCWT_AV]",
+                "[STON_AV]", "[LTON_AV]", "[STONE_AV]", "[LBF_AV]", "[PWT_TR]", "[OZ_TR]", "[LB_TR]", "[SC_AP]", "[DR_AP]", "[OZ_AP]",
+                "[LB_AP]", "[LNE]", "[PNT]", "[PCA]", "[PNT_PR]", "[PCA_PR]", "[PIED]", "[POUCE]", "[LIGNE]", "[DIDOT]", "[CICERO]",
+                "[DEGF]", "CAL_[15]", "CAL_[20]", "CAL_M", "CAL_IT", "CAL", "CAL_TH", "[CAL]", "[BTU_39]", "[BTU_59]", "[BTU_60]",
+                "[BTU_M]", "[BTU_IT]", "[BTU_TH]", "[BTU]", "[HP]", "STR", "AO", "BRN", "ATT", "MHO", "[PSI]", "CIRC", "SPH", "[CAR_M]",
+                "[CAR_AU]", "BIT", "BIT_S", "BY", "Bd", "[PH]", "G%", "M[H2O]", "M[HG]", "[IN_I'H2O]", "[IN_I'HG]", "[PRU]", "[WOOD'U]",
+                "[DRP]", "KAT", "U", "[IU]", "[IU]", "NEP", "B", "B[KW]", "[SMOOT]", "[S]", "[KPH]", "Y", "Z", "EX", "PT", "TR", "GA", "MA",
+                "K", "H", "DA", "D", "C", "M", "U", "N", "P", "F", "A", "ZO", "YO", "Q", "R", "QO", "RO", "KI", "MI", "GI", "TI", "PI",
+                "EI", "ZI", "YI");
+    }
+
+    /**
+     * @return a new symbol map with the entries of <code>UCUMFormat_Print.properties</code>
+     */
+    static SymbolMap print() {
+        final SymbolMap symbols = empty();
+        symbols.label(UCUM.METER, "m");
+        symbols.label(UCUM.SECOND, "s");
+        symbols.label(UCUM.GRAM, "g");
+        symbols.label(UCUM.RADIAN, "rad");
+        symbols.label(UCUM.KELVIN, "K");
+        symbols.label(UCUM.COULOMB, "C");
+        symbols.label(UCUM.CANDELA, "ca");
+        symbols.label(UCUM.TRILLIONS, "10\u00B9\u00B2");
+        symbols.label(UCUM.BILLIONS, "10\u2079");
+        symbols.label(UCUM.MILLIONS, "10\u2076");
+        symbols.label(UCUM.THOUSANDS, "10\u00B3");
+        symbols.label(UCUM.HUNDREDS, "10\u00B2");
+        symbols.label(UCUM.PI, "\u03C0");
+        symbols.label(UCUM.PERCENT, "%");
+        symbols.label(UCUM.PER_THOUSAND, "ppth");
+        symbols.label(UCUM.PER_MILLION, "ppm");
+        symbols.label(UCUM.PER_BILLION, "ppb");
+        symbols.label(UCUM.PER_TRILLION, "pptr");
+        symbols.label(UCUM.EQUIVALENTS, "eq");
+        symbols.label(UCUM.MOLE, "mol");
+        symbols.label(UCUM.OSMOLE, "osm");
+        symbols.label(UCUM.STERADIAN, "sr");
+        symbols.label(UCUM.HERTZ, "Hz");
+        symbols.label(UCUM.NEWTON, "N");
+        symbols.label(UCUM.PASCAL, "Pa");
+        symbols.label(UCUM.JOULE, "J");
+        symbols.label(UCUM.WATT, "W");
+        symbols.label(UCUM.AMPERE, "A");
+        symbols.label(UCUM.VOLT, "V");
+        symbols.label(UCUM.FARAD, "F");
+        symbols.label(UCUM.OHM, "\u03A9");
+        symbols.label(UCUM.SIEMENS, "S");
+        symbols.label(UCUM.WEBER, "Wb");
+        symbols.label(UCUM.CELSIUS, "\u00B0C");
+        symbols.label(UCUM.TESLA, "T");
+        symbols.label(UCUM.HENRY, "H");
+        symbols.label(UCUM.LUMEN, "lm");
+        symbols.label(UCUM.LUX, "lx");
+        symbols.label(UCUM.BECQUEREL, "Bq");
+        symbols.label(UCUM.GRAY, "Gy");
+        symbols.label(UCUM.SIEVERT, "Sv");
+        symbols.label(UCUM.DEGREE, "\u00B0");
+        symbols.label(UCUM.GRADE, "\u25A1g");
+        symbols.label(UCUM.MINUTE_ANGLE, "'");
+        symbols.label(UCUM.SECOND_ANGLE, "\"");
+        symbols.label(UCUM.LITER_DM3, "l");
+        symbols.label(UCUM.LITER, "L");
+        symbols.label(UCUM.ARE, "a");
+        symbols.label(UCUM.MINUTE, "min");
+        symbols.label(UCUM.DAY, "d");
+        symbols.label(UCUM.WEEK, "wk");
+        symbols.label(UCUM.YEAR_TROPICAL, "a_t");
+        symbols.label(UCUM.YEAR_JULIAN, "a_j");
+        symbols.label(UCUM.YEAR_GREGORIAN, "a_g");
+        symbols.label(UCUM.YEAR, "a");
+        symbols.label(UCUM.MONTH_SYNODAL, "mo_s");
+        symbols.label(UCUM.MONTH_JULIAN, "mo_j");
+        symbols.label(UCUM.MONTH_GREGORIAN, "mo_g");
+        symbols.label(UCUM.MONTH, "mo");
+        symbols.label(UCUM.TONNE, "t");
+        symbols.label(UCUM.BAR, "bar");
+        symbols.label(UCUM.ATOMIC_MASS_UNIT, "u");
+        symbols.label(UCUM.ELECTRON_VOLT, "eV");
+        symbols.label(UCUM.ASTRONOMIC_UNIT, "AU");
+        symbols.label(UCUM.PARSEC, "PC");
+        symbols.label(UCUM.VELOCITY_OF_LIGHT, "c");
+        symbols.label(UCUM.PLANCK, "h");
+        symbols.label(UCUM.HOUR, "h");
+        symbols.label(UCUM.BOLTZMAN, "k");
+        symbols.label(UCUM.PERMITTIVITY_OF_VACUUM, "\u03B5\u2080");
+        symbols.label(UCUM.PERMEABILITY_OF_VACUUM, "\u03BC\u2080");
+        symbols.label(UCUM.ELEMENTARY_CHARGE, "e");
+        symbols.label(UCUM.ELECTRON_MASS, "m_e");
+        symbols.label(UCUM.PROTON_MASS, "m_p");
+        symbols.label(UCUM.NEWTON_CONSTANT_OF_GRAVITY, "G");
+        symbols.label(UCUM.ACCELERATION_OF_FREEFALL, "g_n");
+        symbols.label(UCUM.ATMOSPHERE, "atm");
+        symbols.label(UCUM.LIGHT_YEAR, "l.y.");
+        symbols.label(UCUM.GRAM_FORCE, "gf");
+        symbols.label(UCUM.KAYSER, "K");
+        symbols.label(UCUM.GAL, "Gal");
+        symbols.label(UCUM.DYNE, "dyn");
+        symbols.label(UCUM.ERG, "erg");
+        symbols.label(UCUM.POISE, "P");
+        symbols.label(UCUM.BIOT, "Bi");
+        symbols.label(UCUM.STOKES, "St");
+        symbols.label(UCUM.MAXWELL, "Mx");
+        symbols.label(UCUM.GAUSS, "Gs");
+        symbols.label(UCUM.OERSTED, "Oe");
+        symbols.label(UCUM.GILBERT, "Gb");
+        symbols.label(UCUM.STILB, "sb");
+        symbols.label(UCUM.LAMBERT, "L");
+        symbols.label(UCUM.PHOT, "ph");
+        symbols.label(UCUM.CURIE, "Ci");
+        symbols.label(UCUM.ROENTGEN, "R");
+        symbols.label(UCUM.REM, "REM");
+        symbols.label(UCUM.RAD, "RAD");
+        symbols.label(UCUM.INCH_INTERNATIONAL, "in_i");
+        symbols.label(UCUM.FOOT_INTERNATIONAL, "ft_i");
+        symbols.label(UCUM.YARD_INTERNATIONAL, "yd_i");
+        symbols.label(UCUM.MILE_INTERNATIONAL, "mi_i");
+        symbols.label(UCUM.FATHOM_INTERNATIONAL, "fth_i");
+        symbols.label(UCUM.NAUTICAL_MILE_INTERNATIONAL, "nmi_i");
+        symbols.label(UCUM.KNOT_INTERNATIONAL, "kn_i");
+        symbols.label(UCUM.SQUARE_INCH_INTERNATIONAL, "sin_i");
+        symbols.label(UCUM.SQUARE_FOOT_INTERNATIONAL, "sft_i");
+        symbols.label(UCUM.SQUARE_YARD_INTERNATIONAL, "syd_i");
+        symbols.label(UCUM.CUBIC_INCH_INTERNATIONAL, "cin_i");
+        symbols.label(UCUM.CUBIC_FOOT_INTERNATIONAL, "cft_i");
+        symbols.label(UCUM.CUBIC_YARD_INTERNATIONAL, "cyd_i");
+        symbols.label(UCUM.BOARD_FOOT_INTERNATIONAL, "bf_i");
+        symbols.label(UCUM.CORD_INTERNATIONAL, "cr_i");
+        symbols.label(UCUM.MIL_INTERNATIONAL, "mil_i");
+        symbols.label(UCUM.CIRCULAR_MIL_INTERNATIONAL, "cml_i");
+        symbols.label(UCUM.HAND_INTERNATIONAL, "hd_i");
+        symbols.label(UCUM.FOOT_US_SURVEY, "ft_us");
+        symbols.label(UCUM.YARD_US_SURVEY, "yd_us");
+        symbols.label(UCUM.INCH_US_SURVEY, "in_us");
+        symbols.label(UCUM.ROD_US_SURVEY, "rd_us");
+        symbols.label(UCUM.CHAIN_US_SURVEY, "ch_us");
+        symbols.label(UCUM.LINK_US_SURVEY, "lk_us");
+        symbols.label(UCUM.RAMDEN_CHAIN_US_SURVEY, "rch_us");
+        symbols.label(UCUM.RAMDEN_LINK_US_SURVEY, "rlk_us");
+        symbols.label(UCUM.FATHOM_US_SURVEY, "fth_us");
+        symbols.label(UCUM.FURLONG_US_SURVEY, "fur_us");
+        symbols.label(UCUM.MILE_US_SURVEY, "mi_us");
+        symbols.label(UCUM.ACRE_US_SURVEY, "acr_us");
+        symbols.label(UCUM.SQUARE_ROD_US_SURVEY, "src_us");
+        symbols.label(UCUM.SQUARE_MILE_US_SURVEY, "smi_us");
+        symbols.label(UCUM.SECTION_US_SURVEY, "sct");
+        symbols.label(UCUM.TOWNSHP_US_SURVEY, "twp");
+        symbols.label(UCUM.MIL_US_SURVEY, "mil_us");
+        symbols.label(UCUM.INCH_BRITISH, "in_br");
+        symbols.label(UCUM.FOOT_BRITISH, "ft_br");
+        symbols.label(UCUM.ROD_BRITISH, "rd_br");
+        symbols.label(UCUM.CHAIN_BRITISH, "ch_br");
+        symbols.label(UCUM.LINK_BRITISH, "lk_br");
+        symbols.label(UCUM.FATHOM_BRITISH, "fth_br");
+        symbols.label(UCUM.PACE_BRITISH, "pc_br");
+        symbols.label(UCUM.YARD_BRITISH, "yd_br");
+        symbols.label(UCUM.MILE_BRITISH, "mi_br");
+        symbols.label(UCUM.NAUTICAL_MILE_BRITISH, "nmi_br");
+        symbols.label(UCUM.KNOT_BRITISH, "kn_br");
+        symbols.label(UCUM.ACRE_BRITISH, "acr_br");
+        symbols.label(UCUM.GALLON_US, "gal_us");
+        symbols.label(UCUM.BARREL_US, "bbl_us");
+        symbols.label(UCUM.QUART_US, "qt_us");
+        symbols.label(UCUM.PINT_US, "pt_us");
+        symbols.label(UCUM.GILL_US, "gil_us");
+        symbols.label(UCUM.FLUID_OUNCE_US, "foz_us");
+        symbols.label(UCUM.FLUID_DRAM_US, "fdr_us");
+        symbols.label(UCUM.MINIM_US, "min_us");
+        symbols.label(UCUM.CORD_US, "crd_us");
+        symbols.label(UCUM.BUSHEL_US, "bu_us");
+        symbols.label(UCUM.GALLON_WINCHESTER, "gal_wi");
+        symbols.label(UCUM.PECK_US, "pk_us");
+        symbols.label(UCUM.DRY_QUART_US, "dqt_us");
+        symbols.label(UCUM.DRY_PINT_US, "dpt_us");
+        symbols.label(UCUM.TABLESPOON_US, "tbs_us");
+        symbols.label(UCUM.TEASPOON_US, "tsp_us");
+        symbols.label(UCUM.CUP_US, "cup_us");
+        symbols.label(UCUM.GALLON_BRITISH, "gal_br");
+        symbols.label(UCUM.PECK_BRITISH, "pk_br");
+        symbols.label(UCUM.BUSHEL_BRITISH, "bu_br");
+        symbols.label(UCUM.QUART_BRITISH, "qt_br");
+        symbols.label(UCUM.PINT_BRITISH, "pt_br");
+        symbols.label(UCUM.GILL_BRITISH, "gil_br");
+        symbols.label(UCUM.FLUID_OUNCE_BRITISH, "foz_br");
+        symbols.label(UCUM.FLUID_DRAM_BRITISH, "fdr_br");
+        symbols.label(UCUM.MINIM_BRITISH, "min_br");
+        symbols.label(UCUM.GRAIN, "gr");
+        symbols.label(UCUM.POUND, "lb_av");
+        symbols.label(UCUM.OUNCE, "oz_av");
+        symbols.label(UCUM.DRAM, "dr_av");
+        symbols.label(UCUM.SHORT_HUNDREDWEIGHT, "scwt_av");
+        symbols.label(UCUM.LONG_HUNDREDWEIGHT, "lcwt_av");
+        symbols.label(UCUM.SHORT_TON, "ston_av");
+        symbols.label(UCUM.LONG_TON, "lton_av");
+        symbols.label(UCUM.STONE, "stone_av");
+        symbols.label(UCUM.POUND_FORCE, "lbf");
+        symbols.label(UCUM.PENNYWEIGHT_TROY, "pwt_tr");
+        symbols.label(UCUM.OUNCE_TROY, "oz_tr");
+        symbols.label(UCUM.POUND_TROY, "lb_tr");
+        symbols.label(UCUM.SCRUPLE_APOTHECARY, "sc_ap");
+        symbols.label(UCUM.DRAM_APOTHECARY, "dr_ap");
+        symbols.label(UCUM.OUNCE_APOTHECARY, "oz_ap");
+        symbols.label(UCUM.POUND_APOTHECARY, "lb_ap");
+        symbols.label(UCUM.LINE, "lne");
+        symbols.label(UCUM.POINT, "pnt");
+        symbols.label(UCUM.PICA, "pca");
+        symbols.label(UCUM.POINT_PRINTER, "pnt_pr");
+        symbols.label(UCUM.PICA_PRINTER, "pca_pr");
+        symbols.label(UCUM.PIED, "pied");
+        symbols.label(UCUM.POUCE, "pouce");
+        symbols.label(UCUM.LIGNE, "ligne");
+        symbols.label(UCUM.DIDOT, "didot");
+        symbols.label(UCUM.CICERO, "cicero");
+        symbols.label(UCUM.FAHRENHEIT, "\u00B0F");
+        symbols.label(UCUM.CALORIE_AT_15C, "cal15\u00B0C");
+        symbols.label(UCUM.CALORIE_AT_20C, "cal20\u00B0C");
+        symbols.label(UCUM.CALORIE_MEAN, "cal_m");
+        symbols.label(UCUM.CALORIE_INTERNATIONAL_TABLE, "cal_IT");
+        symbols.label(UCUM.CALORIE, "cal");
+        symbols.label(UCUM.CALORIE_THERMOCHEMICAL, "cal_th");
+        symbols.label(UCUM.CALORIE_FOOD, "Cal");
+        symbols.label(UCUM.BTU_AT_39F, "Btu39\u00B0F");
+        symbols.label(UCUM.BTU_AT_59F, "Btu59\u00B0F");
+        symbols.label(UCUM.BTU_AT_60F, "Btu60\u00B0F");
+        symbols.label(UCUM.BTU_MEAN, "Btu_m");
+        symbols.label(UCUM.BTU_INTERNATIONAL_TABLE, "Btu_IT");
+        symbols.label(UCUM.BTU_THERMOCHEMICAL, "Btu_th");
+        symbols.label(UCUM.BTU, "btu");
+        symbols.label(UCUM.HORSEPOWER, "HP");
+        symbols.label(UCUM.STERE, "st");
+        symbols.label(UCUM.ANGSTROM, "\u00C5");
+        symbols.label(UCUM.BARN, "b");
+        symbols.label(UCUM.ATMOSPHERE_TECHNICAL, "at");
+        symbols.label(UCUM.MHO, "mho");
+        symbols.label(UCUM.POUND_PER_SQUARE_INCH, "psi");
+        symbols.label(UCUM.CIRCLE, "circ");
+        symbols.label(UCUM.SPHERE, "sph");
+        symbols.label(UCUM.CARAT_METRIC, "ct_m");
+        symbols.label(UCUM.CARAT_GOLD, "ct_Au");
+        symbols.label(UCUM.BIT, "bit");
+        symbols.label(UCUM.BIT_S, "bit\u2082");
+        symbols.label(UCUM.BAUD, "Bd");
+        symbols.label(UCUM.PH, "pH");
+        symbols.label(UCUM.GRAM_PERCENT, "g%");
+        symbols.label(UCUM.METER_OF_WATER_COLUMN, "m H2O");
+        symbols.label(UCUM.METER_OF_MERCURY_COLUMN, "m Hg");
+        symbols.label(UCUM.INCH_OF_WATER_COLUMN, "in H2O");
+        symbols.label(UCUM.INCH_OF_MERCURY_COLUMN, "in Hg");
+        symbols.label(UCUM.PERIPHERAL_VASCULAR_RESISTANCE, "P.R.U.");
+        symbols.label(UCUM.WOOD, "Wood U.");
+        symbols.label(UCUM.DROP, "drp");
+        symbols.label(UCUM.KATAL, "kat");
+        symbols.label(UCUM.UNIT, "U");
+        symbols.label(UCUM.INTERNATIONAL_UNIT, "IU");
+        symbols.label(UCUM.INTERNATIONAL_UNIT_ALT, "i.U.");
+        symbols.label(UCUM.NEPER, "Np");
+        symbols.label(UCUM.BEL, "B");
+        symbols.label(UCUM.BYTE, "B");
+        symbols.label(UCUM.BEL_KILOWATT, "B(kW)");
+        symbols.label(UCUM.SMOOT, "Smoot");
+        symbols.label(UCUM.SVEDBERG, "S");
+        symbols.label(Units.KILOMETRE_PER_HOUR, "kph");
+        symbols.label(MetricPrefix.YOTTA, "Y");
+        symbols.label(MetricPrefix.ZETTA, "Z");
+        symbols.label(MetricPrefix.EXA, "E");
+        symbols.label(MetricPrefix.PETA, "P");
+        symbols.label(MetricPrefix.TERA, "T");
+        symbols.label(MetricPrefix.GIGA, "G");
+        symbols.label(MetricPrefix.MEGA, "M");
+        symbols.label(MetricPrefix.KILO, "k");
+        symbols.label(MetricPrefix.HECTO, "h");
+        symbols.label(MetricPrefix.DECA, "da");
+        symbols.label(MetricPrefix.DECI, "d");
+        symbols.label(MetricPrefix.CENTI, "c");
+        symbols.label(MetricPrefix.MILLI, "m");
+        symbols.label(MetricPrefix.MICRO, "\u00B5");
+        symbols.label(MetricPrefix.NANO, "n");
+        symbols.label(MetricPrefix.PICO, "p");
+        symbols.label(MetricPrefix.FEMTO, "f");
+        symbols.label(MetricPrefix.ATTO, "a");
+        symbols.label(MetricPrefix.ZEPTO, "z");
+        symbols.label(MetricPrefix.YOCTO, "y");
+        symbols.label(MetricPrefix.QUETTA, "Q");
+        symbols.label(MetricPrefix.RONNA, "R");
+        symbols.label(MetricPrefix.QUECTO, "q");
+        symbols.label(MetricPrefix.RONTO, "r");
+        symbols.label(BinaryPrefix.KIBI, "Ki");
+        symbols.label(BinaryPrefix.MEBI, "Mi");
+        symbols.label(BinaryPrefix.GIBI, "Gi");
+        symbols.label(BinaryPrefix.TEBI, "Ti");
+        symbols.label(BinaryPrefix.PEBI, "Pi");
+        symbols.label(BinaryPrefix.EXBI, "Ei");
+        symbols.label(BinaryPrefix.ZEBI, "Zi");
+        symbols.label(BinaryPrefix.YOBI, "Yi");
+        return symbols;
+    }
+
+    /**
+     * @return the unit and prefix symbols of <code>UCUMFormat_Print.properties</code>
+     */
+    static List<String> printSymbols() {
+        return Arrays.asList("m", "s", "g", "rad", "K", "C", "ca", "10\u00B9\u00B2", "10\u2079", "10\u2076", "10\u00B3", "10\u00B2",
+                "\u03C0", "%", "ppth", "ppm", "ppb", "pptr", "eq", "mol", "osm", "sr", "Hz", "N", "Pa", "J", "W", "A", "V", "F", "\u03A9",
+                "S", "Wb", "\u00B0C", "T", "H", "lm", "lx", "Bq", "Gy", "Sv", "\u00B0", "\u25A1g", "'", "\"", "l", "L", "a", "min", "d",
+                "wk", "a_t", "a_j", "a_g", "a", "mo_s", "mo_j", "mo_g", "mo", "t", "bar", "u", "eV", "AU", "PC", "c", "h", "h", "k",
+                "\u03B5\u2080", "\u03BC\u2080", "e", "m_e", "m_p", "G", "g_n", "atm", "l.y.", "gf", "K", "Gal", "dyn", "erg", "P", "Bi",
+                "St", "Mx", "Gs", "Oe", "Gb", "sb", "L", "ph", "Ci", "R", "REM", "RAD", "in_i", "ft_i", "yd_i", "mi_i", "fth_i", "nmi_i",
+                "kn_i", "sin_i", "sft_i", "syd_i", "cin_i", "cft_i", "cyd_i", "bf_i", "cr_i", "mil_i", "cml_i", "hd_i", "ft_us", "yd_us",
+                "in_us", "rd_us", "ch_us", "lk_us", "rch_us", "rlk_us", "fth_us", "fur_us", "mi_us", "acr_us", "src_us", "smi_us", "sct",
+                "twp", "mil_us", "in_br", "ft_br", "rd_br", "ch_br", "lk_br", "fth_br", "pc_br", "yd_br", "mi_br", "nmi_br", "kn_br",
+                "acr_br", "gal_us", "bbl_us", "qt_us", "pt_us", "gil_us", "foz_us", "fdr_us", "min_us", "crd_us", "bu_us", "gal_wi",
+                "pk_us", "dqt_us", "dpt_us", "tbs_us", "tsp_us", "cup_us", "gal_br", "pk_br", "bu_br", "qt_br", "pt_br", "gil_br", "foz_br",
+                "fdr_br", "min_br", "gr", "lb_av", "oz_av", "dr_av", "scwt_av", "lcwt_av", "ston_av", "lton_av", "stone_av", "lbf",
+                "pwt_tr", "oz_tr", "lb_tr", "sc_ap", "dr_ap", "oz_ap", "lb_ap", "lne", "pnt", "pca", "pnt_pr", "pca_pr", "pied", "pouce",
+                "ligne", "didot", "cicero", "\u00B0F", "cal15\u00B0C", "cal20\u00B0C", "cal_m", "cal_IT", "cal", "cal_th", "Cal",
+                "Btu39\u00B0F", "Btu59\u00B0F", "Btu60\u00B0F", "Btu_m", "Btu_IT", "Btu_th", "btu", "HP", "st", "\u00C5", "b", "at", "mho",
+                "psi", "circ", "sph", "ct_m", "ct_Au", "bit", "bit\u2082", "Bd", "pH", "g%", "m H2O", "m Hg", "in H2O", "in Hg", "P.R.U.",
+                "Wood U.", "drp", "kat", "U", "IU", "i.U.", "Np", "B", "B", "B(kW)", "Smoot", "S", "kph", "Y", "Z", "E", "P", "T", "G", "M",
+                "k", "h", "da", "d", "c", "m", "\u00B5", "n", "p", "f", "a", "z", "y", "Q", "R", "q", "r", "Ki", "Mi", "Gi", "Ti", "Pi",
+                "Ei", "Zi", "Yi");
+    }
+
+    private static SymbolMap empty() {
+        return SymbolMap.of(new ListResourceBundle() {
+            @Override
+            protected Object[][] getContents() {
+                return new Object[0][];
+            }
+        });
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.ucum.format;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * <p>
+ * Package private support class for {@link UCUMFormat#parseLines(Reader, UCUMLineConsumer)} and its overloads, splitting a stream into
+ * lines and passing the result for each line to a {@link UCUMLineConsumer}.
+ * </p>
+ *
+ * <p>
+ * Characters are copied into a reusable line buffer. Bytes are decoded as ISO-8859-1, which is exact for the 7-bit ASCII of UCUM, and any
+ * other byte is reported as a lexical error by the parser. Lines end at <code>'\n'</code>, a preceding <code>'\r'</code> is dropped. The
+ * results of recently seen lines are kept in a bounded {@link UCUMCodeTable}, so a repeated line is neither copied nor parsed again and
+ * nothing is allocated for it. A line longer than {@link #MAXIMUM_LINE_LENGTH} is skipped up to its end and reported as a lexical error at
+ * that index, so the line buffer stays bounded as well.
+ * </p>
+ *
+ * @version 1.0, October 16, 2026
+ */
+final class UCUMLineParser implements CharSequence {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAXIMUM_DISTINCT_LINES = 4096;
+
+    /** The maximum number of characters of a line, not counting its terminator. */
+    static final int MAXIMUM_LINE_LENGTH = 4096;
+
+    private final UCUMFormat format;
+    private final UCUMLineConsumer consumer;
+    private UCUMCodeTable<UCUMParseResult> results = new UCUMCodeTable<>(64);
+    private char[] line = new char[128];
+    private int length;
+    /** Whether the current line exceeds the maximum length, its remaining characters are dropped. */
+    private boolean overlong;
+    private long lineNumber;
+
+    UCUMLineParser(UCUMFormat format, UCUMLineConsumer consumer) {
+        this.format = format;
+        this.consumer = consumer;
+    }
+
+    void parse(Reader reader) throws IOException {
+        final char[] buffer = new char[BUFFER_SIZE];
+        int n;
+        while ((n = reader.read(buffer)) >= 0) {
+            for (int i = 0; i < n; i++) {
+                append(buffer[i]);
+            }
+        }
+        finish();
+    }
+
+    void parse(ReadableByteChannel channel) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        while (channel.read(buffer) >= 0) {
+            final byte[] bytes = buffer.array();
+            for (int i = 0, n = buffer.position(); i < n; i++) {
+                append((char) (bytes[i] & 0xFF));
+            }
+            // cast for binary compatibility with Java 8, where Buffer declares clear()
+            ((Buffer) buffer).clear();
+        }
+        finish();
+    }
+
+    void parse(ByteBuffer bytes) {
+        // absolute reads, which a mapped buffer serves without copying
+        for (int i = bytes.position(), n = bytes.limit(); i < n; i++) {
+            append((char) (bytes.get(i) & 0xFF));
+        }
+        ((Buffer) bytes).position(bytes.limit());
+        finish();
+    }
+
+    private void append(char c) {
+        if (c == '\n') {
+            if (length > 0 && line[length - 1] == '\r') {
+                length--;
+            }
+            endLine();
+            return;
+        }
+        if (overlong) {
+            return;
+        }
+        // room for a '\r' after a line of maximum length
+        if (length > MAXIMUM_LINE_LENGTH || (length == MAXIMUM_LINE_LENGTH && c != '\r')) {
+            overlong = true;
+            return;
+        }
+        if (length == line.length) {
+            final char[] longer = new char[Math.min(length * 2, MAXIMUM_LINE_LENGTH + 1)];
+            System.arraycopy(line, 0, longer, 0, length);
+            line = longer;
+        }
+        line[length++] = c;
+    }
+
+    /**
+     * Ends a last line that has no line terminator.
+     */
+    private void finish() {
+        if (length > 0 || overlong) {
+            endLine();
+        }
+    }
+
+    private void endLine() {
+        lineNumber++;
+        if (overlong) {
+            length = 0;
+            overlong = false;
+            consumer.accept(lineNumber, UCUMParseResult.invalid(UCUMParseResult.ErrorKind.LEXICAL, MAXIMUM_LINE_LENGTH));
+            return;
+        }
+        UCUMParseResult result = results.get(this);
+        if (result == null) {
+            final String code = toString();
+            result = format.tryParse(code);
+            if (results.size() == MAXIMUM_DISTINCT_LINES) {
+                results = new UCUMCodeTable<>(64);
+            }
+            results.put(code, result);
+        }
+        length = 0;
+        consumer.accept(lineNumber, result);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+        return line[index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || start > end || end > length) {
+            throw new IndexOutOfBoundsException(start + ", " + end);
+        }
+        return new String(line, start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return new String(line, 0, length);
+    }
+}
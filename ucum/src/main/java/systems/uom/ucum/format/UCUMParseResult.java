@@ -0,0 +1,109 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.ucum.format;
+
+import javax.measure.Unit;
+
+/**
+ * <p>
+ * The outcome of {@link UCUMFormat#tryParse(CharSequence)}: either the parsed {@link Unit} or the position and kind of the first error.
+ * </p>
+ *
+ * <p>
+ * Invalid input is reported through this object instead of an exception, so no stack trace is filled when a code is rejected.
+ * </p>
+ *
+ * @version 1.0, October 16, 2026
+ */
+public final class UCUMParseResult {
+
+    /**
+     * The kinds of errors reported for an invalid UCUM expression.
+     */
+    public static enum ErrorKind {
+        /** A character that cannot start or continue any UCUM token. */
+        LEXICAL,
+        /** A token where the UCUM grammar does not allow it. */
+        SYNTAX,
+        /** A well-formed atom that is neither a known unit nor a known prefixed unit. */
+        UNKNOWN_ATOM
+    }
+
+    private final Unit<?> unit;
+    private final ErrorKind errorKind;
+    private final int errorIndex;
+
+    private UCUMParseResult(Unit<?> unit, ErrorKind errorKind, int errorIndex) {
+        this.unit = unit;
+        this.errorKind = errorKind;
+        this.errorIndex = errorIndex;
+    }
+
+    static UCUMParseResult valid(Unit<?> unit) {
+        return new UCUMParseResult(unit, null, -1);
+    }
+
+    static UCUMParseResult invalid(ErrorKind errorKind, int errorIndex) {
+        return new UCUMParseResult(null, errorKind, errorIndex);
+    }
+
+    /**
+     * @return <code>true</code> if the expression was parsed successfully
+     */
+    public boolean isValid() {
+        return unit != null;
+    }
+
+    /**
+     * @return the parsed unit, <code>null</code> if the expression is not valid
+     */
+    public Unit<?> getUnit() {
+        return unit;
+    }
+
+    /**
+     * @return the kind of the first error, <code>null</code> if the expression is valid
+     */
+    public ErrorKind getErrorKind() {
+        return errorKind;
+    }
+
+    /**
+     * @return the index of the first error in the parsed character sequence, <code>-1</code> if the expression is valid
+     */
+    public int getErrorIndex() {
+        return errorIndex;
+    }
+
+    @Override
+    public String toString() {
+        return isValid() ? "UCUMParseResult[" + unit + "]" : "UCUMParseResult[" + errorKind + " at " + errorIndex + "]";
+    }
+}
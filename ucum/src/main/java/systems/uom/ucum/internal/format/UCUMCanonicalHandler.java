@@ -0,0 +1,126 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.ucum.internal.format;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.measure.Prefix;
+import javax.measure.Unit;
+
+import systems.uom.ucum.UCUMCanonicalForm;
+import tech.units.indriya.format.SymbolMap;
+
+/**
+ * <p>
+ * {@link UCUMExpressionHandler} reducing an expression to its {@link UCUMCanonicalForm}.
+ * </p>
+ *
+ * <p>
+ * The canonical form of each atom is computed once from the converter of its unit to the system unit and cached. Atoms
+ * which are not on a ratio scale are kept by their case sensitive symbol, so that both variants reduce them alike.
+ * Instances are thread-safe.
+ * </p>
+ *
+ * @version 1.0, October 16, 2026
+ */
+public final class UCUMCanonicalHandler implements UCUMExpressionHandler<UCUMCanonicalForm> {
+
+    private final SymbolMap symbols;
+    private final ConcurrentHashMap<Unit<?>, UCUMCanonicalForm> atoms = new ConcurrentHashMap<>();
+    private final Set<Unit<?>> irreducible = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param symbols
+     *            the case sensitive symbol map naming the atoms which cannot be reduced
+     */
+    public UCUMCanonicalHandler(SymbolMap symbols) {
+        this.symbols = symbols;
+    }
+
+    @Override
+    public UCUMCanonicalForm one() {
+        return UCUMCanonicalForm.ONE;
+    }
+
+    @Override
+    public UCUMCanonicalForm atom(Unit<?> unit, Prefix prefix) {
+        UCUMCanonicalForm atom = atoms.get(unit);
+        if (atom == null) {
+            atom = atoms.computeIfAbsent(unit, this::canonicalForm);
+        }
+        if (prefix == null) {
+            return atom;
+        }
+        if (irreducible.contains(unit)) {
+            return UCUMCanonicalForm.ofAtom(symbols.getSymbol(prefix) + symbolOf(unit));
+        }
+        return atom.multiply(Math.pow(prefix.getValue().doubleValue(), prefix.getExponent()));
+    }
+
+    private UCUMCanonicalForm canonicalForm(Unit<?> unit) {
+        try {
+            return UCUMCanonicalForm.of(unit);
+        } catch (IllegalArgumentException e) {
+            irreducible.add(unit);
+            return UCUMCanonicalForm.ofAtom(symbolOf(unit));
+        }
+    }
+
+    private String symbolOf(Unit<?> unit) {
+        final String symbol = symbols.getSymbol(unit);
+        return symbol != null ? symbol : unit.toString();
+    }
+
+    @Override
+    public UCUMCanonicalForm factor(long factor) {
+        return UCUMCanonicalForm.ofFactor(factor);
+    }
+
+    @Override
+    public UCUMCanonicalForm multiply(UCUMCanonicalForm left, UCUMCanonicalForm right) {
+        return left.multiply(right);
+    }
+
+    @Override
+    public UCUMCanonicalForm divide(UCUMCanonicalForm left, UCUMCanonicalForm right) {
+        return left.divide(right);
+    }
+
+    @Override
+    public UCUMCanonicalForm pow(UCUMCanonicalForm base, int exponent) {
+        return base.pow(exponent);
+    }
+
+    @Override
+    public UCUMCanonicalForm annotate(UCUMCanonicalForm component, String annotation) {
+        return component;
+    }
+}
@@ -0,0 +1,521 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.ucum.internal.format;
+
+import static systems.uom.ucum.internal.format.UCUMTokenConstants.*;
+
+import javax.measure.Prefix;
+import javax.measure.Unit;
+
+import tech.units.indriya.AbstractUnit;
+import tech.units.indriya.format.SymbolMap;
+
+/**
+ * <p>
+ * Recursive-descent parser for {@link AbstractUnit Unit}s according to the <a href="http://ucum.org">Uniform Code for Units of Measure</a>.
+ * </p>
+ *
+ * <p>
+ * It implements the same grammar and lexical rules as {@link UCUMFormatParser}, but reads the given {@link CharSequence} by index instead of
+ * going through a {@link UCUMCharStream} and a {@link UCUMTokenManager}. No copy of the input, no stream buffer and no {@link Token} is created.
+ * Errors are recorded instead of being thrown while parsing, {@link #parseUnit()} reports them as the {@link TokenException} or
+ * {@link TokenMgrError} the JavaCC parser would raise.
+ * </p>
+ *
+ * <p>
+ * The operations of the expression are applied by a {@link UCUMExpressionHandler}, which builds the {@link Unit} unless another handler is
+ * given to {@link #parse(UCUMExpressionHandler)}.
+ * </p>
+ *
+ * <p>
+ * Instances are meant to parse a single expression and are not thread-safe.
+ * </p>
+ *
+ * @see UCUMFormatParser
+ * @version 1.1, October 16, 2026
+ */
+public final class UCUMCharSequenceParser {
+
+    /** No error was encountered. */
+    public static final int NO_ERROR = 0;
+
+    /** A character that cannot start or continue any token was encountered. */
+    public static final int LEXICAL_ERROR = 1;
+
+    /** A token was encountered where the grammar does not allow it. */
+    public static final int SYNTAX_ERROR = 2;
+
+    /** A well-formed atom that is neither a known unit nor a known prefixed unit. */
+    public static final int UNKNOWN_ATOM = 3;
+
+    /**
+     * The largest exponent accepted after an atom. The unit algebra raises a unit to a power with one recursive call per unit of the
+     * exponent, so a much larger exponent would overflow the stack before the unit is built.
+     */
+    public static final int MAX_EXPONENT = 999;
+
+    // Token kinds of the parentheses, these have no named constant in UCUMTokenConstants
+    private static final int LPAREN = 14;
+    private static final int RPAREN = 15;
+    private static final int NONE = -1;
+    private static final int INVALID = -2;
+
+    // Character classes of UCUMTokenManager, bit n of *_LOW stands for char n, bit n of *_HIGH for char 64 + n
+    private static final long ATOM_CHAR_LOW = 0xffff14fa00000000L;
+    private static final long ATOM_CHAR_HIGH = 0x57ffffffd7ffffffL;
+    private static final long TERMINAL_ATOM_CHAR_LOW = 0xfc0014fa00000000L;
+    private static final long TERMINAL_ATOM_CHAR_HIGH = 0x57ffffffd7ffffffL;
+    private static final long ESCAPED_ATOM_CHAR_LOW = 0xfffffffe00000000L;
+    private static final long ESCAPED_ATOM_CHAR_HIGH = 0x7fffffffd7ffffffL;
+    private static final long ANNOTATION_CHAR_LOW = 0xfffffffe00000000L;
+    private static final long ANNOTATION_CHAR_HIGH = 0x57ffffffffffffffL;
+
+    private final SymbolMap symbols;
+    private final UCUMSymbolTrie trie;
+    private final boolean foldCase;
+    private final CharSequence input;
+    private final int end;
+
+    /** Start of the next token. */
+    private int pos;
+    /** Kind of the next token, NONE if it has not been scanned yet. */
+    private int kind = NONE;
+    /** End of the next token. */
+    private int tokenEnd;
+
+    private int errorKind = NO_ERROR;
+    private int errorIndex = -1;
+
+    /**
+     * Creates a parser for the characters of <code>input</code> between <code>start</code> (inclusive) and <code>end</code> (exclusive).
+     *
+     * @param symbols
+     *            the symbol map resolving atoms and prefixes
+     * @param input
+     *            the character sequence to read from
+     * @param start
+     *            the index of the first character of the expression
+     * @param end
+     *            the index after the last character of the expression
+     */
+    public UCUMCharSequenceParser(SymbolMap symbols, CharSequence input, int start, int end) {
+        this(symbols, null, false, input, start, end);
+    }
+
+    /**
+     * Creates a parser resolving atoms with <code>trie</code>, which must have been built for <code>symbols</code>.
+     * <p>
+     * With <code>foldCase</code>, ASCII lower case letters of atoms and annotations are read as upper case ones, as the case insensitive
+     * variant requires. The input is not copied for this, and the default locale plays no role.
+     * </p>
+     *
+     * @param symbols
+     *            the symbol map resolving atoms and prefixes
+     * @param trie
+     *            the trie over <code>symbols</code>, or <code>null</code> to look atoms up in the symbol map. It must fold case if
+     *            <code>foldCase</code> is set.
+     * @param foldCase
+     *            <code>true</code> to parse case insensitively against an upper case symbol map
+     * @param input
+     *            the character sequence to read from
+     * @param start
+     *            the index of the first character of the expression
+     * @param end
+     *            the index after the last character of the expression
+     */
+    public UCUMCharSequenceParser(SymbolMap symbols, UCUMSymbolTrie trie, boolean foldCase, CharSequence input, int start, int end) {
+        this.symbols = symbols;
+        this.trie = trie;
+        this.foldCase = foldCase;
+        this.input = input;
+        this.pos = start;
+        this.end = end;
+    }
+
+    /**
+     * Parses the whole expression.
+     *
+     * @return the parsed unit
+     * @throws TokenException
+     *             if the expression is not valid UCUM
+     * @throws TokenMgrError
+     *             if the expression contains a character no UCUM token can start with
+     */
+    public Unit<?> parseUnit() throws TokenException {
+        final Unit<?> result = parse();
+        if (result == null) {
+            if (errorKind == LEXICAL_ERROR) {
+                throw new TokenMgrError(getErrorMessage(), TokenMgrError.LEXICAL_ERROR);
+            }
+            throw new TokenException(getErrorMessage());
+        }
+        return result;
+    }
+
+    /**
+     * Parses the whole expression without throwing on invalid input.
+     *
+     * @return the parsed unit or <code>null</code> if the expression is not valid, in which case {@link #getErrorKind()} and
+     *         {@link #getErrorIndex()} describe the first error
+     */
+    public Unit<?> parse() {
+        return parse(UCUMExpressionHandler.UNITS);
+    }
+
+    /**
+     * Parses the whole expression with the given handler, without throwing on invalid input.
+     *
+     * @param <T>
+     *            the type of the result
+     * @param handler
+     *            the handler applying the operations of the expression
+     * @return the result of the expression or <code>null</code> if the expression is not valid, in which case {@link #getErrorKind()} and
+     *         {@link #getErrorIndex()} describe the first error
+     */
+    public <T> T parse(UCUMExpressionHandler<T> handler) {
+        final T result = term(handler);
+        if (result == null) {
+            return null;
+        }
+        if (peek() != EOF) {
+            return fail(SYNTAX_ERROR, pos);
+        }
+        return result;
+    }
+
+    /**
+     * @return the kind of the first error, {@link #NO_ERROR} if there was none
+     */
+    public int getErrorKind() {
+        return errorKind;
+    }
+
+    /**
+     * @return the index of the first error in the input, <code>-1</code> if there was none
+     */
+    public int getErrorIndex() {
+        return errorIndex;
+    }
+
+    /**
+     * @return a description of the first error, <code>null</code> if there was none
+     */
+    public String getErrorMessage() {
+        switch (errorKind) {
+            case LEXICAL_ERROR:
+                return errorIndex < end ? "Unexpected character '" + input.charAt(errorIndex) + "' at index " + errorIndex
+                        : "Unexpected end of input at index " + errorIndex;
+            case SYNTAX_ERROR:
+                return errorIndex < end ? "Unexpected token at index " + errorIndex : "Unexpected end of input at index " + errorIndex;
+            case UNKNOWN_ATOM:
+                return "Unknown unit at index " + errorIndex;
+            default:
+                return null;
+        }
+    }
+
+    //
+    // Parser productions
+    //
+
+    private <T> T term(UCUMExpressionHandler<T> handler) {
+        T result = component(handler);
+        while (result != null) {
+            switch (peek()) {
+                case DOT:
+                    consume();
+                    final T multiplier = component(handler);
+                    result = multiplier == null ? null : handler.multiply(result, multiplier);
+                    break;
+                case SOLIDUS:
+                    consume();
+                    final T divisor = component(handler);
+                    result = divisor == null ? null : handler.divide(result, divisor);
+                    break;
+                default:
+                    return result;
+            }
+        }
+        return null;
+    }
+
+    private <T> T component(UCUMExpressionHandler<T> handler) {
+        T result;
+        switch (peek()) {
+            case ATOM:
+                result = annotatable(handler);
+                if (result != null && peek() == ANNOTATION) {
+                    return annotate(handler, result);
+                }
+                return result;
+            case ANNOTATION:
+                return annotate(handler, handler.one());
+            case FACTOR:
+                final long factor = number(pos, tokenEnd);
+                if (factor < 0) {
+                    return fail(SYNTAX_ERROR, pos);
+                }
+                consume();
+                return handler.factor(factor);
+            case SOLIDUS:
+                consume();
+                result = component(handler);
+                return result == null ? null : handler.divide(handler.one(), result);
+            case LPAREN:
+                consume();
+                result = term(handler);
+                if (result == null) {
+                    return null;
+                }
+                if (peek() != RPAREN) {
+                    return fail(SYNTAX_ERROR, pos);
+                }
+                consume();
+                return result;
+            default:
+                return fail(SYNTAX_ERROR, pos);
+        }
+    }
+
+    private <T> T annotatable(UCUMExpressionHandler<T> handler) {
+        final int atomStart = pos;
+        final T atom = simpleUnit(handler, atomStart, tokenEnd);
+        if (atom == null) {
+            return fail(UNKNOWN_ATOM, atomStart);
+        }
+        consume();
+        boolean negative = false;
+        switch (peek()) {
+            case SIGN:
+                negative = input.charAt(pos) == '-';
+                consume();
+                if (peek() != FACTOR) {
+                    return fail(SYNTAX_ERROR, pos);
+                }
+                // fall through
+            case FACTOR:
+                final long exponent = number(pos, tokenEnd);
+                if (exponent < 0 || exponent > MAX_EXPONENT) {
+                    return fail(SYNTAX_ERROR, pos);
+                }
+                consume();
+                return handler.pow(atom, negative ? (int) -exponent : (int) exponent);
+            default:
+                return atom;
+        }
+    }
+
+    private <T> T simpleUnit(UCUMExpressionHandler<T> handler, int atomStart, int atomEnd) {
+        if (trie != null) {
+            final int node = trie.find(input, atomStart, atomEnd);
+            return node < 0 ? null : handler.atom(trie.getUnit(node), trie.getPrefix(node));
+        }
+        final String symbol = text(atomStart, atomEnd);
+        Unit<?> unit = symbols.getUnit(symbol);
+        if (unit != null) {
+            return handler.atom(unit, null);
+        }
+        final Prefix prefix = symbols.getPrefix(symbol);
+        if (prefix != null) {
+            unit = symbols.getUnit(symbol.substring(symbols.getSymbol(prefix).length()));
+            if (unit != null) {
+                return handler.atom(unit, prefix);
+            }
+        }
+        return null;
+    }
+
+    private <T> T annotate(UCUMExpressionHandler<T> handler, T component) {
+        final String annotation = text(pos + 1, tokenEnd - 1);
+        consume();
+        return handler.annotate(component, annotation);
+    }
+
+    private String text(int start, int end) {
+        if (!foldCase) {
+            return input.subSequence(start, end).toString();
+        }
+        final char[] text = new char[end - start];
+        for (int i = 0; i < text.length; i++) {
+            text[i] = UCUMSymbolTrie.toUpperCase(input.charAt(start + i));
+        }
+        return new String(text);
+    }
+
+    private <T> T fail(int kind, int index) {
+        if (errorKind == NO_ERROR) {
+            errorKind = kind;
+            errorIndex = index;
+        }
+        return null;
+    }
+
+    /**
+     * @return the decimal value of the digits between <code>from</code> and <code>to</code>, <code>-1</code> if it overflows a long
+     */
+    private long number(int from, int to) {
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            final int digit = input.charAt(i) - '0';
+            if (value > (Long.MAX_VALUE - digit) / 10) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    //
+    // Lexical analysis
+    //
+
+    private int peek() {
+        if (kind == NONE) {
+            scan();
+        }
+        return kind;
+    }
+
+    private void consume() {
+        pos = tokenEnd;
+        kind = NONE;
+    }
+
+    /**
+     * Determines kind and end of the token starting at <code>pos</code>, following the longest match rule of {@link UCUMTokenManager}.
+     */
+    private void scan() {
+        if (pos >= end) {
+            kind = EOF;
+            tokenEnd = pos;
+            return;
+        }
+        final char c = input.charAt(pos);
+        switch (c) {
+            case '(':
+                token(LPAREN, pos + 1);
+                return;
+            case ')':
+                token(RPAREN, pos + 1);
+                return;
+            case '.':
+                token(DOT, pos + 1);
+                return;
+            case '/':
+                token(SOLIDUS, pos + 1);
+                return;
+            case '+':
+            case '-':
+                token(SIGN, pos + 1);
+                return;
+            case '{':
+                int i = pos + 1;
+                while (i < end && is(input.charAt(i), ANNOTATION_CHAR_LOW, ANNOTATION_CHAR_HIGH)) {
+                    i++;
+                }
+                if (i < end && input.charAt(i) == '}') {
+                    token(ANNOTATION, i + 1);
+                } else {
+                    lexicalError(i);
+                }
+                return;
+            default:
+                final int atomEnd = scanAtom(pos);
+                int factorEnd = pos;
+                while (factorEnd < end && isDigit(input.charAt(factorEnd))) {
+                    factorEnd++;
+                }
+                if (atomEnd > factorEnd) {
+                    token(ATOM, atomEnd);
+                } else if (factorEnd > pos) {
+                    token(FACTOR, factorEnd);
+                } else {
+                    lexicalError(pos);
+                }
+        }
+    }
+
+    /**
+     * Matches <code>ATOM_CHAR* TERMINAL_ATOM_CHAR+</code> or <code>ATOM_CHAR* '[' ESCAPED_ATOM_CHAR+ ']' (ATOM_CHAR* TERMINAL_ATOM_CHAR+)?</code>.
+     *
+     * @return the end of the longest atom starting at <code>start</code>, <code>start</code> if there is none
+     */
+    private int scanAtom(int start) {
+        int atomEnd = start;
+        int i = start;
+        char c;
+        while (i < end && is(c = input.charAt(i), ATOM_CHAR_LOW, ATOM_CHAR_HIGH)) {
+            if (is(c, TERMINAL_ATOM_CHAR_LOW, TERMINAL_ATOM_CHAR_HIGH)) {
+                atomEnd = i + 1;
+            }
+            i++;
+        }
+        if (i < end && input.charAt(i) == '[') {
+            int j = i + 1;
+            while (j < end && is(input.charAt(j), ESCAPED_ATOM_CHAR_LOW, ESCAPED_ATOM_CHAR_HIGH)) {
+                j++;
+            }
+            if (j > i + 1 && j < end && input.charAt(j) == ']') {
+                atomEnd = ++j;
+                while (j < end && is(c = input.charAt(j), ATOM_CHAR_LOW, ATOM_CHAR_HIGH)) {
+                    if (is(c, TERMINAL_ATOM_CHAR_LOW, TERMINAL_ATOM_CHAR_HIGH)) {
+                        atomEnd = j + 1;
+                    }
+                    j++;
+                }
+            }
+        }
+        return atomEnd;
+    }
+
+    private void token(int tokenKind, int endIndex) {
+        kind = tokenKind;
+        tokenEnd = endIndex;
+    }
+
+    private void lexicalError(int index) {
+        fail(LEXICAL_ERROR, index);
+        token(INVALID, index);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean is(char c, long low, long high) {
+        if (c < 64) {
+            return ((low >>> c) & 1L) != 0;
+        }
+        if (c < 128) {
+            return ((high >>> (c - 64)) & 1L) != 0;
+        }
+        return false;
+    }
+}
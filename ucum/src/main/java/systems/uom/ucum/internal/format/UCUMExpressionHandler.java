@@ -0,0 +1,99 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.ucum.internal.format;
+
+import javax.measure.Prefix;
+import javax.measure.Unit;
+
+/**
+ * <p>
+ * The operations {@link UCUMCharSequenceParser} applies while it reads a UCUM expression, in the order it reads them.
+ * </p>
+ *
+ * <p>
+ * The parser builds {@link Unit}s with {@link #UNITS}, other implementations reduce the expression to something else
+ * without the unit algebra. The results of the operations must not be <code>null</code>, an operand is not used again
+ * after it has been passed to an operation.
+ * </p>
+ *
+ * @param <T>
+ *            the type of the results
+ * @version 1.0, October 16, 2026
+ */
+public interface UCUMExpressionHandler<T> {
+
+    /**
+     * Builds the {@link Unit} of the expression.
+     */
+    static final UCUMExpressionHandler<Unit<?>> UNITS = new UCUMUnitHandler();
+
+    /**
+     * @return the result of an empty term, like the unit <code>1</code>
+     */
+    T one();
+
+    /**
+     * @param unit
+     *            the unit of the atom
+     * @param prefix
+     *            the prefix of the atom, <code>null</code> if it has none
+     * @return the result of an atom
+     */
+    T atom(Unit<?> unit, Prefix prefix);
+
+    /**
+     * @param factor
+     *            a non-negative integer factor
+     * @return the result of a factor
+     */
+    T factor(long factor);
+
+    /**
+     * @return the result of <code>left.right</code>
+     */
+    T multiply(T left, T right);
+
+    /**
+     * @return the result of <code>left/right</code>
+     */
+    T divide(T left, T right);
+
+    /**
+     * @return the result of an atom raised to an exponent
+     */
+    T pow(T base, int exponent);
+
+    /**
+     * @param annotation
+     *            the text between the curly braces
+     * @return the result of an annotated component
+     */
+    T annotate(T component, String annotation);
+}
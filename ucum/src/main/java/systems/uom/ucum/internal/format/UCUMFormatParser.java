@@ -53,12 +53,18 @@ import static systems.uom.ucum.internal.format.UCUMTokenConstants.*;
 public final class UCUMFormatParser {
 
     private SymbolMap symbols;
+    private UCUMSymbolTrie trie;
 
     public UCUMFormatParser(SymbolMap symbols, java.io.InputStream in) {
         this(in);
         this.symbols = symbols;
     }
 
+    public UCUMFormatParser(SymbolMap symbols, UCUMSymbolTrie trie, java.io.InputStream in) {
+        this(symbols, in);
+        this.trie = trie;
+    }
+
 //
 // Parser productions
 //
@@ -191,6 +197,13 @@ public final class UCUMFormatParser {
     final public Unit SimpleUnit() throws TokenException {
         Token token = null;
         token = jj_consume_token(ATOM);
+        if (trie != null) {
+            Unit unit = trie.resolve(token.image, 0, token.image.length());
+            if (unit == null) {
+                throw new TokenException();
+            }
+            return unit;
+        }
         Unit unit = symbols.getUnit(token.image);
         if (unit == null) {
             Prefix prefix = symbols.getPrefix(token.image);
@@ -0,0 +1,310 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.ucum.internal.format;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.measure.Prefix;
+import javax.measure.Unit;
+
+import tech.units.indriya.format.SymbolMap;
+import tech.units.indriya.function.MultiplyConverter;
+
+/**
+ * <p>
+ * Character trie over the unit symbols of a {@link SymbolMap} and over every prefix symbol followed by a unit symbol.
+ * </p>
+ *
+ * <p>
+ * An atom is resolved to its unit and prefix in a single pass over its characters, without creating a substring and without the repeated
+ * map probes and prefix scan of {@link SymbolMap#getUnit(String)} and {@link SymbolMap#getPrefix(String)}. The result is the same as the
+ * lookup done by {@link UCUMFormatParser}: a unit symbol wins over a prefixed unit, and only the longest prefix symbol an atom starts with is
+ * considered.
+ * </p>
+ *
+ * <p>
+ * A trie built for a pre-folded, upper case symbol table can fold ASCII lower case letters of the atom while walking it, this is how the
+ * case insensitive variant is matched without an upper case copy of the input and independently of the default locale.
+ * </p>
+ *
+ * <p>
+ * Instances are immutable and thread-safe. Only ASCII symbols are included, no UCUM atom can contain other characters.
+ * </p>
+ *
+ * @see UCUMFormatParser
+ * @see UCUMCharSequenceParser
+ * @version 1.0, October 16, 2026
+ */
+public final class UCUMSymbolTrie {
+
+    private static final int ROOT = 0;
+    private static final int CHAR_BITS = 7;
+    private static final int PREFIX_BITS = 8;
+
+    /** Open addressing table of edges, a key is <code>(node &lt;&lt; CHAR_BITS | char) + 1</code>, 0 marks an empty slot. */
+    private final int[] edgeKeys;
+    private final int[] edgeTargets;
+    private final int mask;
+    /** Per node <code>(unit index + 1) &lt;&lt; PREFIX_BITS | (prefix index + 1)</code>, 0 if no symbol ends at the node. */
+    private final int[] payloads;
+    private final Unit<?>[] units;
+    private final Prefix[] prefixes;
+    private final boolean foldCase;
+
+    private UCUMSymbolTrie(Builder builder, boolean foldCase) {
+        this.edgeKeys = builder.edgeKeys;
+        this.edgeTargets = builder.edgeTargets;
+        this.mask = builder.edgeKeys.length - 1;
+        this.payloads = Arrays.copyOf(builder.payloads, builder.nodeCount);
+        this.units = builder.units.toArray(new Unit<?>[0]);
+        this.prefixes = builder.prefixes.toArray(new Prefix[0]);
+        this.foldCase = foldCase;
+    }
+
+    /**
+     * Builds the trie for the given symbols.
+     *
+     * @param symbolMap
+     *            the symbol map the symbols are resolved with
+     * @param symbols
+     *            all unit and prefix symbols known to <code>symbolMap</code>
+     * @return the trie
+     */
+    public static UCUMSymbolTrie of(SymbolMap symbolMap, Iterable<String> symbols) {
+        return of(symbolMap, symbols, false);
+    }
+
+    /**
+     * Builds the trie for the given symbols.
+     *
+     * @param symbolMap
+     *            the symbol map the symbols are resolved with
+     * @param symbols
+     *            all unit and prefix symbols known to <code>symbolMap</code>
+     * @param foldCase
+     *            <code>true</code> to match ASCII lower case letters of an atom as upper case ones, the symbols must then be upper case
+     * @return the trie
+     */
+    public static UCUMSymbolTrie of(SymbolMap symbolMap, Iterable<String> symbols, boolean foldCase) {
+        final Map<String, Unit<?>> unitBySymbol = new LinkedHashMap<>();
+        final Map<String, Prefix> prefixBySymbol = new LinkedHashMap<>();
+        for (String symbol : symbols) {
+            if (!isAscii(symbol)) {
+                continue;
+            }
+            final Unit<?> unit = symbolMap.getUnit(symbol);
+            if (unit != null) {
+                unitBySymbol.put(symbol, unit);
+            }
+            final Prefix prefix = symbolMap.getPrefix(symbol);
+            if (prefix != null && symbol.equals(symbolMap.getSymbol(prefix))) {
+                prefixBySymbol.put(symbol, prefix);
+            }
+        }
+        final Builder builder = new Builder();
+        final int[] unitIndices = new int[unitBySymbol.size()];
+        int i = 0;
+        for (Map.Entry<String, Unit<?>> unit : unitBySymbol.entrySet()) {
+            unitIndices[i++] = builder.add(unit.getKey(), unit.getValue(), -1);
+        }
+        int prefixIndex = 0;
+        for (Map.Entry<String, Prefix> prefix : prefixBySymbol.entrySet()) {
+            builder.prefixes.add(prefix.getValue());
+            i = 0;
+            for (String unitSymbol : unitBySymbol.keySet()) {
+                final String symbol = prefix.getKey() + unitSymbol;
+                // same precedence as UCUMFormatParser: unit symbols first, then the longest prefix only
+                if (!unitBySymbol.containsKey(symbol) && prefix.getValue().equals(symbolMap.getPrefix(symbol))) {
+                    builder.insert(symbol, unitIndices[i], prefixIndex);
+                }
+                i++;
+            }
+            prefixIndex++;
+        }
+        return new UCUMSymbolTrie(builder, foldCase);
+    }
+
+    /**
+     * Looks up the atom between <code>start</code> (inclusive) and <code>end</code> (exclusive).
+     *
+     * @return the node the atom ends at, <code>-1</code> if the atom is neither a unit nor a prefixed unit
+     */
+    public int find(CharSequence csq, int start, int end) {
+        int node = ROOT;
+        for (int i = start; i < end && node >= 0; i++) {
+            node = child(node, csq.charAt(i));
+        }
+        return node >= 0 && payloads[node] != 0 ? node : -1;
+    }
+
+    /**
+     * @return the unit of an atom found by {@link #find(CharSequence, int, int)}, without its prefix
+     */
+    public Unit<?> getUnit(int node) {
+        return units[(payloads[node] >>> PREFIX_BITS) - 1];
+    }
+
+    /**
+     * @return the prefix of an atom found by {@link #find(CharSequence, int, int)}, <code>null</code> if it has none
+     */
+    public Prefix getPrefix(int node) {
+        final int prefix = payloads[node] & ((1 << PREFIX_BITS) - 1);
+        return prefix == 0 ? null : prefixes[prefix - 1];
+    }
+
+    /**
+     * Resolves the atom between <code>start</code> (inclusive) and <code>end</code> (exclusive).
+     *
+     * @return the unit the atom stands for, prefix applied, or <code>null</code> if it is unknown
+     */
+    public Unit<?> resolve(CharSequence csq, int start, int end) {
+        final int node = find(csq, start, end);
+        if (node < 0) {
+            return null;
+        }
+        final Unit<?> unit = getUnit(node);
+        final Prefix prefix = getPrefix(node);
+        return prefix == null ? unit : unit.transform(MultiplyConverter.ofPrefix(prefix));
+    }
+
+    /**
+     * @return <code>true</code> if ASCII lower case letters are matched as upper case ones
+     */
+    public boolean isFoldCase() {
+        return foldCase;
+    }
+
+    private int child(int node, char c) {
+        if (c >= (1 << CHAR_BITS)) {
+            return -1;
+        }
+        if (foldCase) {
+            c = toUpperCase(c);
+        }
+        final int key = ((node << CHAR_BITS) | c) + 1;
+        for (int slot = hash(key) & mask;; slot = (slot + 1) & mask) {
+            final int k = edgeKeys[slot];
+            if (k == key) {
+                return edgeTargets[slot];
+            }
+            if (k == 0) {
+                return -1;
+            }
+        }
+    }
+
+    private static int hash(int key) {
+        final int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Folds an ASCII lower case letter to upper case, independently of the default locale.
+     */
+    static char toUpperCase(char c) {
+        return c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+    }
+
+    private static boolean isAscii(String symbol) {
+        for (int i = 0; i < symbol.length(); i++) {
+            if (symbol.charAt(i) >= (1 << CHAR_BITS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Builder {
+        int[] edgeKeys = new int[1 << 10];
+        int[] edgeTargets = new int[1 << 10];
+        int edgeCount;
+        int[] payloads = new int[1 << 9];
+        int nodeCount = 1;
+        final List<Unit<?>> units = new ArrayList<>();
+        final List<Prefix> prefixes = new ArrayList<>();
+
+        int add(String symbol, Unit<?> unit, int prefixIndex) {
+            units.add(unit);
+            insert(symbol, units.size() - 1, prefixIndex);
+            return units.size() - 1;
+        }
+
+        void insert(String symbol, int unitIndex, int prefixIndex) {
+            int node = ROOT;
+            for (int i = 0; i < symbol.length(); i++) {
+                node = childOrNew(node, symbol.charAt(i));
+            }
+            payloads[node] = ((unitIndex + 1) << PREFIX_BITS) | (prefixIndex + 1);
+        }
+
+        private int childOrNew(int node, char c) {
+            final int key = ((node << CHAR_BITS) | c) + 1;
+            final int mask = edgeKeys.length - 1;
+            int slot = hash(key) & mask;
+            for (; edgeKeys[slot] != 0; slot = (slot + 1) & mask) {
+                if (edgeKeys[slot] == key) {
+                    return edgeTargets[slot];
+                }
+            }
+            final int child = nodeCount++;
+            if (child == payloads.length) {
+                payloads = Arrays.copyOf(payloads, child * 2);
+            }
+            edgeKeys[slot] = key;
+            edgeTargets[slot] = child;
+            if (++edgeCount * 2 > edgeKeys.length) {
+                rehash();
+            }
+            return child;
+        }
+
+        private void rehash() {
+            final int[] oldKeys = edgeKeys;
+            final int[] oldTargets = edgeTargets;
+            edgeKeys = new int[oldKeys.length * 2];
+            edgeTargets = new int[oldKeys.length * 2];
+            final int mask = edgeKeys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    int slot = hash(oldKeys[i]) & mask;
+                    while (edgeKeys[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    edgeKeys[slot] = oldKeys[i];
+                    edgeTargets[slot] = oldTargets[i];
+                }
+            }
+        }
+    }
+}
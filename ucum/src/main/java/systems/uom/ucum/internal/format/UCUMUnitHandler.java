@@ -0,0 +1,83 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.ucum.internal.format;
+
+import static tech.units.indriya.AbstractUnit.ONE;
+
+import javax.measure.Prefix;
+import javax.measure.Unit;
+
+import tech.units.indriya.AbstractUnit;
+import tech.units.indriya.function.MultiplyConverter;
+
+/**
+ * <p>
+ * Package private {@link UCUMExpressionHandler} building the {@link Unit} of an expression, as {@link UCUMFormatParser} does.
+ * </p>
+ *
+ * @version 1.0, October 16, 2026
+ */
+final class UCUMUnitHandler implements UCUMExpressionHandler<Unit<?>> {
+
+    @Override
+    public Unit<?> one() {
+        return ONE;
+    }
+
+    @Override
+    public Unit<?> atom(Unit<?> unit, Prefix prefix) {
+        return prefix == null ? unit : unit.transform(MultiplyConverter.ofPrefix(prefix));
+    }
+
+    @Override
+    public Unit<?> factor(long factor) {
+        return ONE.multiply(factor);
+    }
+
+    @Override
+    public Unit<?> multiply(Unit<?> left, Unit<?> right) {
+        return left.multiply(right);
+    }
+
+    @Override
+    public Unit<?> divide(Unit<?> left, Unit<?> right) {
+        return left.divide(right);
+    }
+
+    @Override
+    public Unit<?> pow(Unit<?> base, int exponent) {
+        return base.pow(exponent);
+    }
+
+    @Override
+    public Unit<?> annotate(Unit<?> component, String annotation) {
+        return ((AbstractUnit<?>) component).annotate(annotation);
+    }
+}
@@ -37,6 +37,7 @@
  *      as defined by the <a href="http://ucum.org/">
  *      "Uniform Code for CommonUnits of Measure"</a>.</li>
  *    <li> The class {@link Units} contains other commonly used non-standard units.</li>
+ *    <li> The class {@link UCUMConversion} converts values between units given by their UCUM codes.</li>
  * </ul>
  *
  * @author <a href="mailto:jean-marie@dautelle.com">Jean-Marie Dautelle</a>
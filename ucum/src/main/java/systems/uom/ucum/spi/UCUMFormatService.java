@@ -32,6 +32,7 @@ package systems.uom.ucum.spi;
 import static tech.units.indriya.format.FormatBehavior.LOCALE_SENSITIVE;
 
 import java.text.NumberFormat;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
@@ -121,7 +122,7 @@ public final class UCUMFormatService implements FormatService {
 	}
 
 	public Set<String> getAvailableFormatNames() {
-		return unitFormats.keySet();
+		return Collections.unmodifiableSet(unitFormats.keySet());
 	}
 
 	@Override
@@ -138,9 +139,9 @@ public final class UCUMFormatService implements FormatService {
 	public Set<String> getAvailableFormatNames(FormatType type) {
 		switch (type) {
 		case QUANTITY_FORMAT:
-			return quantityFormats.keySet();
+			return Collections.unmodifiableSet(quantityFormats.keySet());
 		default:
-			return unitFormats.keySet();
+			return Collections.unmodifiableSet(unitFormats.keySet());
 		}
 	}
 
@@ -51,18 +51,32 @@ public final class UCUMServiceProvider extends AbstractServiceProvider {
         return PRIO;
     }
 
+    /**
+     * @return the shared {@link UCUMSystemService}, created on first use
+     */
     @Override
     public SystemOfUnitsService getSystemOfUnitsService() {
-        return new UCUMSystemService();
+        return SystemOfUnitsServiceHolder.INSTANCE;
     }
    
+    /**
+     * @return the shared {@link UCUMFormatService}, created on first use
+     */
     @Override
     public FormatService getFormatService() {
-        return new UCUMFormatService();
+        return FormatServiceHolder.INSTANCE;
     }
 
     @Override
     public String toString() {
         return UCUMServiceProvider.class.getSimpleName();
     }
+
+    private static final class SystemOfUnitsServiceHolder {
+        private static final UCUMSystemService INSTANCE = new UCUMSystemService();
+    }
+
+    private static final class FormatServiceHolder {
+        private static final UCUMFormatService INSTANCE = new UCUMFormatService();
+    }
 }
@@ -30,6 +30,7 @@
 package systems.uom.ucum.spi;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -54,7 +55,7 @@ public final class UCUMSystemService implements SystemOfUnitsService {
     }
 
     public Collection<SystemOfUnits> getAvailableSystemsOfUnits() {
-    	return souMap.values();
+    	return Collections.unmodifiableCollection(souMap.values());
     }
 
     @Override
@@ -34,6 +34,7 @@ module systems.uom.ucum {
     requires tech.units.indriya;
     requires transitive jakarta.annotation;
     requires transitive systems.uom.quantity;
+    requires transitive systems.uom.function;
     
     exports systems.uom.ucum;
     exports systems.uom.ucum.format;
@@ -31,16 +31,22 @@ package systems.uom.ucum.format;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
 import java.text.ParsePosition;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.ResourceBundle;
 
+import javax.measure.IncommensurableException;
+import javax.measure.MeasurementException;
 import javax.measure.MetricPrefix;
+import javax.measure.Prefix;
 import javax.measure.Quantity;
 import javax.measure.Unit;
 import javax.measure.UnitConverter;
@@ -50,8 +56,16 @@ import static systems.uom.ucum.format.UCUMConverterFormatter.formatConverter;
 import static tech.units.indriya.AbstractUnit.ONE;
 
 import si.uom.SI;
+import systems.uom.function.CompiledConverter;
+import systems.uom.function.ConverterCache;
+import systems.uom.function.DimensionSignature;
+import systems.uom.ucum.UCUMCanonicalForm;
 import systems.uom.ucum.format.UCUMFormatHelper.SymbolProvider;
+import systems.uom.ucum.internal.format.UCUMCanonicalHandler;
+import systems.uom.ucum.internal.format.UCUMCharSequenceParser;
+import systems.uom.ucum.internal.format.UCUMExpressionHandler;
 import systems.uom.ucum.internal.format.UCUMFormatParser;
+import systems.uom.ucum.internal.format.UCUMSymbolTrie;
 import tech.units.indriya.AbstractUnit;
 import tech.units.indriya.format.AbstractUnitFormat;
 import tech.units.indriya.format.SymbolMap;
@@ -88,9 +102,6 @@ public abstract class UCUMFormat extends AbstractUnitFormat {
      */
     // private static final long serialVersionUID = 8586656823290135155L;
 
-    // A helper to declare bundle names for all instances
-    private static final String BUNDLE_BASE = UCUMFormat.class.getName();
-
     // /////////////////
     // Class methods //
     // /////////////////
@@ -105,9 +116,9 @@ public abstract class UCUMFormat extends AbstractUnitFormat {
     public static UCUMFormat getInstance(Variant variant) {
         switch (variant) {
             case CASE_INSENSITIVE:
-                return Parsing.DEFAULT_CI;
+                return Parsing.CaseInsensitive.DEFAULT;
             case CASE_SENSITIVE:
-                return Parsing.DEFAULT_CS;
+                return Parsing.CaseSensitive.DEFAULT;
             case PRINT:
                 return Print.DEFAULT;
             default:
@@ -115,6 +126,54 @@ public abstract class UCUMFormat extends AbstractUnitFormat {
         }
     }
 
+    /**
+     * Returns an instance for formatting/parsing using the given variant, which caches up to <code>cacheSize</code> parse results and as many
+     * formatted units. The instances returned by {@link #getInstance(Variant)} cache up to 1024 of each.
+     * 
+     * @param variant
+     *            the <strong>UCUM</strong> variant to use
+     * @param cacheSize
+     *            the maximum number of cached parse results and formatted units, <code>0</code> to disable caching
+     * @return a {@link UCUMFormat} instance
+     * @see #getParseCache()
+     * @see #getFormatCache()
+     */
+    public static UCUMFormat getInstance(Variant variant, int cacheSize) {
+        switch (variant) {
+            case CASE_INSENSITIVE:
+                return new Parsing(Parsing.CaseInsensitive.SYMBOLS, Parsing.CaseInsensitive.TRIE, false, ParserEngine.RECURSIVE_DESCENT, cacheSize);
+            case CASE_SENSITIVE:
+                return new Parsing(Parsing.CaseSensitive.SYMBOLS, Parsing.CaseSensitive.TRIE, true, ParserEngine.RECURSIVE_DESCENT, cacheSize);
+            case PRINT:
+                return new Print(Print.PRINT_SYMBOLS, cacheSize);
+            default:
+                return getInstance(variant);
+        }
+    }
+
+    /**
+     * Returns the instance for formatting/parsing using the given variant and parser engine
+     * 
+     * @param variant
+     *            the <strong>UCUM</strong> variant to use
+     * @param engine
+     *            the {@link ParserEngine} to parse with, ignored by the {@link Variant#PRINT PRINT} variant
+     * @return a {@link UCUMFormat} instance
+     */
+    public static UCUMFormat getInstance(Variant variant, ParserEngine engine) {
+        if (engine == ParserEngine.JAVACC) {
+            switch (variant) {
+                case CASE_INSENSITIVE:
+                    return Parsing.CaseInsensitive.JAVACC;
+                case CASE_SENSITIVE:
+                    return Parsing.CaseSensitive.JAVACC;
+                default:
+                    break;
+            }
+        }
+        return getInstance(variant);
+    }
+
     /**
      * Returns an instance for formatting and parsing using user defined symbols
      * 
@@ -142,6 +201,16 @@ public abstract class UCUMFormat extends AbstractUnitFormat {
      */
     final SymbolMap symbolMap;
 
+    /**
+     * The default maximum number of parse results and formatted units cached by the instances of {@link #getInstance(Variant)}.
+     */
+    static final int DEFAULT_CACHE_SIZE = 1024;
+
+    /**
+     * Formatted units by unit, <code>null</code> if this instance does not cache them.
+     */
+    private final UCUMCache<Unit<?>, String> formatCache;
+
     /**
      * Get the symbol map used by this instance to map between {@link AbstractUnit Unit}s and <code>String</code>s, etc...
      * 
@@ -158,7 +227,16 @@ public abstract class UCUMFormat extends AbstractUnitFormat {
      * Base constructor.
      */
     UCUMFormat(SymbolMap symbolMap) {
+        this(symbolMap, 0);
+    }
+
+    /**
+     * Constructor caching up to <code>formatCacheSize</code> formatted units, <code>0</code> for none.
+     */
+    UCUMFormat(SymbolMap symbolMap, int formatCacheSize) {
         this.symbolMap = symbolMap;
+        // by identity, equal units may be formatted differently, e.g. products of the same factors in another order
+        this.formatCache = formatCacheSize > 0 ? new UCUMCache<>(formatCacheSize, true) : null;
     }
 
     // ///////////
@@ -173,34 +251,314 @@ public abstract class UCUMFormat extends AbstractUnitFormat {
     @Override
     public abstract Unit<? extends Quantity<?>> parse(CharSequence csq) throws MeasurementParseException;
 
+    /**
+     * Parses the given character sequence like {@link #parse(CharSequence)}, but reports an invalid expression through the returned result
+     * instead of throwing an exception.
+     *
+     * @param csq
+     *            the UCUM expression
+     * @return the parsed unit, or the index and kind of the first error
+     * @throws UnsupportedOperationException
+     *             if this instance does not support parsing
+     */
+    public UCUMParseResult tryParse(CharSequence csq) {
+        final ParsePosition cursor = new ParsePosition(0);
+        try {
+            return UCUMParseResult.valid(parse(csq, cursor));
+        } catch (MeasurementException | IllegalArgumentException e) {
+            return UCUMParseResult.invalid(UCUMParseResult.ErrorKind.SYNTAX, errorIndex(cursor));
+        } catch (systems.uom.ucum.internal.format.TokenMgrError e) {
+            return UCUMParseResult.invalid(UCUMParseResult.ErrorKind.LEXICAL, errorIndex(cursor));
+        } catch (ArithmeticException | StackOverflowError e) {
+            // the unit algebra failed to build a syntactically valid expression, e.g. an exponent too large for it
+            return UCUMParseResult.invalid(UCUMParseResult.ErrorKind.SYNTAX, errorIndex(cursor));
+        }
+    }
+
+    /**
+     * Checks whether the given character sequence is a valid UCUM expression for this instance, without throwing an exception if it is not.
+     * <p>
+     * The unit of the expression is built like {@link #tryParse(CharSequence)} builds it, so an expression the unit algebra cannot evaluate is
+     * not valid either.
+     * </p>
+     *
+     * @param csq
+     *            the UCUM expression
+     * @return <code>true</code> if {@link #tryParse(CharSequence)} returns a valid result
+     * @throws UnsupportedOperationException
+     *             if this instance does not support parsing
+     */
+    public boolean isValid(CharSequence csq) {
+        return tryParse(csq).isValid();
+    }
+
+    /**
+     * Parses a batch of UCUM expressions like {@link #tryParse(CharSequence)}, parsing each distinct expression only once.
+     * <p>
+     * Expressions are told apart by their characters, which are hashed and compared in place, so no {@link String} is built from a mutable
+     * {@link CharSequence} to detect a repetition. An invalid expression is reported in its own result and does not affect the others. The
+     * character sequences must not be modified until this method returns.
+     * </p>
+     *
+     * @param codes
+     *            the UCUM expressions
+     * @return the results in the order of <code>codes</code>, as an unmodifiable list
+     * @throws NullPointerException
+     *             if <code>codes</code> or one of its elements is <code>null</code>
+     * @throws UnsupportedOperationException
+     *             if this instance does not support parsing
+     */
+    public List<UCUMParseResult> parseAll(List<? extends CharSequence> codes) {
+        final UCUMParseResult[] results = new UCUMParseResult[codes.size()];
+        final UCUMCodeTable<UCUMParseResult> distinct = new UCUMCodeTable<>(Math.min(results.length, 1024));
+        int i = 0;
+        for (CharSequence code : codes) {
+            UCUMParseResult result = distinct.get(code);
+            if (result == null) {
+                result = tryParse(code);
+                distinct.put(code, result);
+            }
+            results[i++] = result;
+        }
+        return Collections.unmodifiableList(Arrays.asList(results));
+    }
+
+    /**
+     * Parses a batch of UCUM expressions, see {@link #parseAll(List)}.
+     *
+     * @param codes
+     *            the UCUM expressions
+     * @return the results in the order of <code>codes</code>, as an unmodifiable list
+     * @throws NullPointerException
+     *             if <code>codes</code> or one of its elements is <code>null</code>
+     * @throws UnsupportedOperationException
+     *             if this instance does not support parsing
+     */
+    public List<UCUMParseResult> parseAll(CharSequence... codes) {
+        return parseAll(Arrays.asList(codes));
+    }
+
+    /**
+     * Parses newline-delimited UCUM expressions from a reader, passing the result for each line to <code>consumer</code> like
+     * {@link #tryParse(CharSequence)} would return it.
+     * <p>
+     * Lines end at <code>'\n'</code> or <code>"\r\n"</code>, a last line without terminator is parsed as well. The stream is read through a
+     * fixed buffer and the results of recently seen lines are reused, so memory use does not grow with the length of the stream and a
+     * repeated line is not parsed again. A line of more than 4096 characters is not parsed, it is reported as a
+     * {@link UCUMParseResult.ErrorKind#LEXICAL LEXICAL} error at index 4096. The reader is not closed.
+     * </p>
+     *
+     * @param reader
+     *            the source of the expressions
+     * @param consumer
+     *            receives the line number, starting at <code>1</code>, and the result of each line
+     * @throws IOException
+     *             if reading fails
+     * @throws UnsupportedOperationException
+     *             if this instance does not support parsing
+     */
+    public void parseLines(Reader reader, UCUMLineConsumer consumer) throws IOException {
+        new UCUMLineParser(this, consumer).parse(reader);
+    }
+
+    /**
+     * Parses newline-delimited UCUM expressions read as ASCII bytes from a blocking channel, see {@link #parseLines(Reader, UCUMLineConsumer)}.
+     * Bytes are decoded without a charset decoder, a byte outside of ASCII is reported as a lexical error of its line. The channel is not
+     * closed.
+     *
+     * @param channel
+     *            the source of the expressions
+     * @param consumer
+     *            receives the line number, starting at <code>1</code>, and the result of each line
+     * @throws IOException
+     *             if reading fails
+     * @throws UnsupportedOperationException
+     *             if this instance does not support parsing
+     */
+    public void parseLines(ReadableByteChannel channel, UCUMLineConsumer consumer) throws IOException {
+        new UCUMLineParser(this, consumer).parse(channel);
+    }
+
+    /**
+     * Parses newline-delimited UCUM expressions from the remaining ASCII bytes of a buffer, e.g. a file mapped with
+     * {@link java.nio.channels.FileChannel#map}, see {@link #parseLines(Reader, UCUMLineConsumer)}. The bytes are read in place and the position
+     * of the buffer is set to its limit.
+     *
+     * @param bytes
+     *            the source of the expressions
+     * @param consumer
+     *            receives the line number, starting at <code>1</code>, and the result of each line
+     * @throws UnsupportedOperationException
+     *             if this instance does not support parsing
+     */
+    public void parseLines(ByteBuffer bytes, UCUMLineConsumer consumer) {
+        new UCUMLineParser(this, consumer).parse(bytes);
+    }
+
+    private static int errorIndex(ParsePosition cursor) {
+        return cursor.getErrorIndex() >= 0 ? cursor.getErrorIndex() : cursor.getIndex();
+    }
+
+    /**
+     * Returns the canonical form of a UCUM expression, reducing it to base atoms while reading it, without building its unit. Equivalent
+     * expressions of this variant have equal canonical forms, see {@link UCUMCanonicalForm}.
+     * 
+     * @param csq
+     *            the UCUM expression
+     * @return the canonical form of the expression
+     * @throws MeasurementParseException
+     *             if the expression cannot be parsed
+     * @throws ArithmeticException
+     *             if an exponent or the factor of the canonical form is out of range
+     * @throws UnsupportedOperationException
+     *             if this instance does not support parsing
+     */
+    public UCUMCanonicalForm canonicalize(CharSequence csq) {
+        throw new UnsupportedOperationException("The print format is for pretty-printing of units only. Parsing is not supported.");
+    }
+
+    /**
+     * Parses a UCUM expression into its syntax tree, without building its unit. The unit is built on demand by {@link UCUMExpression#toUnit()}.
+     *
+     * @param csq
+     *            the UCUM expression
+     * @return the syntax tree of the expression
+     * @throws MeasurementParseException
+     *             if the expression cannot be parsed
+     * @throws UnsupportedOperationException
+     *             if this instance does not support parsing
+     */
+    public UCUMExpression parseExpression(CharSequence csq) {
+        throw new UnsupportedOperationException("The print format is for pretty-printing of units only. Parsing is not supported.");
+    }
+
+    /**
+     * @return the handler computing canonical forms, shared by all variants
+     */
+    static UCUMExpressionHandler<UCUMCanonicalForm> canonicalHandler() {
+        return Parsing.CaseSensitive.CANONICAL;
+    }
+
+    /**
+     * Returns the cache of parse results of this instance. Parse results are cached per instance, hence per {@link Variant} and symbol map.
+     * 
+     * @return the parse cache, or <code>null</code> if this instance does not cache parse results
+     */
+    public UCUMCache<String, Unit<?>> getParseCache() {
+        return null;
+    }
+
+    /**
+     * Returns the cache of formatted units of this instance. Units are immutable, so a unit formatted once is afterwards a single lookup. Units
+     * are looked up by identity, since units that are equal may still be formatted differently.
+     * 
+     * @return the format cache, or <code>null</code> if this instance does not cache formatted units
+     */
+    public UCUMCache<Unit<?>, String> getFormatCache() {
+        return formatCache;
+    }
+
+    /**
+     * Returns the converter between the units of two UCUM expressions. The expressions are parsed with this instance, using its parse cache,
+     * and the converter is looked up in the {@link #getConverterCache() converter cache}, so that a recurring pair of expressions is
+     * converted without composing converters again.
+     * 
+     * @param source
+     *            the UCUM expression of the unit to convert from
+     * @param target
+     *            the UCUM expression of the unit to convert to
+     * @return the compiled converter from the source to the target unit
+     * @throws MeasurementException
+     *             if an expression cannot be parsed
+     * @throws IncommensurableException
+     *             if the units are not compatible
+     * @throws UnsupportedOperationException
+     *             if this instance does not support parsing
+     */
+    public CompiledConverter getConverter(CharSequence source, CharSequence target) throws IncommensurableException {
+        return getConverterCache().getConverterToAny(parse(source), parse(target));
+    }
+
+    /**
+     * Returns the cache of converters between pairs of units used by {@link #getConverter(CharSequence, CharSequence)}. This is the default
+     * {@link ConverterCache}, shared with the conversions between units of all other systems.
+     * 
+     * @return the converter cache
+     */
+    public ConverterCache getConverterCache() {
+        return ConverterCache.getDefault();
+    }
+
     ////////////////
     // Formatting //
     ////////////////
-    @SuppressWarnings({ "rawtypes" })
     public Appendable format(final Unit<?> unknownUnit, Appendable appendable) throws IOException {
         
         if (!(unknownUnit instanceof AbstractUnit)) {
             throw new UnsupportedOperationException("The UCUM format supports only known units (Comparable units)");
         }
-        
-        final AbstractUnit unit = (AbstractUnit) unknownUnit;
+
+        if (appendable instanceof StringBuilder) {
+            appendUnit((AbstractUnit<?>) unknownUnit, (StringBuilder) appendable);
+        } else {
+            appendable.append(text(unknownUnit));
+        }
+
+        return appendable;
+    }
+
+    /**
+     * Formats a unit the converter of a transformed unit applies to, the text decides how the converter is written.
+     */
+    private String text(Unit<?> unknownUnit) {
+        if (!(unknownUnit instanceof AbstractUnit)) {
+            throw new UnsupportedOperationException("The UCUM format supports only known units (Comparable units)");
+        }
+        if (formatCache != null) {
+            final String cached = formatCache.get(unknownUnit);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        final StringBuilder buffer = new StringBuilder();
+        appendSymbol((AbstractUnit<?>) unknownUnit, buffer);
+        final String text = buffer.toString();
+        return formatCache == null ? text : formatCache.put(unknownUnit, text);
+    }
+
+    /**
+     * Appends the formatted unit, from the format cache if possible.
+     */
+    private void appendUnit(AbstractUnit<?> unit, StringBuilder buffer) {
+        if (formatCache != null) {
+            final String cached = formatCache.get(unit);
+            if (cached != null) {
+                buffer.append(cached);
+                return;
+            }
+        }
+        final int start = buffer.length();
+        appendSymbol(unit, buffer);
+        if (formatCache != null) {
+            formatCache.put(unit, buffer.substring(start));
+        }
+    }
+
+    private void appendSymbol(AbstractUnit<?> unit, StringBuilder buffer) {
         final UCUMFormatHelper formatHelper = UCUMFormatHelper.of(this, unit);
-        final CharSequence symbol = formatHelper.findSymbolFor(symbolProviders, unit);
-        
-        if (symbol == null) {
+        final int start = buffer.length();
+
+        if (!formatHelper.appendSymbolFor(symbolProviders, unit, buffer)) {
             throw new IllegalArgumentException("Cannot format the given Object as UCUM units (unsupported unit " + unit.getClass().getName() + "). "
                     + "Custom units types should override the toString() method as the default implementation uses the UCUM format.");
         }
 
-        appendable.append(symbol);
-        formatHelper.appendAnnotation(symbol, appendable);
-
-        return appendable;
+        formatHelper.appendAnnotation(buffer.length() > start, buffer);
     }
     
     // -- SYMBOL PROVIDERS
     
-    /* processed in order of declaration, the first to return a non-null string wins */
+    /* processed in order of declaration, the first to append a symbol wins */
     private final SymbolProvider[] symbolProviders = {
             this::symbolFromLookupMap,
             this::symbolForTransformedUnit,
@@ -210,107 +568,116 @@ public abstract class UCUMFormat extends AbstractUnitFormat {
             this::symbolFromField,
             };
     
-    private CharSequence symbolFromLookupMap(AbstractUnit<?> unit) throws IOException {
-        return symbolMap.getSymbol(unit);
+    private boolean symbolFromLookupMap(AbstractUnit<?> unit, StringBuilder buffer) {
+        return appendIfPresent(symbolMap.getSymbol(unit), buffer);
     }
     
-    private CharSequence symbolFromField(AbstractUnit<?> unit) throws IOException {
-        return unit.getSymbol();
+    private boolean symbolFromField(AbstractUnit<?> unit, StringBuilder buffer) {
+        return appendIfPresent(unit.getSymbol(), buffer);
+    }
+
+    private static boolean appendIfPresent(String symbol, StringBuilder buffer) {
+        if (symbol == null) {
+            return false;
+        }
+        buffer.append(symbol);
+        return true;
     }
     
     @SuppressWarnings({ "unchecked", "rawtypes" })
-    private CharSequence symbolForTransformedUnit(AbstractUnit unit) throws IOException {
+    private boolean symbolForTransformedUnit(AbstractUnit unit, StringBuilder buffer) {
         if (!(unit instanceof TransformedUnit)) {
-            return null;    
+            return false;    
         }
-        final StringBuilder sb = new StringBuilder();
         final Unit<?> parentUnit = ((TransformedUnit) unit).getParentUnit();
         final UnitConverter converter = 
                 UCUMFormatHelper.toKnownPrefixConverterIfPossible(unit.getConverterTo(parentUnit));
-        final boolean printSeparator = !parentUnit.equals(ONE);
-        if (printSeparator && converter instanceof MultiplyConverter) { // workaround for #166
-        	format(parentUnit, sb);
-        }
-        formatConverter(converter, printSeparator, sb, symbolMap);
+        final boolean printSeparator = !ONE.equals(parentUnit);
+
+        final CharSequence parentSymbol = (printSeparator && converter instanceof MultiplyConverter) ? text(parentUnit) : ""; // workaround for #166
+        formatConverter(converter, printSeparator, parentSymbol, buffer, symbolMap);
 
-        return sb;
+        return true;
     }
     
     @SuppressWarnings({ "unchecked", "rawtypes" })
-    private CharSequence symbolForProductUnits(AbstractUnit unit) throws IOException {
+    private boolean symbolForProductUnits(AbstractUnit unit, StringBuilder buffer) {
         final Map<? extends AbstractUnit<?>, Integer> productUnits = unit.getBaseUnits();
         
         if (productUnits == null) {
-            return null;
+            return false;
         }
         
-        final StringBuilder sb = new StringBuilder();
-        
-        final Map<AbstractUnit<?>, Integer> numeratorUnits = new LinkedHashMap<>();            
-        final Map<AbstractUnit<?>, Integer> denominatorUnits = new LinkedHashMap<>();
-
         // divide units into numerators and denominators
-        for (Entry<? extends AbstractUnit<?>, Integer> u : productUnits.entrySet()) {
-            if (u.getValue() > 0) {
-                numeratorUnits.put(u.getKey(), u.getValue());
-            }else {
-                denominatorUnits.put(u.getKey(), u.getValue());
+        int numeratorUnits = 0;
+        int denominatorUnits = 0;
+        for (Integer exponent : productUnits.values()) {
+            if (exponent > 0) {
+                numeratorUnits++;
+            } else {
+                denominatorUnits++;
             }
         }
         
         int numeratorCount = 1;
-        for (Entry<? extends AbstractUnit<?>, Integer> u : numeratorUnits.entrySet()) {
+        for (Entry<? extends AbstractUnit<?>, Integer> u : productUnits.entrySet()) {
+            if (u.getValue() <= 0) {
+                continue;
+            }
             // add multiplication separators after first unit
             if (numeratorCount > 1){
-                sb.append(".");
+                buffer.append(".");
             }
             // add individual unit string
-            format(u.getKey(),sb);
+            appendUnit(u.getKey(), buffer);
             // add power number if greater than 1
             if (u.getValue() > 1){
-                sb.append(u.getValue());
+                buffer.append(u.getValue());
             }
             numeratorCount++;
         }
         // special case if there is no numerator append one for inverse
-        if (numeratorCount == 1) {
-            sb.append("1");
+        if (numeratorUnits == 0) {
+            buffer.append("1");
         }
-        if (denominatorUnits.size() > 0){
+        if (denominatorUnits > 0){
             // append division symbol
-            sb.append("/");
+            buffer.append("/");
             int denominatorCount = 1;
-            for (Entry<? extends AbstractUnit<?>, Integer> u : denominatorUnits.entrySet()) {
+            for (Entry<? extends AbstractUnit<?>, Integer> u : productUnits.entrySet()) {
+                if (u.getValue() > 0) {
+                    continue;
+                }
                 // if there is more than one denominator unit and this is the first, add open parenthesis 
-                if (denominatorCount == 1 && denominatorUnits.size() > 1 ) {
-                    sb.append("(");
+                if (denominatorCount == 1 && denominatorUnits > 1 ) {
+                    buffer.append("(");
                 }
                 // add multiplication separators after first unit
                 if (denominatorCount > 1){
-                    sb.append(".");
+                    buffer.append(".");
                 }
                 // add individual unit string
-                format(u.getKey(),sb);
+                appendUnit(u.getKey(), buffer);
                 // add power number if abs greater than 1
                 if (u.getValue() < -1){
-                    sb.append(-u.getValue());
+                    buffer.append(-u.getValue());
                 }
                 // if there is more than one denominator unit and this is the last, add close parenthesis
-                if (denominatorCount == denominatorUnits.size() && denominatorUnits.size() > 1 ) {
-                    sb.append(")");
+                if (denominatorCount == denominatorUnits && denominatorUnits > 1 ) {
+                    buffer.append(")");
                 }
                 denominatorCount++;
             }
         }            
-        return sb;
+        return true;
     }
     
     @SuppressWarnings({ "unchecked", "rawtypes" })
-    private CharSequence symbolForKilogram(AbstractUnit unit) throws IOException {
+    private boolean symbolForKilogram(AbstractUnit unit, StringBuilder buffer) {
         
         final Unit<?> systemUnit = unit.getSystemUnit();
         if (!systemUnit.equals(SI.KILOGRAM)) {
-            return null;
+            return false;
         }
 
         final UnitConverter converter = 
@@ -318,34 +685,30 @@ public abstract class UCUMFormat extends AbstractUnitFormat {
                         unit.getConverterTo(systemUnit)
                         .concatenate(MultiplyConverter.ofPrefix(MetricPrefix.KILO)));
         
-        final StringBuilder sb = new StringBuilder();
         final boolean printSeparator = true;
         
         // A special case because KILOGRAM is a BaseUnit instead of
         // a transformed unit, for compatibility with existing SI
         // unit system.
-        format(SI.GRAM, sb);
-        formatConverter(converter, printSeparator, sb, symbolMap);    
+        formatConverter(converter, printSeparator, text(SI.GRAM), buffer, symbolMap);    
         
-        return sb;
+        return true;
     }
     
     @SuppressWarnings({ "unchecked", "rawtypes" })
-    private CharSequence symbolForNonSystemUnit(AbstractUnit unit) throws IOException {
+    private boolean symbolForNonSystemUnit(AbstractUnit unit, StringBuilder buffer) {
         
         if (unit.isSystemUnit()) {
-            return null;
+            return false;
         }
         
         final Unit<?> parentUnit = unit.getSystemUnit();
         final UnitConverter converter = unit.getConverterTo(parentUnit);
-        final StringBuilder sb = new StringBuilder();
-        final boolean printSeparator = !ONE.equals(parentUnit);
+        final boolean printSeparator = !parentUnit.equals(ONE);
         
-        format(parentUnit, sb);
-        formatConverter(converter, printSeparator, sb, symbolMap);
+        formatConverter(converter, printSeparator, text(parentUnit), buffer, symbolMap);
         
-        return sb;
+        return true;
     }
     
     // ---
@@ -358,10 +721,10 @@ public abstract class UCUMFormat extends AbstractUnitFormat {
         return false;
     }
 
-    void appendAnnotation(CharSequence symbol, CharSequence annotation, Appendable appendable) throws IOException {
-        appendable.append('{');
-        appendable.append(annotation);
-        appendable.append('}');
+    void appendAnnotation(boolean hasSymbol, CharSequence annotation, StringBuilder buffer) {
+        buffer.append('{');
+        buffer.append(annotation);
+        buffer.append('}');
     }
 
     // /////////////////
@@ -377,6 +740,14 @@ public abstract class UCUMFormat extends AbstractUnitFormat {
         CASE_SENSITIVE, CASE_INSENSITIVE, PRINT
     }
 
+    /**
+     * Parser implementation used by the parsing variants. {@link #RECURSIVE_DESCENT} is the default, {@link #JAVACC} is the original generated
+     * parser, kept for comparison.
+     */
+    public static enum ParserEngine {
+        RECURSIVE_DESCENT, JAVACC
+    }
+
     /**
      * The Print format is used to output units according to the "print" column in the UCUM standard. Because "print" symbols in UCUM are not unique,
      * this class of UCUMFormat may not be used for parsing, only for formatting.
@@ -387,26 +758,30 @@ public abstract class UCUMFormat extends AbstractUnitFormat {
          *
          */
         // private static final long serialVersionUID = 2990875526976721414L;
-        private static final SymbolMap PRINT_SYMBOLS = SymbolMap.of(ResourceBundle.getBundle(BUNDLE_BASE + "_Print"));
-        private static final Print DEFAULT = new Print(PRINT_SYMBOLS);
+        private static final SymbolMap PRINT_SYMBOLS = UCUMFormatSymbols.print();
+        private static final Print DEFAULT = new Print(PRINT_SYMBOLS, DEFAULT_CACHE_SIZE);
 
         public Print(SymbolMap symbols) {
             super(symbols);
         }
 
+        public Print(SymbolMap symbols, int cacheSize) {
+            super(symbols, cacheSize);
+        }
+
         @Override
         public Unit<? extends Quantity<?>> parse(CharSequence csq, ParsePosition pos) throws IllegalArgumentException {
             throw new UnsupportedOperationException("The print format is for pretty-printing of units only. Parsing is not supported.");
         }
 
         @Override
-        void appendAnnotation(CharSequence symbol, CharSequence annotation, Appendable appendable) throws IOException {
-            if (symbol != null && symbol.length() > 0) {
-                appendable.append('(');
-                appendable.append(annotation);
-                appendable.append(')');
+        void appendAnnotation(boolean hasSymbol, CharSequence annotation, StringBuilder buffer) {
+            if (hasSymbol) {
+                buffer.append('(');
+                buffer.append(annotation);
+                buffer.append(')');
             } else {
-                appendable.append(annotation);
+                buffer.append(annotation);
             }
         }
 
@@ -428,50 +803,235 @@ public abstract class UCUMFormat extends AbstractUnitFormat {
      */
     private static final class Parsing extends UCUMFormat {
         // private static final long serialVersionUID = -922531801940132715L;
-        private static final SymbolMap CASE_SENSITIVE_SYMBOLS = SymbolMap
-                .of(ResourceBundle.getBundle(BUNDLE_BASE + "_CS", UCUMFormat.class.getModule()));
-                /*{
-                    @Override
-                    public List<Locale> getCandidateLocales(String baseName, Locale locale) {
-                        if (baseName == null)
-                            throw new NullPointerException();
-                        if (locale.equals(new Locale("", "CS"))) {
-                            return Arrays.asList(locale, Locale.ROOT);
-                        }
-                        return super.getCandidateLocales(baseName, locale);
-                    }
-                }));*/
-        private static final SymbolMap CASE_INSENSITIVE_SYMBOLS = SymbolMap
-                .of(ResourceBundle.getBundle(BUNDLE_BASE + "_CI",  UCUMFormat.class.getModule())); 
-             		/*
-                		new ResourceBundle.Control() {
-                    @Override
-                    public List<Locale> getCandidateLocales(String baseName, Locale locale) {
-                        if (baseName == null)
-                            throw new NullPointerException();
-                        if (locale.equals(new Locale("", "CI"))) {
-                            return Arrays.asList(locale, Locale.ROOT);
-                        } else if (locale.equals(Locale.GERMANY)) { // TODO
-                            // why
-                            // GERMANY?
-                            return Arrays.asList(locale,
-                                    // no Locale.GERMAN here
-                                    Locale.ROOT);
-                        }
-                        return super.getCandidateLocales(baseName, locale);
-                    }
-                })); */
-        private static final Parsing DEFAULT_CS = new Parsing(CASE_SENSITIVE_SYMBOLS, true);
-        private static final Parsing DEFAULT_CI = new Parsing(CASE_INSENSITIVE_SYMBOLS, false);
+
+        /**
+         * The case sensitive symbols and shared instances, initialized on first use of this variant.
+         */
+        private static final class CaseSensitive {
+            private static final SymbolMap SYMBOLS = UCUMFormatSymbols.caseSensitive();
+            private static final UCUMSymbolTrie TRIE = UCUMSymbolTrie.of(SYMBOLS, UCUMFormatSymbols.caseSensitiveSymbols());
+            private static final Parsing DEFAULT = new Parsing(SYMBOLS, TRIE, true, ParserEngine.RECURSIVE_DESCENT, DEFAULT_CACHE_SIZE);
+            private static final Parsing JAVACC = new Parsing(SYMBOLS, TRIE, true, ParserEngine.JAVACC, 0);
+            private static final UCUMCanonicalHandler CANONICAL = new UCUMCanonicalHandler(SYMBOLS);
+        }
+
+        /**
+         * The case insensitive symbols and shared instances, initialized on first use of this variant.
+         */
+        private static final class CaseInsensitive {
+            private static final SymbolMap SYMBOLS = UCUMFormatSymbols.caseInsensitive();
+            private static final UCUMSymbolTrie TRIE = UCUMSymbolTrie.of(SYMBOLS, UCUMFormatSymbols.caseInsensitiveSymbols(), true);
+            private static final Parsing DEFAULT = new Parsing(SYMBOLS, TRIE, false, ParserEngine.RECURSIVE_DESCENT, DEFAULT_CACHE_SIZE);
+            private static final Parsing JAVACC = new Parsing(SYMBOLS, TRIE, false, ParserEngine.JAVACC, 0);
+        }
+
+        /**
+         * Only checks the syntax and atoms of an expression, without any unit algebra.
+         */
+        private static final UCUMExpressionHandler<Boolean> VALIDATION = new UCUMExpressionHandler<Boolean>() {
+            @Override
+            public Boolean one() {
+                return Boolean.TRUE;
+            }
+
+            @Override
+            public Boolean atom(Unit<?> unit, Prefix prefix) {
+                return Boolean.TRUE;
+            }
+
+            @Override
+            public Boolean factor(long factor) {
+                return Boolean.TRUE;
+            }
+
+            @Override
+            public Boolean multiply(Boolean left, Boolean right) {
+                return Boolean.TRUE;
+            }
+
+            @Override
+            public Boolean divide(Boolean left, Boolean right) {
+                return Boolean.TRUE;
+            }
+
+            @Override
+            public Boolean pow(Boolean base, int exponent) {
+                return Boolean.TRUE;
+            }
+
+            @Override
+            public Boolean annotate(Boolean component, String annotation) {
+                return Boolean.TRUE;
+            }
+        };
+
+        private final UCUMSymbolTrie trie;
         private final boolean caseSensitive;
+        private final ParserEngine engine;
+        private final UCUMCache<String, Unit<?>> cache;
+        private final UCUMExpression.Builder expressions;
 
         public Parsing(SymbolMap symbols, boolean caseSensitive) {
-            super(symbols);
+            this(symbols, null, caseSensitive, ParserEngine.RECURSIVE_DESCENT, 0);
+        }
+
+        public Parsing(SymbolMap symbols, UCUMSymbolTrie trie, boolean caseSensitive, ParserEngine engine, int cacheSize) {
+            super(symbols, cacheSize);
+            this.trie = trie;
             this.caseSensitive = caseSensitive;
+            this.engine = engine;
+            this.cache = cacheSize > 0 ? new UCUMCache<>(cacheSize) : null;
+            this.expressions = new UCUMExpression.Builder(symbols);
+        }
+
+        @Override
+        public UCUMCache<String, Unit<?>> getParseCache() {
+            return cache;
         }
 
         @Override
         public Unit<? extends Quantity<?>> parse(CharSequence csq, ParsePosition cursor) throws MeasurementParseException {
+            // Parsing reads the whole character sequence from the parse position, ignoring surrounding whitespace.
+            final int end = csq.length();
+            final int from = trimStart(csq, cursor.getIndex(), end);
+            final int to = trimEnd(csq, from, end);
+            if (from >= to) {
+                return ONE;
+            }
+            if (cache == null) {
+                return parse(csq, from, to, cursor);
+            }
+            final String key = cacheKey(csq, from, to);
+            Unit<?> result = cache.get(key);
+            if (result == null) {
+                result = putCached(key, parse(csq, from, to, cursor));
+            } else {
+                cursor.setIndex(end);
+            }
+            return result;
+        }
+
+        @Override
+        public UCUMParseResult tryParse(CharSequence csq) {
+            if (engine == ParserEngine.JAVACC) {
+                return super.tryParse(csq);
+            }
+            final int from = trimStart(csq, 0, csq.length());
+            final int to = trimEnd(csq, from, csq.length());
+            if (from >= to) {
+                return UCUMParseResult.valid(ONE);
+            }
+            final String key = cache == null ? null : cacheKey(csq, from, to);
+            if (key != null) {
+                final Unit<?> cached = cache.get(key);
+                if (cached != null) {
+                    return UCUMParseResult.valid(cached);
+                }
+            }
+            final UCUMCharSequenceParser parser = new UCUMCharSequenceParser(symbolMap, trie, !caseSensitive, csq, from, to);
+            final Unit<?> result = parser.parse();
+            if (result == null) {
+                return UCUMParseResult.invalid(errorKind(parser.getErrorKind()), parser.getErrorIndex());
+            }
+            return UCUMParseResult.valid(key == null ? result : putCached(key, result));
+        }
+
+        /**
+         * Puts a parse result into the cache, caching the {@link DimensionSignature} of the unit if it was not cached yet.
+         */
+        private Unit<?> putCached(String key, Unit<?> unit) {
+            final Unit<?> cached = cache.put(key, unit);
+            if (cached == unit) {
+                DimensionSignature.of(unit);
+            }
+            return cached;
+        }
+
+        @Override
+        public UCUMCanonicalForm canonicalize(CharSequence csq) {
+            final int from = trimStart(csq, 0, csq.length());
+            final int to = trimEnd(csq, from, csq.length());
+            if (from >= to) {
+                return UCUMCanonicalForm.ONE;
+            }
+            final UCUMCharSequenceParser parser = new UCUMCharSequenceParser(symbolMap, trie, !caseSensitive, csq, from, to);
+            final UCUMCanonicalForm result = parser.parse(CaseSensitive.CANONICAL);
+            if (result == null) {
+                throw new MeasurementParseException(parser.getErrorMessage(), csq, parser.getErrorIndex());
+            }
+            return result;
+        }
+
+        @Override
+        public UCUMExpression parseExpression(CharSequence csq) {
+            final int from = trimStart(csq, 0, csq.length());
+            final int to = trimEnd(csq, from, csq.length());
+            if (from >= to) {
+                return UCUMExpression.ONE;
+            }
+            final UCUMCharSequenceParser parser = new UCUMCharSequenceParser(symbolMap, trie, !caseSensitive, csq, from, to);
+            final UCUMExpression result = parser.parse(expressions);
+            if (result == null) {
+                throw new MeasurementParseException(parser.getErrorMessage(), csq, parser.getErrorIndex());
+            }
+            return result;
+        }
+
+        @Override
+        public boolean isValid(CharSequence csq) {
+            if (engine == ParserEngine.JAVACC) {
+                return super.isValid(csq);
+            }
+            final int from = trimStart(csq, 0, csq.length());
+            final int to = trimEnd(csq, from, csq.length());
+            return from >= to || new UCUMCharSequenceParser(symbolMap, trie, !caseSensitive, csq, from, to).parse(VALIDATION) != null;
+        }
+
+        private static UCUMParseResult.ErrorKind errorKind(int kind) {
+            switch (kind) {
+                case UCUMCharSequenceParser.LEXICAL_ERROR:
+                    return UCUMParseResult.ErrorKind.LEXICAL;
+                case UCUMCharSequenceParser.UNKNOWN_ATOM:
+                    return UCUMParseResult.ErrorKind.UNKNOWN_ATOM;
+                default:
+                    return UCUMParseResult.ErrorKind.SYNTAX;
+            }
+        }
+
+        private static int trimStart(CharSequence csq, int from, int to) {
+            while (from < to && csq.charAt(from) <= ' ') {
+                from++;
+            }
+            return from;
+        }
+
+        private static int trimEnd(CharSequence csq, int from, int to) {
+            while (to > from && csq.charAt(to - 1) <= ' ') {
+                to--;
+            }
+            return to;
+        }
+
+        private static String cacheKey(CharSequence csq, int from, int to) {
+            return (from == 0 && to == csq.length() && csq instanceof String) ? (String) csq : csq.subSequence(from, to).toString();
+        }
+
+        private Unit<?> parse(CharSequence csq, int from, int to, ParsePosition cursor) {
+            if (engine == ParserEngine.JAVACC) {
+                return parseJavaCC(csq, cursor);
+            }
+            final UCUMCharSequenceParser parser = new UCUMCharSequenceParser(symbolMap, trie, !caseSensitive, csq, from, to);
+            try {
+                final Unit<?> result = parser.parseUnit();
+                cursor.setIndex(csq.length());
+                return result;
+            } catch (systems.uom.ucum.internal.format.TokenException | systems.uom.ucum.internal.format.TokenMgrError e) {
+                cursor.setErrorIndex(parser.getErrorIndex());
+                throw e;
+            }
+        }
+
+        private Unit<? extends Quantity<?>> parseJavaCC(CharSequence csq, ParsePosition cursor) throws MeasurementParseException {
             // Parsing reads the whole character sequence from the parse
             // position.
             int start = cursor.getIndex();
@@ -484,9 +1044,9 @@ public abstract class UCUMFormat extends AbstractUnitFormat {
                 return ONE;
             }
             if (!caseSensitive) {
-                source = source.toUpperCase();
+                source = source.toUpperCase(Locale.ROOT);
             }
-            UCUMFormatParser parser = new UCUMFormatParser(symbolMap, new ByteArrayInputStream(source.getBytes()));
+            UCUMFormatParser parser = new UCUMFormatParser(symbolMap, trie, new ByteArrayInputStream(source.getBytes()));
             try {
                 Unit<?> result = parser.parseUnit();
                 cursor.setIndex(end);
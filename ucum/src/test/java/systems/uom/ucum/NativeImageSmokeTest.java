@@ -0,0 +1,66 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.ucum;
+
+import static javax.measure.MetricPrefix.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.measure.Unit;
+import javax.measure.format.UnitFormat;
+import javax.measure.spi.ServiceProvider;
+
+import org.junit.jupiter.api.Test;
+
+import systems.uom.ucum.format.UCUMFormat;
+import systems.uom.ucum.format.UCUMFormat.Variant;
+
+/**
+ * Parses, formats and converts units through the public entry points, without test fixtures. This is the test run as a native image by
+ * the <code>native</code> profile, where it checks the shipped <code>META-INF/native-image</code> metadata.
+ */
+public class NativeImageSmokeTest {
+
+    @Test
+    public void testParseAndConvert() throws Exception {
+        final UnitFormat format = UCUMFormat.getInstance(Variant.CASE_SENSITIVE);
+        final Unit<?> unit = format.parse("mg/dL");
+        assertEquals(UCUM.GRAM.prefix(MILLI).divide(UCUM.LITER.prefix(DECI)), unit);
+        assertEquals("mg/dL", format.format(unit));
+        assertEquals(0.01, UCUMConversion.convert(1, "mg/dL", "g/L"), 1e-15);
+        assertEquals(0.3048, UCUM.FOOT_INTERNATIONAL.getConverterTo(UCUM.METER).convert(1), 1e-15);
+    }
+
+    @Test
+    public void testServiceProvider() {
+        final ServiceProvider provider = ServiceProvider.of("UCUM");
+        assertEquals(UCUM.getInstance(), provider.getSystemOfUnitsService().getSystemOfUnits());
+        assertEquals(UCUM.METER, provider.getFormatService().getUnitFormat("UCUM_CI").parse("M"));
+    }
+}
@@ -32,6 +32,9 @@ package systems.uom.ucum;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static javax.measure.spi.FormatService.FormatType.UNIT_FORMAT;
 
 import java.util.List;
 
@@ -39,6 +42,8 @@ import javax.measure.spi.ServiceProvider;
 
 import org.junit.jupiter.api.Test;
 
+import systems.uom.ucum.spi.UCUMServiceProvider;
+
 public class ServiceProviderTest {
 
     @Test
@@ -56,4 +61,12 @@ public class ServiceProviderTest {
 		assertNotNull(provider);
 		assertEquals("UCUMServiceProvider", provider.toString());
     }
+
+    @Test
+    public void testSharedServices() throws Exception {
+		ServiceProvider provider = ServiceProvider.current();
+		assertSame(provider.getFormatService(), provider.getFormatService());
+		assertSame(provider.getSystemOfUnitsService(), new UCUMServiceProvider().getSystemOfUnitsService());
+		assertThrows(UnsupportedOperationException.class, () -> provider.getFormatService().getAvailableFormatNames(UNIT_FORMAT).clear());
+    }
 }
@@ -0,0 +1,138 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.ucum;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static systems.uom.ucum.format.UCUMFormat.Variant.*;
+
+import javax.measure.format.MeasurementParseException;
+
+import org.junit.jupiter.api.Test;
+
+import systems.uom.ucum.format.UCUMFormat;
+
+public class UCUMCanonicalFormTest {
+
+    private static final UCUMFormat FORMAT = UCUMFormat.getInstance(CASE_SENSITIVE);
+
+    @Test
+    public void testEquivalentCodes() {
+        final UCUMCanonicalForm form = UCUMCanonicalForm.of("mg/dL");
+        assertEquals("10.g.m-3", form.getKey());
+        for (String code : new String[] { "mg.dL-1", "mg/(dL)", "10.mg/L", "cg/L" }) {
+            final UCUMCanonicalForm other = UCUMCanonicalForm.of(code);
+            assertEquals(form, other, code);
+            assertEquals(form.hashCode(), other.hashCode(), code);
+            assertEquals(form.getHashHigh(), other.getHashHigh(), code);
+            assertEquals(form.getHashLow(), other.getHashLow(), code);
+        }
+        assertNotEquals(form, UCUMCanonicalForm.of("g/L"));
+    }
+
+    @Test
+    public void testProportional() {
+        final UCUMCanonicalForm form = UCUMCanonicalForm.of("mg/dL");
+        final UCUMCanonicalForm other = UCUMCanonicalForm.of("kg/m3");
+        assertTrue(form.isProportional(other));
+        assertEquals(0.01, form.getFactor() / other.getFactor(), 1e-15);
+        assertFalse(form.isProportional(UCUMCanonicalForm.of("mmol/L")));
+    }
+
+    @Test
+    public void testBaseAtoms() {
+        final UCUMCanonicalForm newton = UCUMCanonicalForm.of("N");
+        assertEquals(1000, newton.getFactor());
+        assertEquals(1, newton.getExponent("g"));
+        assertEquals(1, newton.getExponent("m"));
+        assertEquals(-2, newton.getExponent("s"));
+        assertEquals(newton, UCUMCanonicalForm.of("kg.m/s2"));
+        assertEquals(UCUMCanonicalForm.of("C/s"), UCUMCanonicalForm.of("A"));
+        assertEquals(UCUMCanonicalForm.of("[in_i]"), UCUMCanonicalForm.of("cm").multiply(2.54));
+        assertEquals(UCUMCanonicalForm.ONE, UCUMCanonicalForm.of(""));
+        assertEquals("1", UCUMCanonicalForm.ONE.getKey());
+    }
+
+    @Test
+    public void testSpecialAtoms() {
+        final UCUMCanonicalForm celsius = UCUMCanonicalForm.of("Cel");
+        assertEquals("Cel", celsius.getKey());
+        assertEquals(1, celsius.getExponent("Cel"));
+        assertNotEquals(UCUMCanonicalForm.of("K"), celsius);
+        assertEquals(UCUMCanonicalForm.ofAtom("Cel").divide(UCUMCanonicalForm.of("s")), UCUMCanonicalForm.of("Cel/s"));
+    }
+
+    @Test
+    public void testAnnotationsDropped() {
+        assertEquals(UCUMCanonicalForm.of("/uL"), UCUMCanonicalForm.of("{rbc}/uL"));
+        assertEquals(UCUMCanonicalForm.of("mg"), UCUMCanonicalForm.of("mg{total}"));
+    }
+
+    @Test
+    public void testCaseInsensitive() {
+        assertEquals(UCUMCanonicalForm.of("mg/dL"), UCUMCanonicalForm.of(CASE_INSENSITIVE, "MG/DL"));
+        assertEquals("Cel", UCUMCanonicalForm.of(CASE_INSENSITIVE, "CEL").getKey());
+    }
+
+    @Test
+    public void testUnits() {
+        assertEquals(UCUMCanonicalForm.of("mg/dL"), UCUMCanonicalForm.of(UCUM.GRAM.divide(UCUM.LITER).divide(100)));
+        assertEquals(UCUMCanonicalForm.of("km/h"), UCUMCanonicalForm.of(UCUM.METER.multiply(1000).divide(UCUM.HOUR)));
+        assertThrows(IllegalArgumentException.class, () -> UCUMCanonicalForm.of(UCUM.CELSIUS));
+        for (String code : new String[] { "B2", "Cel2", "[degF]2", "kB/s" }) {
+            assertThrows(IllegalArgumentException.class, () -> UCUMCanonicalForm.of(FORMAT.parse(code)), code);
+        }
+    }
+
+    @Test
+    public void testFactorRounding() {
+        final UCUMCanonicalForm form = UCUMCanonicalForm.ofFactor(9.999999999999999);
+        assertEquals(10, form.getFactor());
+        assertEquals(UCUMCanonicalForm.ofFactor(10), form);
+        assertEquals(UCUMCanonicalForm.ofFactor(10).getKey(), form.getKey());
+        assertEquals(1.23456789012346e-7, UCUMCanonicalForm.ofFactor(1.234567890123456e-7).getFactor());
+    }
+
+    @Test
+    public void testAlgebra() {
+        final UCUMCanonicalForm meter = UCUMCanonicalForm.of("m");
+        assertEquals(UCUMCanonicalForm.of("m3"), meter.pow(3));
+        assertEquals(UCUMCanonicalForm.of("L"), meter.pow(3).multiply(0.001));
+        assertEquals(UCUMCanonicalForm.ONE, meter.divide(meter));
+        assertEquals(UCUMCanonicalForm.of("m2"), meter.multiply(meter));
+    }
+
+    @Test
+    public void testErrors() {
+        final MeasurementParseException e = assertThrows(MeasurementParseException.class, () -> UCUMCanonicalForm.of("mg/(dL"));
+        assertEquals("mg/(dL", e.getParsedString());
+        assertThrows(MeasurementParseException.class, () -> UCUMCanonicalForm.of("foo"));
+        assertThrows(UnsupportedOperationException.class, () -> UCUMCanonicalForm.of(PRINT, "mg"));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.ucum;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static systems.uom.ucum.format.UCUMFormat.Variant.*;
+
+import javax.measure.IncommensurableException;
+import javax.measure.MeasurementException;
+
+import org.junit.jupiter.api.Test;
+
+import systems.uom.ucum.format.UCUMCache;
+import systems.uom.ucum.format.UCUMFormat;
+
+public class UCUMConversionTest {
+
+    @Test
+    public void testConvert() throws IncommensurableException {
+        final UCUMConversion conversion = UCUMConversion.of("mg/dL", "g/L");
+        assertEquals(0.01, conversion.convert(1), 1e-15);
+        assertEquals(0.01, conversion.applyAsDouble(1), 1e-15);
+        assertEquals(UCUM.GRAM.divide(UCUM.LITER), conversion.getTarget());
+        assertEquals("mg/dL", conversion.getSourceCode());
+        assertEquals("g/L", conversion.getTargetCode());
+        assertEquals(0, UCUMConversion.convert(32, "[degF]", "Cel"));
+        assertEquals(37, UCUMConversion.convert(98.6, "[degF]", "Cel"), 1e-12);
+        assertEquals(0.001, UCUMConversion.of(CASE_INSENSITIVE, "MG", "G").convert(1));
+    }
+
+    @Test
+    public void testBulk() throws IncommensurableException {
+        final UCUMConversion conversion = UCUMConversion.of("[in_i]", "cm");
+        final double[] values = { 1, 2, 3, 4 };
+        final double[] converted = new double[5];
+        conversion.convert(values, 0, converted, 1, 4);
+        conversion.convert(values, 1, 2);
+        assertArrayEquals(new double[] { 0, 2.54, 5.08, 7.62, 10.16 }, converted, 1e-12);
+        assertArrayEquals(new double[] { 1, 5.08, 7.62, 4 }, values, 1e-12);
+    }
+
+    @Test
+    public void testCachedWithoutParsing() throws IncommensurableException {
+        final UCUMConversion conversion = UCUMConversion.of("mmol/L", "umol/mL");
+        final UCUMCache<String, ?> parseCache = UCUMFormat.getInstance(CASE_SENSITIVE).getParseCache();
+        final long parses = parseCache.getHitCount() + parseCache.getMissCount();
+        final long hits = UCUMConversion.getCache().getHitCount();
+        assertSame(conversion, UCUMConversion.of("mmol/L", "umol/mL"));
+        assertSame(conversion, UCUMConversion.of(new StringBuilder("mmol/L"), "umol/mL"));
+        assertEquals(parses, parseCache.getHitCount() + parseCache.getMissCount());
+        assertEquals(hits + 2, UCUMConversion.getCache().getHitCount());
+        assertNotSame(conversion, UCUMConversion.of(CASE_INSENSITIVE, "MMOL/L", "UMOL/ML"));
+    }
+
+    @Test
+    public void testInvalid() {
+        assertThrows(IncommensurableException.class, () -> UCUMConversion.of("mg", "m"));
+        assertThrows(MeasurementException.class, () -> UCUMConversion.of("mg", "m.xyz"));
+        assertThrows(UnsupportedOperationException.class, () -> UCUMConversion.of(PRINT, "mg", "g"));
+    }
+}
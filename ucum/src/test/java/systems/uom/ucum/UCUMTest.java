@@ -34,8 +34,11 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static systems.uom.ucum.UCUM.*;
 
+import java.util.HashSet;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javax.measure.Quantity;
 import javax.measure.Unit;
@@ -45,6 +48,7 @@ import javax.measure.quantity.Volume;
 
 import org.junit.jupiter.api.Test;
 
+import tech.units.indriya.format.UnitStyle;
 import tech.units.indriya.quantity.Quantities;
 
 /**
@@ -104,4 +108,23 @@ public class UCUMTest {
 	public void testToString() {		
 		assertEquals("(kPa*1333220)/10000·(cm*254)/100/m", INCH_OF_MERCURY_COLUMN.toString());
 	}
+	
+	@Test
+	public void testIndexedLookups() {
+		final UCUM ucum = UCUM.getInstance();
+		for (Unit<?> unit : ucum.getUnits()) {
+			final Set<Unit<?>> scan = ucum.getUnits().stream()
+					.filter(u -> u.getDimension().equals(unit.getDimension())).collect(Collectors.toSet());
+			assertEquals(scan, new HashSet<>(ucum.getUnits(unit.getDimension())));
+			assertEquals(ucum.getUnits().stream().filter(u -> u.toString().equals(unit.toString())).findFirst().get(),
+					ucum.getUnit(unit.toString()));
+			if (unit.getName() != null) {
+				assertEquals(ucum.getUnits().stream().filter(u -> unit.getName().equalsIgnoreCase(u.getName())).findFirst().get(),
+						ucum.getUnit(unit.getName(), UnitStyle.NAME, true));
+			}
+		}
+		assertTrue(ucum.getUnits(Volume.class).contains(LITER));
+		assertTrue(ucum.getUnits(Volume.class).contains(STERE));
+		assertEquals(ucum.getUnits(LITER.getDimension()), ucum.getUnits(Volume.class));
+	}
 }
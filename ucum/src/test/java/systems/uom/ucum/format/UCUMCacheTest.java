@@ -0,0 +1,233 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.ucum.format;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static systems.uom.ucum.format.UCUMFormat.Variant.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.measure.IncommensurableException;
+import javax.measure.MeasurementException;
+import javax.measure.MetricPrefix;
+import javax.measure.Unit;
+
+import org.junit.jupiter.api.Test;
+
+import systems.uom.function.CompiledConverter;
+import systems.uom.function.ConverterCache;
+import systems.uom.function.DimensionSignature;
+import systems.uom.ucum.UCUM;
+
+public class UCUMCacheTest {
+
+    @Test
+    public void testBounded() {
+        final UCUMCache<Integer, String> cache = new UCUMCache<>(10);
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, String.valueOf(i));
+        }
+        assertEquals(10, cache.size());
+        assertEquals(90, cache.getEvictionCount());
+        assertNull(cache.get(0));
+        assertEquals("99", cache.get(99));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0.5, cache.getHitRatio());
+    }
+
+    @Test
+    public void testReferencedEntriesSurvive() {
+        final UCUMCache<Integer, String> cache = new UCUMCache<>(2);
+        cache.put(1, "1");
+        cache.put(2, "2");
+        cache.get(1);
+        cache.put(3, "3");
+        assertEquals("1", cache.get(1));
+        assertNull(cache.get(2));
+        assertEquals("3", cache.get(3));
+    }
+
+    @Test
+    public void testPutKeepsExisting() {
+        final UCUMCache<String, String> cache = new UCUMCache<>(2);
+        assertEquals("a", cache.put("k", "a"));
+        assertEquals("a", cache.put("k", "b"));
+        assertEquals(1, cache.size());
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNull(cache.get("k"));
+    }
+
+    @Test
+    public void testInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new UCUMCache<String, String>(0));
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        final UCUMCache<Integer, Integer> cache = new UCUMCache<>(64);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10000; i++) {
+                        final Integer key = i % 200;
+                        final Integer value = cache.get(key);
+                        assertTrue(value == null || value.equals(key));
+                        cache.put(key, key);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(cache.size() <= 64);
+        assertEquals(40000, cache.getHitCount() + cache.getMissCount());
+    }
+
+    @Test
+    public void testParseCache() {
+        final UCUMFormat format = UCUMFormat.getInstance(CASE_SENSITIVE, 16);
+        final UCUMCache<String, Unit<?>> cache = format.getParseCache();
+        final Unit<?> first = format.parse("mg/dL");
+        assertSame(first, format.parse("mg/dL"));
+        assertSame(first, format.parse(new StringBuilder(" mg/dL ")));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(UCUM.GRAM.divide(UCUM.LITER), format.parse("g/L"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testFormatCache() throws Exception {
+        final UCUMFormat format = UCUMFormat.getInstance(CASE_SENSITIVE, 16);
+        final UCUMCache<Unit<?>, String> cache = format.getFormatCache();
+        final Unit<?> unit = UCUM.GRAM.multiply(UCUM.METER).divide(UCUM.SECOND.pow(2));
+        final String text = format.format(unit);
+        final long misses = cache.getMissCount();
+        assertEquals(text, format.format(unit));
+        assertEquals(misses, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals("xx" + text, format.format(unit, new StringBuilder("xx")).toString());
+    }
+
+    @Test
+    public void testFormatCacheFactorOrder() throws Exception {
+        final Unit<?> meterSecond = UCUM.METER.multiply(UCUM.SECOND);
+        final Unit<?> secondMeter = UCUM.SECOND.multiply(UCUM.METER);
+        assertEquals(meterSecond, secondMeter);
+        for (UCUMFormat.Variant variant : UCUMFormat.Variant.values()) {
+            final UCUMFormat cached = UCUMFormat.getInstance(variant, 16);
+            final UCUMFormat uncached = UCUMFormat.getInstance(variant, 0);
+            assertEquals(uncached.format(meterSecond), cached.format(meterSecond), variant.name());
+            assertEquals(uncached.format(secondMeter), cached.format(secondMeter), variant.name());
+            assertNotEquals(cached.format(meterSecond), cached.format(secondMeter), variant.name());
+        }
+        assertEquals("m.s", UCUMFormat.getInstance(CASE_SENSITIVE, 16).format(meterSecond));
+    }
+
+    @Test
+    public void testIdentityKeys() {
+        final UCUMCache<String, Integer> cache = new UCUMCache<>(16, true);
+        final String key = "mg";
+        cache.put(key, 1);
+        assertEquals(Integer.valueOf(1), cache.get(key));
+        assertNull(cache.get(new String(key)));
+        assertEquals(Integer.valueOf(2), cache.put(new String(key), 2));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testFormatCacheSameOutput() throws Exception {
+        for (UCUMFormat.Variant variant : UCUMFormat.Variant.values()) {
+            final UCUMFormat cached = UCUMFormat.getInstance(variant, 64);
+            final UCUMFormat uncached = UCUMFormat.getInstance(variant, 0);
+            assertNull(uncached.getFormatCache());
+            for (int round = 0; round < 2; round++) {
+                for (Unit<?> unit : UCUM.getInstance().getUnits()) {
+                    final Unit<?> prefixed = unit.prefix(MetricPrefix.KILO);
+                    assertEquals(uncached.format(unit), cached.format(unit), unit.toString());
+                    assertEquals(uncached.format(prefixed), cached.format(prefixed), prefixed.toString());
+                }
+            }
+            assertTrue(cached.getFormatCache().getHitCount() > 0);
+        }
+    }
+
+    @Test
+    public void testDefaultInstancesCache() {
+        assertNotNull(UCUMFormat.getInstance(CASE_SENSITIVE).getParseCache());
+        assertNotNull(UCUMFormat.getInstance(CASE_INSENSITIVE).getParseCache());
+        assertNull(UCUMFormat.getInstance(PRINT).getParseCache());
+        assertNull(UCUMFormat.getInstance(CASE_SENSITIVE, 0).getParseCache());
+        assertNotNull(UCUMFormat.getInstance(CASE_SENSITIVE).getFormatCache());
+        assertNotNull(UCUMFormat.getInstance(CASE_INSENSITIVE).getFormatCache());
+        assertNotNull(UCUMFormat.getInstance(PRINT).getFormatCache());
+    }
+
+    @Test
+    public void testConverterCache() throws Exception {
+        final UCUMFormat format = UCUMFormat.getInstance(CASE_SENSITIVE);
+        final ConverterCache cache = format.getConverterCache();
+        assertSame(ConverterCache.getDefault(), cache);
+        final CompiledConverter converter = format.getConverter("mg/dL", "g/L");
+        final long hits = cache.getHitCount();
+        assertSame(converter, format.getConverter("mg/dL", "g/L"));
+        assertEquals(hits + 1, cache.getHitCount());
+        assertSame(converter, CompiledConverter.ofAny(format.parse("mg/dL"), UCUM.GRAM.divide(UCUM.LITER)));
+        assertEquals(0.01, converter.applyAsDouble(1), 1e-15);
+        assertTrue(cache.getHitRatio() > 0);
+        assertThrows(IncommensurableException.class, () -> format.getConverter("mg", "m"));
+        assertThrows(MeasurementException.class, () -> format.getConverter("mg", "m("));
+    }
+
+    @Test
+    public void testDimensionSignature() {
+        final UCUMFormat format = UCUMFormat.getInstance(CASE_SENSITIVE, 16);
+        final Unit<?> concentration = format.parse("mg/dL");
+        final long signature = DimensionSignature.of(concentration);
+        assertEquals(DimensionSignature.of(concentration.getDimension()), signature);
+        assertTrue(DimensionSignature.isCommensurable(signature, DimensionSignature.of(format.parse("kg/m3"))));
+        assertTrue(DimensionSignature.isCommensurable(signature, DimensionSignature.of(UCUM.GRAM.divide(UCUM.LITER))));
+        assertFalse(DimensionSignature.isCommensurable(signature, DimensionSignature.of(format.parse("mmol/L"))));
+        assertTrue(DimensionSignature.isCommensurable(format.parse("[ft_i]"), UCUM.METER));
+        assertTrue(DimensionSignature.isCommensurable(format.parse("C"), format.parse("A.s")));
+        assertEquals(DimensionSignature.NONE, DimensionSignature.of(format.parse("rad")));
+    }
+}
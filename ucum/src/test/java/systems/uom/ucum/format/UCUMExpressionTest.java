@@ -0,0 +1,140 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.ucum.format;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static systems.uom.ucum.format.UCUMFormat.Variant.*;
+import static tech.units.indriya.AbstractUnit.ONE;
+
+import javax.measure.MetricPrefix;
+import javax.measure.format.MeasurementParseException;
+
+import org.junit.jupiter.api.Test;
+
+import systems.uom.ucum.UCUM;
+import systems.uom.ucum.UCUMCanonicalForm;
+import systems.uom.ucum.format.UCUMExpression.Kind;
+
+/**
+ * Tests for {@link UCUMFormat#parseExpression(CharSequence)} and {@link UCUMExpression}.
+ */
+public class UCUMExpressionTest {
+
+    private static final UCUMFormat CS = UCUMFormat.getInstance(CASE_SENSITIVE, 0);
+    private static final UCUMFormat CI = UCUMFormat.getInstance(CASE_INSENSITIVE, 0);
+
+    @Test
+    public void testTree() {
+        final UCUMExpression expression = CS.parseExpression("kg.m2/(s3.A)");
+        assertEquals(Kind.QUOTIENT, expression.getKind());
+        final UCUMExpression numerator = expression.getLeft();
+        assertEquals(Kind.PRODUCT, numerator.getKind());
+        final UCUMExpression kilogram = numerator.getLeft();
+        assertEquals(Kind.ATOM, kilogram.getKind());
+        assertEquals(UCUM.GRAM, kilogram.getAtom());
+        assertEquals(MetricPrefix.KILO, kilogram.getPrefix());
+        final UCUMExpression squareMeter = numerator.getRight();
+        assertEquals(Kind.POWER, squareMeter.getKind());
+        assertEquals(2, squareMeter.getExponent());
+        assertEquals(UCUM.METER, squareMeter.getLeft().getAtom());
+        assertNull(squareMeter.getLeft().getPrefix());
+        assertEquals(Kind.PRODUCT, expression.getRight().getKind());
+        assertEquals("kg.m2/(s3.A)", expression.toString());
+    }
+
+    @Test
+    public void testFactorsAndAnnotations() {
+        final UCUMExpression expression = CS.parseExpression("10.mg{total}/dL");
+        final UCUMExpression product = expression.getLeft();
+        assertEquals(Kind.FACTOR, product.getLeft().getKind());
+        assertEquals(10, product.getLeft().getFactor());
+        assertEquals(Kind.ANNOTATION, product.getRight().getKind());
+        assertEquals("total", product.getRight().getAnnotation());
+        assertEquals(Kind.ONE, CS.parseExpression("{rbc}").getLeft().getKind());
+        assertEquals(Kind.ONE, CS.parseExpression("/s").getLeft().getKind());
+        assertEquals(-1, CS.parseExpression("s-1").getExponent());
+        assertEquals(Kind.ONE, CS.parseExpression(" ").getKind());
+    }
+
+    @Test
+    public void testToUnit() {
+        for (String code : new String[] { "kg.m2/(s3.A)", "mg/dL", "10.mg{total}/dL", "/s", "{rbc}/uL", "[in_i]2", "m.(/s)", "" }) {
+            final UCUMExpression expression = CS.parseExpression(code);
+            assertEquals(CS.parse(code), expression.toUnit(), code);
+            assertSame(expression.toUnit(), expression.toUnit(), code);
+        }
+        assertEquals(ONE, CS.parseExpression("").toUnit());
+        assertEquals(CI.parse("MG/DL"), CI.parseExpression("MG/DL").toUnit());
+    }
+
+    @Test
+    public void testToCanonicalForm() {
+        assertEquals(UCUMCanonicalForm.of("mg/dL"), CS.parseExpression("mg.dL-1").toCanonicalForm());
+        assertEquals(CS.canonicalize("kg.m2/(s3.A)"), CS.parseExpression("kg.m2/(s3.A)").toCanonicalForm());
+        assertEquals(UCUMCanonicalForm.of("mg/dL"), CI.parseExpression("MG/DL").toCanonicalForm());
+    }
+
+    @Test
+    public void testEquality() {
+        final UCUMExpression expression = CS.parseExpression("mg/dL");
+        final UCUMExpression same = CS.parseExpression(" mg/(dL)");
+        assertEquals(expression, same);
+        assertEquals(expression.hashCode(), same.hashCode());
+        assertNotEquals(expression, CS.parseExpression("mg.dL-1"));
+        assertNotEquals(expression, CS.parseExpression("mg/L"));
+        assertEquals(CS.parseExpression("mg{a}"), CS.parseExpression("mg{a}"));
+        assertNotEquals(CS.parseExpression("mg{a}"), CS.parseExpression("mg{b}"));
+    }
+
+    @Test
+    public void testRoundTrip() {
+        for (String code : new String[] { "kg.m2/(s3.A)", "m./s", "/s.m", "mg{a}.(L/s)", "{rbc}/uL", "m-0", "1/m" }) {
+            final UCUMExpression expression = CS.parseExpression(code);
+            assertEquals(expression, CS.parseExpression(expression.toString()), code);
+        }
+        assertEquals("MG/DL", CI.parseExpression("mg/dl").toString());
+    }
+
+    @Test
+    public void testErrors() {
+        final MeasurementParseException e = assertThrows(MeasurementParseException.class, () -> CS.parseExpression("m.xyz"));
+        assertEquals(2, e.getPosition());
+        assertThrows(MeasurementParseException.class, () -> CS.parseExpression("m/"));
+        assertThrows(UnsupportedOperationException.class, () -> UCUMFormat.getInstance(PRINT).parseExpression("m"));
+    }
+
+    @Test
+    public void testIsValidWithoutUnit() {
+        for (String code : new String[] { "kg.m2/(s3.A)", "m/", "MIN", "m\\", "xyz", "][", "{rbc}", " ", "m-0" }) {
+            assertEquals(CS.tryParse(code).isValid(), CS.isValid(code), code);
+            assertEquals(CI.tryParse(code).isValid(), CI.isValid(code), code);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.ucum.format;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static systems.uom.ucum.format.UCUMFormat.ParserEngine.JAVACC;
+import static systems.uom.ucum.format.UCUMFormat.Variant.CASE_INSENSITIVE;
+
+import java.text.ParsePosition;
+import java.util.Locale;
+
+import javax.measure.format.UnitFormat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Case insensitive parsing folds ASCII case itself, independently of the default locale.
+ */
+public class UCUMFormatCaseInsensitiveTest extends UCUMFormatTestBase {
+
+    private static final String[] EXPRESSIONS = { "km/s", "mm/s", "uL", "dl", "daHz", "kHz", "mg/dL", "m[Hg]", "[in_i'H2O]", "[pi].rad",
+            "min", "mIn", "g{total}", "mg{Creat}/dL", "/s", "s-1", "bit" };
+
+    @Test
+    public void testSameAsUpperCase() {
+        for (String expression : EXPRESSIONS) {
+            assertEquals(FORMAT_CI.parse(expression.toUpperCase(Locale.ROOT)), FORMAT_CI.parse(expression), expression);
+        }
+    }
+
+    @Test
+    public void testSameAsJavaCC() {
+        final UnitFormat javacc = UCUMFormat.getInstance(CASE_INSENSITIVE, JAVACC);
+        for (String expression : EXPRESSIONS) {
+            assertEquals(javacc.parse(expression), FORMAT_CI.parse(expression), expression);
+        }
+    }
+
+    @Test
+    public void testTurkishLocale() {
+        final Locale locale = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("tr", "TR"));
+            final UnitFormat format = UCUMFormat.getInstance(CASE_INSENSITIVE, 0);
+            assertEquals(FORMAT_CI.parse("MIN"), format.parse("min"));
+            assertEquals(FORMAT_CI.parse("[PI].RAD"), format.parse("[pi].rad"));
+            assertEquals(FORMAT_CI.parse("MIN"), UCUMFormat.getInstance(CASE_INSENSITIVE, JAVACC).parse("min"));
+        } finally {
+            Locale.setDefault(locale);
+        }
+    }
+
+    @Test
+    public void testErrorIndex() {
+        final ParsePosition cursor = new ParsePosition(3);
+        assertThrows(RuntimeException.class, () -> FORMAT_CI.parse("xx m.xyz", cursor));
+        assertEquals(5, cursor.getErrorIndex());
+        assertEquals(4, ((UCUMFormat) FORMAT_CI).tryParse("  m.xyz").getErrorIndex());
+    }
+}
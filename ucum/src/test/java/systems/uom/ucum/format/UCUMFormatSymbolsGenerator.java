@@ -0,0 +1,269 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.ucum.format;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.TreeSet;
+
+import javax.measure.Prefix;
+import javax.measure.Unit;
+
+/**
+ * <p>
+ * Generates {@link UCUMFormatSymbols} from <code>UCUMFormat_CS.properties</code>, <code>UCUMFormat_CI.properties</code> and
+ * <code>UCUMFormat_Print.properties</code>.
+ * </p>
+ *
+ * <p>
+ * Run {@link #main(String[])} from the compiled test classes after changing one of the properties files, {@link UCUMFormatSymbolsTest}
+ * fails as long as the generated source is out of date. A key names a public static field of type {@link Unit} or {@link Prefix}, a key
+ * with a trailing numeric segment (e.g. <code>systems.uom.ucum.UCUM.LITER.1</code>) is an alias for that unit. Entries are registered in
+ * the order of the file.
+ * </p>
+ *
+ * @version 1.0, October 16, 2026
+ */
+public final class UCUMFormatSymbolsGenerator {
+
+    /** The module directory, two levels above <code>target/test-classes</code>. */
+    static final Path BASEDIR = baseDir();
+    static final Path RESOURCES = BASEDIR.resolve("src/main/resources/systems/uom/ucum/format");
+    static final Path SOURCE = BASEDIR.resolve("src/main/java/systems/uom/ucum/format/UCUMFormatSymbols.java");
+    /** The license header is copied from this source. */
+    static final Path HEADER = BASEDIR.resolve("src/main/java/systems/uom/ucum/format/UCUMFormat.java");
+
+    /** Properties file suffix and generated method name of each table. */
+    static final String[][] TABLES = { { "CS", "caseSensitive" }, { "CI", "caseInsensitive" }, { "Print", "print" } };
+
+    private static final int LINE_WIDTH = 140;
+
+    /**
+     * An entry of a properties file.
+     */
+    static final class Entry {
+        final Field field;
+        final boolean alias;
+        final String symbol;
+
+        Entry(Field field, boolean alias, String symbol) {
+            this.field = field;
+            this.alias = alias;
+            this.symbol = symbol;
+        }
+
+        boolean isPrefix() {
+            return Prefix.class.isAssignableFrom(field.getType());
+        }
+
+        Object get() throws IllegalAccessException {
+            return field.get(null);
+        }
+    }
+
+    private UCUMFormatSymbolsGenerator() {
+    }
+
+    private static Path baseDir() {
+        try {
+            return Paths.get(UCUMFormatSymbolsGenerator.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getParent()
+                    .getParent();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Files.write(SOURCE, generate().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads the entries of the given table in the order of its properties file.
+     *
+     * @param table
+     *            the properties file suffix, e.g. <code>CS</code>
+     * @return the entries
+     */
+    static List<Entry> entriesOf(String table) throws IOException, ReflectiveOperationException {
+        final Path file = RESOURCES.resolve("UCUMFormat_" + table + ".properties");
+        final Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.ISO_8859_1)) {
+            properties.load(reader);
+        }
+        final List<Entry> entries = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.ISO_8859_1)) {
+            final String text = line.trim();
+            if (text.isEmpty() || text.startsWith("#") || text.startsWith("!")) {
+                continue;
+            }
+            final String key = text.split("[=:\\s]", 2)[0];
+            String path = key;
+            String name = path.substring(path.lastIndexOf('.') + 1);
+            final boolean alias = Character.isDigit(name.charAt(0));
+            if (alias) {
+                path = path.substring(0, path.lastIndexOf('.'));
+                name = path.substring(path.lastIndexOf('.') + 1);
+            }
+            final Field field = Class.forName(path.substring(0, path.lastIndexOf('.'))).getField(name);
+            if (!Modifier.isStatic(field.getModifiers())
+                    || !(Unit.class.isAssignableFrom(field.getType()) || Prefix.class.isAssignableFrom(field.getType()))) {
+                throw new IllegalArgumentException(key + " in " + file + " is neither a unit nor a prefix");
+            }
+            entries.add(new Entry(field, alias, properties.getProperty(key)));
+        }
+        return entries;
+    }
+
+    /**
+     * @return the source of {@link UCUMFormatSymbols}
+     */
+    static String generate() throws IOException, ReflectiveOperationException {
+        final List<List<Entry>> tables = new ArrayList<>();
+        final TreeSet<String> imports = new TreeSet<>();
+        imports.add("tech.units.indriya.format.SymbolMap");
+        for (String[] table : TABLES) {
+            final List<Entry> entries = entriesOf(table[0]);
+            for (Entry entry : entries) {
+                imports.add(entry.field.getDeclaringClass().getName());
+            }
+            tables.add(entries);
+        }
+        final StringBuilder out = new StringBuilder();
+        for (String line : Files.readAllLines(HEADER, StandardCharsets.UTF_8)) {
+            out.append(line).append('\n');
+            if (line.equals(" */")) {
+                break;
+            }
+        }
+        out.append("package systems.uom.ucum.format;\n\n");
+        out.append("import java.util.Arrays;\n");
+        out.append("import java.util.List;\n");
+        out.append("import java.util.ListResourceBundle;\n\n");
+        String group = "javax.";
+        for (String name : imports) {
+            if (!name.startsWith(group)) {
+                out.append('\n');
+                group = "";
+            }
+            out.append("import ").append(name).append(";\n");
+        }
+        out.append('\n');
+        out.append("/**\n");
+        out.append(" * <p>\n");
+        out.append(" * Symbol tables of {@link UCUMFormat}, generated from <code>UCUMFormat_CS.properties</code>, <code>UCUMFormat_CI.properties</code> and\n");
+        out.append(" * <code>UCUMFormat_Print.properties</code> by <code>UCUMFormatSymbolsGenerator</code>. Do not edit, regenerate instead.\n");
+        out.append(" * </p>\n");
+        out.append(" *\n");
+        out.append(" * <p>\n");
+        out.append(" * Symbols are registered with the units and prefixes directly, in the order of the properties files, so neither a resource bundle is\n");
+        out.append(" * loaded nor a field looked up reflectively. Where two entries label the same unit or use the same symbol, the later one wins.\n");
+        out.append(" * </p>\n");
+        out.append(" */\n");
+        out.append("final class UCUMFormatSymbols {\n\n");
+        out.append("    private UCUMFormatSymbols() {\n");
+        out.append("    }\n");
+        for (int t = 0; t < TABLES.length; t++) {
+            final String method = TABLES[t][1];
+            final String description = "UCUMFormat_" + TABLES[t][0] + ".properties";
+            out.append("\n    /**\n");
+            out.append("     * @return a new symbol map with the entries of <code>").append(description).append("</code>\n");
+            out.append("     */\n");
+            out.append("    static SymbolMap ").append(method).append("() {\n");
+            out.append("        final SymbolMap symbols = empty();\n");
+            for (Entry entry : tables.get(t)) {
+                out.append("        symbols.").append(entry.alias && !entry.isPrefix() ? "alias" : "label").append('(')
+                        .append(entry.field.getDeclaringClass().getSimpleName()).append('.').append(entry.field.getName()).append(", ")
+                        .append(literal(entry.symbol)).append(");\n");
+            }
+            out.append("        return symbols;\n");
+            out.append("    }\n\n");
+            out.append("    /**\n");
+            out.append("     * @return the unit and prefix symbols of <code>").append(description).append("</code>\n");
+            out.append("     */\n");
+            out.append("    static List<String> ").append(method).append("Symbols() {\n");
+            out.append("        return Arrays.asList(");
+            int column = "        return Arrays.asList(".length();
+            final String indent = "                ";
+            final List<Entry> entries = tables.get(t);
+            for (int i = 0; i < entries.size(); i++) {
+                final String item = literal(entries.get(i).symbol) + (i + 1 < entries.size() ? ", " : ");");
+                if (column + item.trim().length() > LINE_WIDTH) {
+                    trimEnd(out);
+                    out.append('\n').append(indent);
+                    column = indent.length();
+                }
+                out.append(item);
+                column += item.length();
+            }
+            out.append("\n    }\n");
+        }
+        out.append("\n    private static SymbolMap empty() {\n");
+        out.append("        return SymbolMap.of(new ListResourceBundle() {\n");
+        out.append("            @Override\n");
+        out.append("            protected Object[][] getContents() {\n");
+        out.append("                return new Object[0][];\n");
+        out.append("            }\n");
+        out.append("        });\n");
+        out.append("    }\n");
+        out.append("}\n");
+        return out.toString();
+    }
+
+    private static void trimEnd(StringBuilder out) {
+        while (out.charAt(out.length() - 1) == ' ') {
+            out.setLength(out.length() - 1);
+        }
+    }
+
+    private static String literal(String value) {
+        final StringBuilder literal = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                literal.append('\\').append(c);
+            } else if (c < 0x20 || c > 0x7e) {
+                literal.append(String.format("\\u%04X", (int) c));
+            } else {
+                literal.append(c);
+            }
+        }
+        return literal.append('"').toString();
+    }
+}
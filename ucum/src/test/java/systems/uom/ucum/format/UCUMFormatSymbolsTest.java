@@ -0,0 +1,111 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.ucum.format;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ResourceBundle;
+
+import javax.measure.Prefix;
+import javax.measure.Unit;
+
+import org.junit.jupiter.api.Test;
+
+import systems.uom.ucum.format.UCUMFormatSymbolsGenerator.Entry;
+import tech.units.indriya.format.SymbolMap;
+
+/**
+ * Checks that {@link UCUMFormatSymbols} is up to date and registers the same symbols as {@link SymbolMap#of(ResourceBundle)} does for
+ * the properties files it is generated from.
+ */
+public class UCUMFormatSymbolsTest {
+
+    @Test
+    public void testUpToDate() throws Exception {
+        final String source = new String(Files.readAllBytes(UCUMFormatSymbolsGenerator.SOURCE), StandardCharsets.UTF_8);
+        assertEquals(UCUMFormatSymbolsGenerator.generate(), source.replace("\r\n", "\n"),
+                "UCUMFormatSymbols.java is out of date, run UCUMFormatSymbolsGenerator");
+    }
+
+    @Test
+    public void testCaseSensitive() throws Exception {
+        assertSameAsResourceBundle("CS", UCUMFormatSymbols.caseSensitive(), UCUMFormatSymbols.caseSensitiveSymbols());
+    }
+
+    @Test
+    public void testCaseInsensitive() throws Exception {
+        assertSameAsResourceBundle("CI", UCUMFormatSymbols.caseInsensitive(), UCUMFormatSymbols.caseInsensitiveSymbols());
+    }
+
+    @Test
+    public void testPrint() throws Exception {
+        assertSameAsResourceBundle("Print", UCUMFormatSymbols.print(), UCUMFormatSymbols.printSymbols());
+    }
+
+    /**
+     * Entries whose unit or symbol is used by another entry too are skipped, the resource bundle registers those in hash order, the
+     * generated table in file order.
+     */
+    private static void assertSameAsResourceBundle(String table, SymbolMap generated, List<String> symbols) throws Exception {
+        final SymbolMap expected = SymbolMap.of(ResourceBundle.getBundle("systems.uom.ucum.format.UCUMFormat_" + table));
+        final List<Entry> entries = UCUMFormatSymbolsGenerator.entriesOf(table);
+        final Map<Object, Integer> labels = new HashMap<>();
+        final Map<String, Integer> unitSymbols = new HashMap<>();
+        for (Entry entry : entries) {
+            if (!entry.isPrefix()) {
+                if (!entry.alias) {
+                    labels.merge(entry.get(), 1, Integer::sum);
+                }
+                unitSymbols.merge(entry.symbol, 1, Integer::sum);
+            }
+        }
+        assertEquals(entries.size(), symbols.size());
+        for (int i = 0; i < entries.size(); i++) {
+            final Entry entry = entries.get(i);
+            assertEquals(entry.symbol, symbols.get(i));
+            final Object value = entry.get();
+            if (entry.isPrefix()) {
+                assertEquals(expected.getSymbol((Prefix) value), generated.getSymbol((Prefix) value), entry.field.toString());
+                continue;
+            }
+            if (unitSymbols.get(entry.symbol) == 1) {
+                assertSame(expected.getUnit(entry.symbol), generated.getUnit(entry.symbol), entry.symbol);
+            }
+            if (!entry.alias && labels.get(value) == 1) {
+                assertEquals(expected.getSymbol((Unit<?>) value), generated.getSymbol((Unit<?>) value), entry.field.toString());
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.ucum.format;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static systems.uom.ucum.format.UCUMFormat.Variant.*;
+import static tech.units.indriya.AbstractUnit.ONE;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import systems.uom.ucum.format.UCUMParseResult.ErrorKind;
+
+/**
+ * Tests for {@link UCUMFormat#parseLines(java.io.Reader, UCUMLineConsumer)} and its overloads.
+ */
+public class UCUMLineParserTest {
+
+    private static final UCUMFormat CS = UCUMFormat.getInstance(CASE_SENSITIVE);
+
+    private static final class Lines implements UCUMLineConsumer {
+        final List<Long> numbers = new ArrayList<>();
+        final List<UCUMParseResult> results = new ArrayList<>();
+
+        @Override
+        public void accept(long lineNumber, UCUMParseResult result) {
+            numbers.add(lineNumber);
+            results.add(result);
+        }
+    }
+
+    @Test
+    public void testReader() throws IOException {
+        final Lines lines = new Lines();
+        CS.parseLines(new StringReader("mg/dL\r\nm/\n\nmg/dL\n xyz"), lines);
+        assertEquals(5, lines.results.size());
+        assertEquals(5L, lines.numbers.get(4).longValue());
+        assertEquals(CS.parse("mg/dL"), lines.results.get(0).getUnit());
+        assertEquals(ErrorKind.SYNTAX, lines.results.get(1).getErrorKind());
+        assertEquals(2, lines.results.get(1).getErrorIndex());
+        assertEquals(ONE, lines.results.get(2).getUnit());
+        assertSame(lines.results.get(0), lines.results.get(3));
+        assertEquals(ErrorKind.UNKNOWN_ATOM, lines.results.get(4).getErrorKind());
+        assertEquals(1, lines.results.get(4).getErrorIndex());
+    }
+
+    @Test
+    public void testChannel() throws IOException {
+        final StringBuilder text = new StringBuilder();
+        final String[] codes = { "kg.m2/(s3.A)", "mmol/L", "[in_i]", "ug" };
+        for (int i = 0; i < 10000; i++) {
+            text.append(codes[i % codes.length]).append('\n');
+        }
+        final Lines lines = new Lines();
+        CS.parseLines(Channels.newChannel(new ByteArrayInputStream(text.toString().getBytes(StandardCharsets.US_ASCII))), lines);
+        assertEquals(10000, lines.results.size());
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(i + 1, lines.numbers.get(i).longValue());
+            assertEquals(CS.parse(codes[i % codes.length]), lines.results.get(i).getUnit(), codes[i % codes.length]);
+        }
+    }
+
+    @Test
+    public void testNonAscii() {
+        final Lines lines = new Lines();
+        CS.parseLines(ByteBuffer.wrap("m\nµm\n".getBytes(StandardCharsets.UTF_8)), lines);
+        assertEquals(2, lines.results.size());
+        assertTrue(lines.results.get(0).isValid());
+        assertEquals(ErrorKind.LEXICAL, lines.results.get(1).getErrorKind());
+    }
+
+    @Test
+    public void testMappedFile(@TempDir Path directory) throws IOException {
+        final Path file = directory.resolve("codes.txt");
+        Files.write(file, "g/L\nmg/dL\ng/L\n".getBytes(StandardCharsets.US_ASCII));
+        final Lines lines = new Lines();
+        try (FileChannel channel = FileChannel.open(file)) {
+            final MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            CS.parseLines(bytes, lines);
+            assertFalse(bytes.hasRemaining());
+        }
+        assertEquals(3, lines.results.size());
+        assertEquals(CS.parse("mg/dL"), lines.results.get(1).getUnit());
+        assertSame(lines.results.get(0), lines.results.get(2));
+    }
+
+    @Test
+    public void testManyDistinctLines() throws IOException {
+        final StringBuilder text = new StringBuilder();
+        for (int i = 1; i <= 10000; i++) {
+            text.append(i).append(".m\n");
+        }
+        final Lines lines = new Lines();
+        CS.parseLines(new StringReader(text.toString()), lines);
+        assertEquals(10000, lines.results.size());
+        assertEquals(CS.parse("10000.m"), lines.results.get(9999).getUnit());
+    }
+
+    @Test
+    public void testExponentTooLarge() throws IOException {
+        final Lines lines = new Lines();
+        CS.parseLines(new StringReader("m\nm10000\ns"), lines);
+        assertEquals(3, lines.results.size());
+        assertTrue(lines.results.get(0).isValid());
+        assertEquals(ErrorKind.SYNTAX, lines.results.get(1).getErrorKind());
+        assertEquals(1, lines.results.get(1).getErrorIndex());
+        assertEquals(CS.parse("s"), lines.results.get(2).getUnit());
+        final Lines javaccLines = new Lines();
+        // the JavaCC engine does not bound the exponent, m10000 may build once the unit algebra is compiled
+        UCUMFormat.getInstance(CASE_SENSITIVE, UCUMFormat.ParserEngine.JAVACC).parseLines(new StringReader("m\nm1000000\ns"), javaccLines);
+        assertEquals(3, javaccLines.results.size());
+        assertEquals(ErrorKind.SYNTAX, javaccLines.results.get(1).getErrorKind());
+        assertTrue(javaccLines.results.get(2).isValid());
+    }
+
+    @Test
+    public void testLineTooLong() throws IOException {
+        final String longest = annotated(UCUMLineParser.MAXIMUM_LINE_LENGTH);
+        final String tooLong = annotated(UCUMLineParser.MAXIMUM_LINE_LENGTH + 1);
+        final Lines lines = new Lines();
+        CS.parseLines(new StringReader(longest + "\r\n" + tooLong + "\nmg\n" + tooLong), lines);
+        assertEquals(4, lines.results.size());
+        assertTrue(lines.results.get(0).isValid());
+        assertEquals(ErrorKind.LEXICAL, lines.results.get(1).getErrorKind());
+        assertEquals(UCUMLineParser.MAXIMUM_LINE_LENGTH, lines.results.get(1).getErrorIndex());
+        assertEquals(CS.parse("mg"), lines.results.get(2).getUnit());
+        assertEquals(4L, lines.numbers.get(3).longValue());
+        assertEquals(ErrorKind.LEXICAL, lines.results.get(3).getErrorKind());
+    }
+
+    @Test
+    public void testStreamWithoutNewline() throws IOException {
+        // 64 MiB in a single line, produced while reading
+        final long size = 64L << 20;
+        final Reader reader = new Reader() {
+            private long read;
+
+            @Override
+            public int read(char[] buffer, int offset, int length) {
+                if (read == size) {
+                    return -1;
+                }
+                final int n = (int) Math.min(length, size - read);
+                Arrays.fill(buffer, offset, offset + n, 'm');
+                read += n;
+                return n;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        final Lines lines = new Lines();
+        CS.parseLines(reader, lines);
+        assertEquals(1, lines.results.size());
+        assertEquals(ErrorKind.LEXICAL, lines.results.get(0).getErrorKind());
+    }
+
+    /**
+     * @return the code <code>m{x...}</code> of the given length
+     */
+    private static String annotated(int length) {
+        final char[] code = new char[length];
+        Arrays.fill(code, 'x');
+        code[0] = 'm';
+        code[1] = '{';
+        code[length - 1] = '}';
+        return new String(code);
+    }
+
+    @Test
+    public void testPrintNotSupported() {
+        assertThrows(UnsupportedOperationException.class,
+                () -> UCUMFormat.getInstance(PRINT).parseLines(new StringReader("m"), (lineNumber, result) -> fail()));
+    }
+}
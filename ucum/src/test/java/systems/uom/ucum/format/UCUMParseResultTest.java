@@ -0,0 +1,239 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.ucum.format;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static systems.uom.ucum.format.UCUMFormat.ParserEngine.JAVACC;
+import static systems.uom.ucum.format.UCUMFormat.Variant.*;
+import static tech.units.indriya.AbstractUnit.ONE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.measure.MeasurementException;
+
+import org.junit.jupiter.api.Test;
+
+import systems.uom.ucum.format.UCUMParseResult.ErrorKind;
+
+/**
+ * Tests for {@link UCUMFormat#tryParse(CharSequence)}, {@link UCUMFormat#isValid(CharSequence)} and {@link UCUMFormat#parseAll(List)}.
+ */
+public class UCUMParseResultTest extends UCUMFormatTestBase {
+
+    private static final UCUMFormat CS = UCUMFormat.getInstance(CASE_SENSITIVE);
+    private static final UCUMFormat CI = UCUMFormat.getInstance(CASE_INSENSITIVE);
+
+    @Test
+    public void testValid() {
+        final UCUMParseResult result = CS.tryParse("km/s");
+        assertTrue(result.isValid());
+        assertEquals(FORMAT_CS.parse("km/s"), result.getUnit());
+        assertNull(result.getErrorKind());
+        assertEquals(-1, result.getErrorIndex());
+        assertTrue(CS.isValid("m[Hg]"));
+        assertTrue(CI.isValid("MM[HG]"));
+        assertTrue(CI.isValid("mm[Hg]"));
+    }
+
+    @Test
+    public void testEmpty() {
+        assertEquals(ONE, CS.tryParse("").getUnit());
+        assertEquals(ONE, CS.tryParse("  ").getUnit());
+    }
+
+    @Test
+    public void testUnknownAtom() {
+        final UCUMParseResult result = CS.tryParse("m.xyz");
+        assertFalse(result.isValid());
+        assertNull(result.getUnit());
+        assertEquals(ErrorKind.UNKNOWN_ATOM, result.getErrorKind());
+        assertEquals(2, result.getErrorIndex());
+        assertFalse(CS.isValid("MIN"));
+    }
+
+    @Test
+    public void testSyntaxError() {
+        final UCUMParseResult result = CS.tryParse("m/");
+        assertEquals(ErrorKind.SYNTAX, result.getErrorKind());
+        assertEquals(2, result.getErrorIndex());
+        assertEquals(ErrorKind.SYNTAX, CS.tryParse("(m").getErrorKind());
+        assertEquals(ErrorKind.SYNTAX, CS.tryParse("m..s").getErrorKind());
+    }
+
+    @Test
+    public void testLexicalError() {
+        final UCUMParseResult result = CS.tryParse(" m\"");
+        assertEquals(ErrorKind.LEXICAL, result.getErrorKind());
+        assertEquals(2, result.getErrorIndex());
+        assertEquals(ErrorKind.LEXICAL, CI.tryParse(" M\"").getErrorKind());
+        assertEquals(2, CI.tryParse(" M\"").getErrorIndex());
+    }
+
+    @Test
+    public void testExponentTooLarge() {
+        final String[] expressions = { "m10000", "m100000", "m-10000", "m.s1000000", "m2147483648" };
+        final int[] errorIndexes = { 1, 1, 2, 3, 1 };
+        for (int i = 0; i < expressions.length; i++) {
+            final UCUMParseResult result = CS.tryParse(expressions[i]);
+            assertEquals(ErrorKind.SYNTAX, result.getErrorKind(), expressions[i]);
+            assertEquals(errorIndexes[i], result.getErrorIndex(), expressions[i]);
+            assertFalse(CS.isValid(expressions[i]), expressions[i]);
+        }
+        assertEquals(ErrorKind.SYNTAX, CI.tryParse("M10000").getErrorKind());
+        assertThrows(MeasurementException.class, () -> FORMAT_CS.parse("m10000"));
+        assertTrue(CS.isValid("m999"));
+        assertTrue(CS.isValid("m-999"));
+        assertFalse(CS.isValid("m1000"));
+    }
+
+    @Test
+    public void testUnitAlgebraFailure() {
+        // the JavaCC parser does not bound the exponent, the unit algebra overflows the stack building the unit, which it
+        // may not do for m10000 once the JIT compiler has shrunk its frames
+        final UCUMFormat javacc = UCUMFormat.getInstance(CASE_SENSITIVE, JAVACC);
+        assertEquals(ErrorKind.SYNTAX, javacc.tryParse("m1000000").getErrorKind());
+        assertEquals(ErrorKind.SYNTAX, javacc.tryParse("m.s1000000").getErrorKind());
+        assertFalse(javacc.isValid("m100000"));
+        assertTrue(javacc.isValid("m999"));
+    }
+
+    @Test
+    public void testSameAsParse() {
+        for (String expression : new String[] { "m", "kg.m2/(s3.A)", "{rbc}", "10*-3", "m/", "MIN", "m\\", "xyz", "][" }) {
+            boolean parsed;
+            try {
+                FORMAT_CS.parse(expression);
+                parsed = true;
+            } catch (RuntimeException | Error e) {
+                parsed = false;
+            }
+            assertEquals(parsed, CS.isValid(expression), expression);
+        }
+    }
+
+    @Test
+    public void testJavaCC() {
+        final UCUMFormat javacc = UCUMFormat.getInstance(CASE_SENSITIVE, JAVACC);
+        assertTrue(javacc.isValid("km/s"));
+        assertFalse(javacc.isValid("m/"));
+        assertEquals(ErrorKind.LEXICAL, javacc.tryParse("m\"").getErrorKind());
+    }
+
+    @Test
+    public void testCachedResult() {
+        final UCUMFormat format = UCUMFormat.getInstance(CASE_SENSITIVE, 16);
+        assertSame(format.tryParse("m/s").getUnit(), format.parse("m/s"));
+        assertFalse(format.isValid("m/"));
+        assertEquals(1, format.getParseCache().size());
+    }
+
+    @Test
+    public void testParseAll() {
+        final UCUMFormat format = UCUMFormat.getInstance(CASE_SENSITIVE, 16);
+        final List<CharSequence> codes = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            codes.add(i % 3 == 0 ? "mg/dL" : i % 3 == 1 ? new StringBuilder("mmol/L") : "m/");
+        }
+        final List<UCUMParseResult> results = format.parseAll(codes);
+        assertEquals(1000, results.size());
+        assertSame(format.parse("mg/dL"), results.get(0).getUnit());
+        assertSame(results.get(0), results.get(999));
+        assertEquals(format.parse("mmol/L"), results.get(1).getUnit());
+        assertSame(results.get(1), results.get(4));
+        assertEquals(ErrorKind.SYNTAX, results.get(2).getErrorKind());
+        assertEquals(2, results.get(2).getErrorIndex());
+        // each distinct code is looked up once
+        assertEquals(3, format.getParseCache().getMissCount());
+        assertThrows(UnsupportedOperationException.class, () -> results.set(0, null));
+    }
+
+    @Test
+    public void testParseAllArray() {
+        final List<UCUMParseResult> results = CI.parseAll("MG", " MG", "xyz", "MG", "");
+        assertEquals(5, results.size());
+        assertEquals(CI.parse("MG"), results.get(0).getUnit());
+        assertEquals(results.get(0).getUnit(), results.get(1).getUnit());
+        assertEquals(ErrorKind.UNKNOWN_ATOM, results.get(2).getErrorKind());
+        assertSame(results.get(0), results.get(3));
+        assertEquals(ONE, results.get(4).getUnit());
+        assertTrue(CS.parseAll().isEmpty());
+    }
+
+    @Test
+    public void testParseAllExponentTooLarge() {
+        final List<UCUMParseResult> results = CS.parseAll(Arrays.asList("m", "m10000", "s"));
+        assertEquals(CS.parse("m"), results.get(0).getUnit());
+        assertEquals(ErrorKind.SYNTAX, results.get(1).getErrorKind());
+        assertEquals(1, results.get(1).getErrorIndex());
+        assertEquals(CS.parse("s"), results.get(2).getUnit());
+        final UCUMFormat javacc = UCUMFormat.getInstance(CASE_SENSITIVE, JAVACC);
+        // an exponent that overflows the stack of the unit algebra even once the JIT compiler has shrunk its frames
+        final List<UCUMParseResult> javaccResults = javacc.parseAll("m", "m1000000", "s");
+        assertTrue(javaccResults.get(0).isValid());
+        assertEquals(ErrorKind.SYNTAX, javaccResults.get(1).getErrorKind());
+        assertTrue(javaccResults.get(2).isValid());
+    }
+
+    @Test
+    public void testParseAllSameAsTryParse() {
+        final List<String> codes = Arrays.asList("m", "kg.m2/(s3.A)", "{rbc}", "10*-3", "m/", "MIN", "m\\", "xyz", "][", " km ", "m", "xyz");
+        final List<UCUMParseResult> results = CS.parseAll(codes);
+        for (int i = 0; i < codes.size(); i++) {
+            final UCUMParseResult expected = CS.tryParse(codes.get(i));
+            assertEquals(expected.getUnit(), results.get(i).getUnit(), codes.get(i));
+            assertEquals(expected.getErrorKind(), results.get(i).getErrorKind(), codes.get(i));
+            assertEquals(expected.getErrorIndex(), results.get(i).getErrorIndex(), codes.get(i));
+        }
+    }
+
+    @Test
+    public void testCodeTable() {
+        final UCUMCodeTable<Integer> table = new UCUMCodeTable<>(0);
+        for (int i = 0; i < 1000; i++) {
+            table.put(new StringBuilder("u").append(i), i);
+        }
+        assertEquals(1000, table.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(Integer.valueOf(i), table.get("u" + i));
+        }
+        assertNull(table.get("u1000"));
+        table.put("u1", -1);
+        assertEquals(Integer.valueOf(-1), table.get(new StringBuilder("u1")));
+        assertEquals(1000, table.size());
+    }
+
+    @Test
+    public void testPrintNotSupported() {
+        assertThrows(UnsupportedOperationException.class, () -> UCUMFormat.getInstance(PRINT).tryParse("m"));
+        assertThrows(UnsupportedOperationException.class, () -> UCUMFormat.getInstance(PRINT).parseAll("m"));
+    }
+}
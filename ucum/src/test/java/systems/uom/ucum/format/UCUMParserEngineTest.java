@@ -0,0 +1,118 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.ucum.format;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static systems.uom.ucum.format.UCUMFormat.ParserEngine.JAVACC;
+import static systems.uom.ucum.format.UCUMFormat.Variant.*;
+
+import java.text.ParsePosition;
+
+import javax.measure.MeasurementException;
+import javax.measure.Unit;
+import javax.measure.format.UnitFormat;
+
+import org.junit.jupiter.api.Test;
+
+import systems.uom.ucum.UCUM;
+import systems.uom.ucum.internal.format.TokenException;
+import systems.uom.ucum.internal.format.TokenMgrError;
+
+/**
+ * Compares the default recursive-descent parser with the JavaCC parser.
+ */
+public class UCUMParserEngineTest extends UCUMFormatTestBase {
+
+    private static final UnitFormat JAVACC_CS = UCUMFormat.getInstance(CASE_SENSITIVE, JAVACC);
+    private static final UnitFormat JAVACC_CI = UCUMFormat.getInstance(CASE_INSENSITIVE, JAVACC);
+
+    private static final String[] EXPRESSIONS = { "m", "km/s", "mm/s", "m/(bar.s)", "m3/s", "kg.m2/(s3.A)", "1/K", "/s", "103/L", "10*3/uL",
+            "10*-3", "mg/dL", "mmol/L", "m[H2O]", "m[Hg]", "[in_i'H2O]", "[in_i'Hg]", "[ft_i]", "[pi].rad", "%", "dB", "Np", "bit", "By",
+            "{rbc}", "{cells}/uL", "g{total}", "mg{creat}/dL", "m2{x}", "s-1", "s+2", "m.s-2", "(m/s)/s", "((m))", "daHz", "GAHz", "osm", "  m/s  ", "[pi]", "[ppth]", "m[iU]/L" };
+
+    private static final String[] INVALID = { "MIN", "m/", "m..s", "(m", "m)", "m s", "m-", "{abc", "xyz", "m2/", "][", "m\\" };
+
+    @Test
+    public void testSameResultAsJavaCC() {
+        for (String expression : EXPRESSIONS) {
+            assertSameOutcome(JAVACC_CS, FORMAT_CS, expression);
+        }
+    }
+
+    @Test
+    public void testSameResultAsJavaCCCaseInsensitive() {
+        for (String expression : EXPRESSIONS) {
+            assertSameOutcome(JAVACC_CI, FORMAT_CI, expression.toUpperCase());
+        }
+    }
+
+    @Test
+    public void testSameResultAsJavaCCForAllUnits() {
+        for (Unit<?> unit : UCUM.getInstance().getUnits()) {
+            final String symbol = FORMAT_CS.format(unit);
+            for (String expression : new String[] { symbol, "1/" + symbol, symbol + "2", "k" + symbol }) {
+                assertSameOutcome(JAVACC_CS, FORMAT_CS, expression);
+            }
+        }
+    }
+
+    @Test
+    public void testInvalid() {
+        for (String expression : INVALID) {
+            final Class<? extends Throwable> expected = assertThrows(Throwable.class, () -> JAVACC_CS.parse(expression), expression).getClass();
+            assertThrows(expected, () -> FORMAT_CS.parse(expression), expression);
+        }
+    }
+
+    private static void assertSameOutcome(UnitFormat expectedFormat, UnitFormat actualFormat, String expression) {
+        final Unit<?> expected;
+        try {
+            expected = expectedFormat.parse(expression);
+        } catch (MeasurementException | TokenMgrError e) {
+            assertThrows(e.getClass(), () -> actualFormat.parse(expression), expression);
+            return;
+        }
+        assertEquals(expected, actualFormat.parse(expression), expression);
+    }
+
+    @Test
+    public void testErrorIndex() {
+        final ParsePosition cursor = new ParsePosition(0);
+        assertThrows(TokenException.class, () -> ((UCUMFormat) FORMAT_CS).parse("m.xyz", cursor));
+        assertEquals(2, cursor.getErrorIndex());
+    }
+
+    @Test
+    public void testParsePosition() {
+        final ParsePosition cursor = new ParsePosition(3);
+        assertEquals(UCUM.METER.divide(UCUM.SECOND), ((UCUMFormat) FORMAT_CS).parse("xx m/s", cursor));
+        assertEquals(6, cursor.getIndex());
+    }
+}
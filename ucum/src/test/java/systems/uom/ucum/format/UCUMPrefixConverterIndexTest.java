@@ -0,0 +1,107 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.ucum.format;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static systems.uom.ucum.format.UCUMFormatHelper.toKnownPrefixConverterIfPossible;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.measure.MetricPrefix;
+import javax.measure.UnitConverter;
+
+import org.junit.jupiter.api.Test;
+
+import tech.units.indriya.function.MultiplyConverter;
+import tech.units.indriya.function.PowerOfIntConverter;
+
+/**
+ * Tests for {@link UCUMFormatHelper#toKnownPrefixConverterIfPossible(UnitConverter)}.
+ */
+public class UCUMPrefixConverterIndexTest {
+
+    @Test
+    public void testMetricPrefixFactors() {
+        for (MetricPrefix prefix : MetricPrefix.values()) {
+            final UnitConverter converter = MultiplyConverter.ofRational(
+                    prefix.getExponent() > 0 ? BigDecimal.TEN.pow(prefix.getExponent()).toBigInteger() : BigInteger.ONE,
+                    prefix.getExponent() < 0 ? BigDecimal.TEN.pow(-prefix.getExponent()).toBigInteger() : BigInteger.ONE);
+            final UnitConverter known = toKnownPrefixConverterIfPossible(converter);
+            if (prefix == MetricPrefix.DECA) {
+                assertSame(converter, known);
+            } else {
+                assertTrue(known instanceof PowerOfIntConverter, prefix.getName());
+                assertEquals(MultiplyConverter.ofExponent(10, prefix.getExponent()), known);
+            }
+        }
+    }
+
+    @Test
+    public void testEquivalentFactors() {
+        final UnitConverter milli = MultiplyConverter.ofExponent(10, -3);
+        assertEquals(milli, toKnownPrefixConverterIfPossible(MultiplyConverter.ofRational(2, 2000)));
+        assertEquals(milli, toKnownPrefixConverterIfPossible(MultiplyConverter.of(0.001)));
+        assertEquals(milli, toKnownPrefixConverterIfPossible(MultiplyConverter.of(new BigDecimal("1E-3"))));
+        assertEquals(MultiplyConverter.ofExponent(10, 24), toKnownPrefixConverterIfPossible(MultiplyConverter.of(1e24)));
+    }
+
+    @Test
+    public void testUnknownFactors() {
+        for (UnitConverter converter : new UnitConverter[] { MultiplyConverter.of(1024), MultiplyConverter.of(-1000),
+                MultiplyConverter.of(1e33), MultiplyConverter.ofRational(3, 1000), MultiplyConverter.ofExponent(2, 10),
+                MultiplyConverter.ofPiExponent(1), MultiplyConverter.identity() }) {
+            assertSame(converter, toKnownPrefixConverterIfPossible(converter), converter.toString());
+        }
+    }
+
+    @Test
+    public void testConcurrentLookups() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<UnitConverter>> results = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                final long factor = (i % 2 == 0) ? 1000 : 1000000;
+                results.add(executor.submit((Callable<UnitConverter>) () -> toKnownPrefixConverterIfPossible(MultiplyConverter.of(factor))));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(MultiplyConverter.ofExponent(10, (i % 2 == 0) ? 3 : 6), results.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
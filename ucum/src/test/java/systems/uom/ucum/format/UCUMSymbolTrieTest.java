@@ -0,0 +1,128 @@
+/*
+ * Units of Measurement Systems
+ * Copyright (c) 2005-2025, Jean-Marie Dautelle, Werner Keil and others.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385, Units of Measurement nor the names of their contributors may be used to
+ *    endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package systems.uom.ucum.format;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ResourceBundle;
+
+import javax.measure.MetricPrefix;
+import javax.measure.Prefix;
+import javax.measure.Unit;
+
+import org.junit.jupiter.api.Test;
+
+import systems.uom.ucum.internal.format.UCUMSymbolTrie;
+import tech.units.indriya.format.SymbolMap;
+import tech.units.indriya.function.MultiplyConverter;
+
+/**
+ * Compares {@link UCUMSymbolTrie} with the lookup in the {@link SymbolMap} it was built for.
+ */
+public class UCUMSymbolTrieTest extends UCUMFormatTestBase {
+
+    @Test
+    public void testSameAsSymbolMapCaseSensitive() {
+        assertSameAsSymbolMap(((UCUMFormat) FORMAT_CS).getSymbols(), "systems.uom.ucum.format.UCUMFormat_CS");
+    }
+
+    @Test
+    public void testSameAsSymbolMapCaseInsensitive() {
+        assertSameAsSymbolMap(((UCUMFormat) FORMAT_CI).getSymbols(), "systems.uom.ucum.format.UCUMFormat_CI");
+    }
+
+    @Test
+    public void testPrefixAndUnit() {
+        final SymbolMap symbols = ((UCUMFormat) FORMAT_CS).getSymbols();
+        final UCUMSymbolTrie trie = UCUMSymbolTrie.of(symbols, symbolsOf("systems.uom.ucum.format.UCUMFormat_CS"));
+        final int km = trie.find("km", 0, 2);
+        assertEquals(MetricPrefix.KILO, trie.getPrefix(km));
+        assertEquals(symbols.getUnit("m"), trie.getUnit(km));
+        final int m = trie.find("m", 0, 1);
+        assertNull(trie.getPrefix(m));
+        assertEquals(symbols.getUnit("m"), trie.getUnit(m));
+        assertEquals(lookup(symbols, "km"), trie.resolve("1/(km)", 3, 5));
+    }
+
+    @Test
+    public void testUnknownAtoms() {
+        final SymbolMap symbols = ((UCUMFormat) FORMAT_CS).getSymbols();
+        final UCUMSymbolTrie trie = UCUMSymbolTrie.of(symbols, symbolsOf("systems.uom.ucum.format.UCUMFormat_CS"));
+        for (String atom : new String[] { "", "xyz", "kxyz", "k", "kk", "m2", "µm", "MIN" }) {
+            assertEquals(-1, trie.find(atom, 0, atom.length()), atom);
+            assertNull(trie.resolve(atom, 0, atom.length()), atom);
+        }
+    }
+
+    private static void assertSameAsSymbolMap(SymbolMap symbols, String bundle) {
+        final List<String> all = symbolsOf(bundle);
+        final UCUMSymbolTrie trie = UCUMSymbolTrie.of(symbols, all);
+        final List<String> prefixes = new ArrayList<>();
+        for (String symbol : all) {
+            if (symbols.getPrefix(symbol) != null) {
+                prefixes.add(symbol);
+            }
+        }
+        for (String symbol : all) {
+            assertEquals(lookup(symbols, symbol), trie.resolve(symbol, 0, symbol.length()), symbol);
+            for (String prefix : prefixes) {
+                final String atom = prefix + symbol;
+                assertEquals(lookup(symbols, atom), trie.resolve(atom, 0, atom.length()), atom);
+            }
+        }
+    }
+
+    /** The lookup of UCUMFormatParser.SimpleUnit(). */
+    private static Unit<?> lookup(SymbolMap symbols, String atom) {
+        final Unit<?> unit = symbols.getUnit(atom);
+        if (unit != null) {
+            return unit;
+        }
+        final Prefix prefix = symbols.getPrefix(atom);
+        if (prefix != null) {
+            final Unit<?> prefixed = symbols.getUnit(atom.substring(symbols.getSymbol(prefix).length()));
+            if (prefixed != null) {
+                return prefixed.transform(MultiplyConverter.ofPrefix(prefix));
+            }
+        }
+        return null;
+    }
+
+    private static List<String> symbolsOf(String bundleName) {
+        final ResourceBundle bundle = ResourceBundle.getBundle(bundleName);
+        final List<String> symbols = new ArrayList<>();
+        for (String key : bundle.keySet()) {
+            symbols.add(bundle.getString(key));
+        }
+        return symbols;
+    }
+}
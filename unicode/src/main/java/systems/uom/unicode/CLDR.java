@@ -35,6 +35,9 @@ import static tech.units.indriya.unit.Units.METRE;
 import static tech.units.indriya.unit.Units.SQUARE_METRE;
 import static tech.units.indriya.AbstractUnit.ONE;
 
+import java.util.Set;
+
+import systems.uom.function.UnitIndex;
 import systems.uom.quantity.Concentration;
 import systems.uom.quantity.Consumption;
 import systems.uom.quantity.Information;
@@ -43,12 +46,14 @@ import systems.uom.quantity.Resolution;
 import tech.units.indriya.*;
 import tech.units.indriya.format.EBNFUnitFormat;
 import tech.units.indriya.format.SimpleUnitFormat;
+import tech.units.indriya.format.UnitStyle;
 import tech.units.indriya.function.MultiplyConverter;
 import tech.units.indriya.unit.AlternateUnit;
 import tech.units.indriya.unit.ProductUnit;
 import tech.units.indriya.unit.TransformedUnit;
 import tech.units.indriya.unit.Units;
 
+import javax.measure.Dimension;
 import javax.measure.Quantity;
 import javax.measure.Unit;
 import javax.measure.quantity.*;
@@ -994,6 +999,39 @@ public final class CLDR extends AbstractSystemOfUnits {
         return "Unicode CLDR";
     }
 
+    /**
+     * Returns the units of the given dimension, looked up in an index of the units of this system.
+     */
+    @Override
+    public Set<? extends Unit<?>> getUnits(Dimension dimension) {
+        return IndexHolder.INDEX.getUnits(dimension);
+    }
+
+    /**
+     * Returns the units of the dimension of the given quantity type, i.e. the units of this system commensurable with
+     * {@link #getUnit(Class)}, or with the SI unit of the quantity type if this system has none.
+     *
+     * @param <Q>
+     *            the compile-time quantity type
+     * @param quantityType
+     *            the quantity type
+     * @return the unmodifiable set of the units of <code>quantityType</code>, empty if there is no unit for it
+     * @since 2.2.1
+     */
+    public <Q extends Quantity<Q>> Set<Unit<Q>> getUnits(Class<Q> quantityType) {
+        return IndexHolder.INDEX.getUnits(quantityType);
+    }
+
+    @Override
+    public Unit<?> getUnit(String string) {
+        return IndexHolder.INDEX.getUnit(string);
+    }
+
+    @Override
+    public Unit<?> getUnit(String string, UnitStyle style, boolean ignoreCase) {
+        return IndexHolder.INDEX.getUnit(string, style, ignoreCase);
+    }
+
     /**
      * Adds a new unit not mapped to any specified quantity type.
      *
@@ -1115,4 +1153,11 @@ public final class CLDR extends AbstractSystemOfUnits {
         SimpleUnitFormat.getInstance().label(PARSEC, "pc");
         SimpleUnitFormat.getInstance().label(SQUARE_FOOT, "sft");
     }
+
+    /**
+     * Holds the index of the units, built on first lookup once the units have all been added.
+     */
+    private static final class IndexHolder {
+        static final UnitIndex INDEX = UnitIndex.of(INSTANCE.units, INSTANCE.quantityToUnit);
+    }
 }
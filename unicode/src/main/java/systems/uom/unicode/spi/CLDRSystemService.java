@@ -30,6 +30,7 @@
 package systems.uom.unicode.spi;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -55,7 +56,7 @@ public class CLDRSystemService implements SystemOfUnitsService, IntPrioritySuppl
     }
 
     public Collection<SystemOfUnits> getAvailableSystemsOfUnits() {
-	return souMap.values();
+	return Collections.unmodifiableCollection(souMap.values());
     }
 
     @Override
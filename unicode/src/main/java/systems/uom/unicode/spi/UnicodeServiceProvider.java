@@ -39,7 +39,7 @@ import tech.units.indriya.spi.AbstractServiceProvider;
  * the JDK {@link java.util.ServiceLoader} to load the services required.
  *
  * @author Werner Keil
- * @version 1.0
+ * @version 1.1
  */
 @Named("Unicode")
 public class UnicodeServiceProvider extends AbstractServiceProvider {
@@ -48,13 +48,20 @@ public class UnicodeServiceProvider extends AbstractServiceProvider {
 		return 500;
 	}
 
+	/**
+	 * @return the shared {@link CLDRSystemService}, created on first use
+	 */
 	@Override
 	public SystemOfUnitsService getSystemOfUnitsService() {
-		return new CLDRSystemService();
+		return SystemOfUnitsServiceHolder.INSTANCE;
 	}
 	
     @Override
     public String toString() {
         return "Unicode";
     }
+
+	private static final class SystemOfUnitsServiceHolder {
+		private static final CLDRSystemService INSTANCE = new CLDRSystemService();
+	}
 }
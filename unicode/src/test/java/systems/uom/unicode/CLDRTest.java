@@ -33,18 +33,26 @@ import static javax.measure.BinaryPrefix.*;
 import static javax.measure.MetricPrefix.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tech.units.indriya.unit.Units.KILOGRAM;
 import static tech.units.indriya.unit.Units.METRE;
 import static systems.uom.unicode.CLDR.*;
 
 import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javax.measure.Quantity;
+import javax.measure.Unit;
 import javax.measure.quantity.Speed;
 
 import org.junit.jupiter.api.Test;
 
+import systems.uom.quantity.Information;
+
 import tech.units.indriya.AbstractUnit;
+import tech.units.indriya.format.UnitStyle;
 import tech.units.indriya.function.RationalNumber;
 import tech.units.indriya.quantity.Quantities;
 import tech.units.indriya.unit.Units;
@@ -87,4 +95,20 @@ public class CLDRTest {
 		assertEquals(CARAT, AbstractUnit.parse("ct"));
 		assertEquals(DECI(METRE), AbstractUnit.parse("dm"));		
 	}
+	
+	@Test
+	public void testIndexedLookups() {
+		final CLDR cldr = CLDR.getInstance();
+		for (Unit<?> unit : cldr.getUnits()) {
+			final Set<Unit<?>> scan = cldr.getUnits().stream()
+					.filter(u -> u.getDimension().equals(unit.getDimension())).collect(Collectors.toSet());
+			assertEquals(scan, new HashSet<>(cldr.getUnits(unit.getDimension())));
+			assertEquals(cldr.getUnits().stream().filter(u -> u.toString().equals(unit.toString())).findFirst().get(),
+					cldr.getUnit(unit.toString()));
+		}
+		assertEquals(KILOMETER, cldr.getUnit("kilometer", UnitStyle.NAME, true));
+		assertNull(cldr.getUnit("kilometer", UnitStyle.NAME, false));
+		assertTrue(cldr.getUnits(Information.class).contains(BYTE));
+		assertEquals(cldr.getUnits(BIT.getDimension()), cldr.getUnits(Information.class));
+	}
 }
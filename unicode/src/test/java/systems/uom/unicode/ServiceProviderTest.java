@@ -31,6 +31,7 @@ package systems.uom.unicode;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static javax.measure.spi.FormatService.FormatType.UNIT_FORMAT;
 
 import java.util.List;
@@ -71,4 +72,10 @@ public class ServiceProviderTest {
 		assertEquals(1, provider.getSystemOfUnitsService().getAvailableSystemsOfUnits().size());
 		assertEquals("Unicode CLDR", provider.getSystemOfUnitsService().getSystemOfUnits().getName());
 	}
+
+	@Test
+	public void testSharedSystemOfUnitsService() {
+		ServiceProvider provider = ServiceProvider.current();
+		assertSame(provider.getSystemOfUnitsService(), provider.getSystemOfUnitsService());
+	}
 }